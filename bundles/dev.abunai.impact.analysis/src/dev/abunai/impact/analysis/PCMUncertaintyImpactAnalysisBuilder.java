@@ -1,8 +1,13 @@
 package dev.abunai.impact.analysis;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 import org.palladiosimulator.dataflow.confidentiality.analysis.builder.AbstractDataFlowAnalysisBuilder;
 import org.palladiosimulator.dataflow.confidentiality.analysis.builder.pcm.PCMAnalysisBuilderData;
 
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+
 public class PCMUncertaintyImpactAnalysisBuilder extends
 		AbstractDataFlowAnalysisBuilder<StandalonePCMUncertaintyImpactAnalysis, PCMUncertaintyImpactAnalysisBuilderData, PCMAnalysisBuilderData> {
 
@@ -10,6 +15,20 @@ public class PCMUncertaintyImpactAnalysisBuilder extends
 		super(new PCMUncertaintyImpactAnalysisBuilderData());
 	}
 
+	public PCMUncertaintyImpactAnalysisBuilder useCacheDirectory(Path cacheDirectory) {
+		this.builderData.setCacheDirectory(cacheDirectory);
+		return this;
+	}
+
+	public PCMUncertaintyImpactAnalysisBuilder useResultCache(Path cacheDirectory, long maxBytes, Duration maxAge) {
+		return this.useResultCache(new ImpactResultCache(cacheDirectory, maxBytes, maxAge));
+	}
+
+	public PCMUncertaintyImpactAnalysisBuilder useResultCache(ImpactResultCache resultCache) {
+		this.builderData.setResultCache(resultCache);
+		return this;
+	}
+
 	@Override
 	public void copyBuilderData(PCMAnalysisBuilderData builderData) {
 		super.builderData.setLegacy(builderData.isLegacy());
@@ -32,7 +51,8 @@ public class PCMUncertaintyImpactAnalysisBuilder extends
 		this.validateBuilderData();
 
 		return new StandalonePCMUncertaintyImpactAnalysis(this.builderData.getModelProjectName(),
-				builderData.getPluginActivator(), builderData.createAnalysisData());
+				builderData.getPluginActivator(), builderData.createAnalysisData(), builderData.getCacheDirectory(),
+				builderData.getResultCache());
 	}
 
 }
@@ -1,9 +1,16 @@
 package dev.abunai.impact.analysis;
 
+import java.nio.file.Path;
+
 import org.palladiosimulator.dataflow.confidentiality.analysis.builder.pcm.PCMAnalysisBuilderData;
 
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+
 public class PCMUncertaintyImpactAnalysisBuilderData extends PCMAnalysisBuilderData {
 
+	private Path cacheDirectory = null;
+	private ImpactResultCache resultCache = null;
+
 	@Override
 	public void validateData() {
 		if (this.isLegacy()) {
@@ -11,4 +18,20 @@ public class PCMUncertaintyImpactAnalysisBuilderData extends PCMAnalysisBuilderD
 		}
 	}
 
+	public Path getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+	public void setCacheDirectory(Path cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	public ImpactResultCache getResultCache() {
+		return this.resultCache;
+	}
+
+	public void setResultCache(ImpactResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
 }
@@ -1,31 +1,65 @@
 package dev.abunai.impact.analysis;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.Plugin;
 import org.palladiosimulator.dataflow.confidentiality.analysis.builder.AnalysisData;
 import org.palladiosimulator.dataflow.confidentiality.analysis.core.AbstractStandalonePCMDataFlowConfidentialityAnalysis;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
 
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.metrics.MemoryFootprint;
 import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
 import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
-import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+import dev.abunai.impact.analysis.util.AnalysisCache;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+import dev.abunai.impact.analysis.util.PropagationIndex;
 
 public class StandalonePCMUncertaintyImpactAnalysis extends AbstractStandalonePCMDataFlowConfidentialityAnalysis {
 
+	private final Logger logger = Logger.getLogger(StandalonePCMUncertaintyImpactAnalysis.class);
 	private final AnalysisData analysisData;
+	private final Optional<Path> cacheDirectory;
+	private final Optional<ImpactResultCache> resultCache;
+	private final AnalysisMetrics metrics = new AnalysisMetrics();
 
-	private List<ActionSequence> actionSequences = null;
-	private PropagationHelper propagationHelper = null;
-	private UncertaintySourceCollection uncertaintySourceCollection = null;
+	private volatile UncertaintyImpactAnalysisCore core = null;
+	private volatile UncertaintySourceCollection uncertaintySourceCollection = null;
+	private volatile PropagationResult propagationResult = null;
+
+	// The result of propagate() for a state of the uncertainty sources
+	private record PropagationResult(UncertaintySourceCollection uncertaintySources, int modificationCount,
+			UncertaintyImpactCollection impacts) {
+	}
 
 	public StandalonePCMUncertaintyImpactAnalysis(String modelProjectName, Class<? extends Plugin> pluginActivator,
 			AnalysisData analysisData) {
+		this(modelProjectName, pluginActivator, analysisData, null);
+	}
+
+	public StandalonePCMUncertaintyImpactAnalysis(String modelProjectName, Class<? extends Plugin> pluginActivator,
+			AnalysisData analysisData, Path cacheDirectory) {
+		this(modelProjectName, pluginActivator, analysisData, cacheDirectory, null);
+	}
+
+	public StandalonePCMUncertaintyImpactAnalysis(String modelProjectName, Class<? extends Plugin> pluginActivator,
+			AnalysisData analysisData, Path cacheDirectory, ImpactResultCache resultCache) {
 		super(analysisData, Logger.getLogger(StandalonePCMUncertaintyImpactAnalysis.class), modelProjectName,
 				pluginActivator);
 
 		this.analysisData = analysisData;
+		this.cacheDirectory = Optional.ofNullable(cacheDirectory);
+		this.resultCache = Optional.ofNullable(resultCache);
 	}
 
 	@Override
@@ -35,22 +69,163 @@ public class StandalonePCMUncertaintyImpactAnalysis extends AbstractStandalonePC
 
 	@Override
 	public boolean initializeAnalysis() {
-		if (super.initializeAnalysis()) {
-			this.actionSequences = super.findAllSequences();
-			this.propagationHelper = new PropagationHelper(this.actionSequences, analysisData.getResourceProvider());
-			this.uncertaintySourceCollection = new UncertaintySourceCollection(this.actionSequences, propagationHelper);
+		boolean initialized;
+
+		try (var recording = this.metrics.record(AnalysisPhase.LOAD_MODELS)) {
+			initialized = super.initializeAnalysis();
+
+			if (initialized) {
+				recording.detail(String.format("%d resources",
+						AnalysisCache.getResourceSet(analysisData.getResourceProvider()).getResources().size()));
+			}
+		}
+
+		if (initialized) {
+			Optional<String> modelHash = this.cacheDirectory.isPresent() || this.resultCache.isPresent()
+					? this.computeModelHash()
+					: Optional.empty();
+			AnalysisCache.Entry entry = this.cacheDirectory
+					.flatMap(it -> modelHash.map(hash -> this.loadOrCreateCacheEntry(new AnalysisCache(it), hash)))
+					.orElseGet(this::createCacheEntry);
+
+			this.core = new UncertaintyImpactAnalysisCore(entry.actionSequences(), analysisData.getResourceProvider(),
+					entry.propagationIndex(), this.metrics, modelHash.flatMap(it -> this.resultCache).orElse(null),
+					modelHash.orElse(null));
+			this.uncertaintySourceCollection = this.core.createUncertaintySourceCollection();
 			return true;
 		} else {
 			return false;
 		}
 	}
 
-	
+	private AnalysisCache.Entry createCacheEntry() {
+		List<ActionSequence> sequences = this.findAllSequences();
+
+		try (var recording = this.metrics.record(AnalysisPhase.BUILD_INDEX)) {
+			var propagationIndex = PropagationIndex.of(sequences);
+			recording.sequences(sequences.size()).elements(AnalysisMetrics.countElements(sequences));
+			return new AnalysisCache.Entry(sequences, propagationIndex);
+		}
+	}
+
+	@Override
+	public List<ActionSequence> findAllSequences() {
+		try (var recording = this.metrics.record(AnalysisPhase.FIND_ALL_SEQUENCES)) {
+			List<ActionSequence> sequences = super.findAllSequences();
+			recording.sequences(sequences.size()).elements(AnalysisMetrics.countElements(sequences));
+			return sequences;
+		}
+	}
+
+	@Override
+	public List<ActionSequence> evaluateDataFlows(List<ActionSequence> sequences) {
+		try (var recording = this.metrics.record(AnalysisPhase.EVALUATE_DATA_FLOWS)) {
+			List<ActionSequence> evaluatedSequences = super.evaluateDataFlows(sequences);
+			recording.sequences(sequences.size()).elements(AnalysisMetrics.countElements(sequences));
+			return evaluatedSequences;
+		}
+	}
+
+	@Override
+	public List<AbstractActionSequenceElement<?>> queryDataFlow(ActionSequence sequence,
+			Predicate<? super AbstractActionSequenceElement<?>> condition) {
+		try (var recording = this.metrics.record(AnalysisPhase.QUERY_DATA_FLOWS)) {
+			var violations = super.queryDataFlow(sequence, condition);
+			recording.sequences(1).elements(sequence.getElements().size()).violations(violations.size());
+			return violations;
+		}
+	}
+
+	private Optional<String> computeModelHash() {
+		try {
+			return Optional.of(AnalysisCache.computeModelHash(analysisData.getResourceProvider()));
+		} catch (IOException e) {
+			logger.warn("Unable to hash the loaded models, the analysis and result caches are not used.", e);
+			return Optional.empty();
+		}
+	}
+
+	private AnalysisCache.Entry loadOrCreateCacheEntry(AnalysisCache cache, String modelHash) {
+		var cachedEntry = cache.load(modelHash, analysisData.getResourceProvider());
+
+		if (cachedEntry.isPresent()) {
+			logger.info(String.format("Reusing cached action sequences of model %s.", modelHash));
+			return cachedEntry.get();
+		}
+
+		AnalysisCache.Entry entry = this.createCacheEntry();
+		cache.store(modelHash, entry);
+		return entry;
+	}
+
+	public AnalysisMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	public MemoryFootprint getMemoryFootprint() {
+		return this.getMemoryFootprint(List.of());
+	}
+
+	public MemoryFootprint getMemoryFootprint(Collection<UncertaintyImpactCollection> impactCollections) {
+		return this.getCore().estimateMemoryFootprint(impactCollections);
+	}
+
+	public Optional<Path> getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+	public Optional<ImpactResultCache> getResultCache() {
+		return this.resultCache;
+	}
+
+	public UncertaintyImpactAnalysisCore getCore() {
+		if (this.core == null) {
+			throw new IllegalStateException("The analysis has to be initialized before accessing its core.");
+		}
+
+		return this.core;
+	}
+
+	public List<ActionSequence> getActionSequences() {
+		return this.core == null ? null : this.core.getActionSequences();
+	}
+
 	public UncertaintySourceCollection getUncertaintySources() {
 		return this.uncertaintySourceCollection;
 	}
 
+	public UncertaintySourceCollection createUncertaintySourceCollection() {
+		return this.getCore().createUncertaintySourceCollection();
+	}
+
+	public void resetUncertaintySources() {
+		this.uncertaintySourceCollection = this.createUncertaintySourceCollection();
+	}
+
+	// Returns the previous result as long as the uncertainty sources are unchanged
 	public UncertaintyImpactCollection propagate() {
-		return this.getUncertaintySources().propagate();
+		var uncertaintySources = this.getUncertaintySources();
+		int modificationCount = uncertaintySources.getModificationCount();
+		var result = this.propagationResult;
+
+		if (result == null || result.uncertaintySources() != uncertaintySources
+				|| result.modificationCount() != modificationCount) {
+			result = new PropagationResult(uncertaintySources, modificationCount, uncertaintySources.propagate());
+			this.propagationResult = result;
+		}
+
+		return result.impacts();
+	}
+
+	public UncertaintyImpactCollection propagateBatched() {
+		return this.getUncertaintySources().propagateBatched();
+	}
+
+	public UncertaintyImpactCollection propagateTransitively() {
+		return this.getUncertaintySources().propagateTransitively();
+	}
+
+	public List<UncertaintySource<?>> findUncertaintySourcesImpacting(AbstractPCMActionSequenceElement<?> target) {
+		return this.getCore().findUncertaintySourcesImpacting(target);
 	}
 }
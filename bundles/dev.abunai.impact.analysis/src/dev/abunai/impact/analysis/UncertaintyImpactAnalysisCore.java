@@ -0,0 +1,118 @@
+package dev.abunai.impact.analysis;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.dataflow.confidentiality.analysis.resource.ResourceProvider;
+
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.MemoryCategory;
+import dev.abunai.impact.analysis.metrics.MemoryFootprint;
+import dev.abunai.impact.analysis.metrics.MemoryFootprint.CategoryFootprint;
+import dev.abunai.impact.analysis.model.ReverseImpactAnalysis;
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+import dev.abunai.impact.analysis.util.AnalysisCache;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.util.PropagationIndex;
+
+/**
+ * Immutable snapshot of a loaded model consisting of its action sequences and
+ * propagation index. The core is thread-safe and can be shared by any number of
+ * concurrent {@link UncertaintySourceCollection}s, which represent the
+ * individual scenarios.
+ */
+public final class UncertaintyImpactAnalysisCore {
+
+	private final List<ActionSequence> actionSequences;
+	private final ResourceProvider resourceProvider;
+	private final PropagationHelper propagationHelper;
+	private final ReverseImpactAnalysis reverseImpactAnalysis;
+	private final AnalysisMetrics metrics;
+	private final ImpactResultCache resultCache;
+	private final String modelHash;
+
+	public UncertaintyImpactAnalysisCore(List<ActionSequence> actionSequences, ResourceProvider resourceProvider,
+			PropagationIndex propagationIndex) {
+		this(actionSequences, resourceProvider, propagationIndex, new AnalysisMetrics());
+	}
+
+	public UncertaintyImpactAnalysisCore(List<ActionSequence> actionSequences, ResourceProvider resourceProvider,
+			PropagationIndex propagationIndex, AnalysisMetrics metrics) {
+		this(actionSequences, resourceProvider, propagationIndex, metrics, null, null);
+	}
+
+	// The result cache may be null, otherwise all source collections created by the
+	// core reuse the results stored for the models with the given hash
+	public UncertaintyImpactAnalysisCore(List<ActionSequence> actionSequences, ResourceProvider resourceProvider,
+			PropagationIndex propagationIndex, AnalysisMetrics metrics, ImpactResultCache resultCache,
+			String modelHash) {
+		Objects.requireNonNull(actionSequences);
+		Objects.requireNonNull(resourceProvider);
+		Objects.requireNonNull(propagationIndex);
+		Objects.requireNonNull(metrics);
+
+		// Resolving all proxies up front ensures that later reads from concurrent
+		// scenarios do not modify the shared models
+		EcoreUtil.resolveAll(AnalysisCache.getResourceSet(resourceProvider));
+
+		this.actionSequences = List.copyOf(actionSequences);
+		this.resourceProvider = resourceProvider;
+		this.propagationHelper = new PropagationHelper(this.actionSequences, resourceProvider, propagationIndex);
+		this.reverseImpactAnalysis = new ReverseImpactAnalysis(this.propagationHelper);
+		this.metrics = metrics;
+		this.resultCache = resultCache;
+		this.modelHash = modelHash;
+	}
+
+	public List<ActionSequence> getActionSequences() {
+		return this.actionSequences;
+	}
+
+	public ResourceProvider getResourceProvider() {
+		return this.resourceProvider;
+	}
+
+	public PropagationHelper getPropagationHelper() {
+		return this.propagationHelper;
+	}
+
+	public PropagationIndex getPropagationIndex() {
+		return this.propagationHelper.getPropagationIndex();
+	}
+
+	public AnalysisMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	public UncertaintySourceCollection createUncertaintySourceCollection() {
+		return new UncertaintySourceCollection(this.actionSequences, this.propagationHelper, this.metrics,
+				this.resultCache, this.modelHash);
+	}
+
+	public List<UncertaintySource<?>> findUncertaintySourcesImpacting(AbstractPCMActionSequenceElement<?> target) {
+		return this.reverseImpactAnalysis.findUncertaintySourcesImpacting(target);
+	}
+
+	public MemoryFootprint estimateMemoryFootprint(Collection<UncertaintyImpactCollection> impactCollections) {
+		Map<MemoryCategory, CategoryFootprint> categories = new EnumMap<>(MemoryCategory.class);
+		categories.put(MemoryCategory.EMF_RESOURCES,
+				MemoryFootprint.estimateResources(AnalysisCache.getResourceSet(this.resourceProvider)));
+		categories.put(MemoryCategory.ACTION_SEQUENCES, MemoryFootprint.estimateActionSequences(this.actionSequences));
+		categories.put(MemoryCategory.CONTEXT_DEQUES, MemoryFootprint.estimateContextDeques(this.actionSequences));
+		categories.put(MemoryCategory.PROPAGATION_INDEX,
+				MemoryFootprint.estimatePropagationIndex(this.getPropagationIndex()));
+		categories.put(MemoryCategory.IMPACT_COLLECTIONS,
+				MemoryFootprint.estimateImpactCollections(impactCollections));
+		return new MemoryFootprint(categories);
+	}
+
+}
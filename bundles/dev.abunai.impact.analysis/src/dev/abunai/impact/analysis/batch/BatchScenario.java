@@ -0,0 +1,26 @@
+package dev.abunai.impact.analysis.batch;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+
+/**
+ * A single scenario of a batch run: The uncertainty sources that are annotated
+ * to the model identified by the model key and the constraint that is used to
+ * query the evaluated data flows for violations.
+ */
+public record BatchScenario(String name, String modelKey, Consumer<UncertaintySourceCollection> uncertaintySources,
+		Predicate<AbstractActionSequenceElement<?>> constraint) {
+
+	public BatchScenario {
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(modelKey);
+		Objects.requireNonNull(uncertaintySources);
+		Objects.requireNonNull(constraint);
+	}
+
+}
@@ -0,0 +1,31 @@
+package dev.abunai.impact.analysis.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+
+/**
+ * Result of a {@link BatchScenario}. Violations are stored per index of the
+ * violating data flow. If the scenario could not be executed, only the failure
+ * is set.
+ */
+public record BatchScenarioReport(BatchScenario scenario, UncertaintyImpactCollection impacts,
+		Map<Integer, List<AbstractActionSequenceElement<?>>> violations, long durationNanos, Throwable failure) {
+
+	public static BatchScenarioReport failed(BatchScenario scenario, Throwable failure) {
+		return new BatchScenarioReport(scenario, null, Map.of(), 0, failure);
+	}
+
+	public boolean isSuccessful() {
+		return this.failure == null;
+	}
+
+	public Optional<Throwable> getFailure() {
+		return Optional.ofNullable(this.failure);
+	}
+
+}
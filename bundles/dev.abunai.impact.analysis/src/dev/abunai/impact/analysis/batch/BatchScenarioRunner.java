@@ -0,0 +1,124 @@
+package dev.abunai.impact.analysis.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+
+/**
+ * Executes many {@link BatchScenario}s concurrently. Every distinct model is
+ * loaded and its data flows are evaluated only once, all scenarios of the model
+ * share the loaded analysis and the evaluated data flows.
+ */
+public class BatchScenarioRunner {
+
+	private final Logger logger = Logger.getLogger(BatchScenarioRunner.class);
+
+	private final Function<String, StandalonePCMUncertaintyImpactAnalysis> modelLoader;
+	private final int parallelism;
+	private final Map<String, CompletableFuture<LoadedModel>> loadedModels = new ConcurrentHashMap<>();
+
+	private record LoadedModel(StandalonePCMUncertaintyImpactAnalysis analysis,
+			List<ActionSequence> evaluatedSequences) {
+	}
+
+	public BatchScenarioRunner(Function<String, StandalonePCMUncertaintyImpactAnalysis> modelLoader) {
+		this(modelLoader, Runtime.getRuntime().availableProcessors());
+	}
+
+	public BatchScenarioRunner(Function<String, StandalonePCMUncertaintyImpactAnalysis> modelLoader,
+			int parallelism) {
+		Objects.requireNonNull(modelLoader);
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("The parallelism of a batch run must be positive.");
+		}
+
+		this.modelLoader = modelLoader;
+		this.parallelism = parallelism;
+	}
+
+	public List<BatchScenarioReport> run(List<BatchScenario> scenarios) {
+		ExecutorService executor = Executors
+				.newFixedThreadPool(Math.min(this.parallelism, Math.max(1, scenarios.size())));
+
+		try {
+			List<CompletableFuture<BatchScenarioReport>> reports = new ArrayList<>();
+
+			for (BatchScenario scenario : scenarios) {
+				reports.add(this.getLoadedModel(scenario.modelKey(), executor)
+						.thenApplyAsync(it -> this.runScenario(scenario, it), executor)
+						.exceptionally(it -> BatchScenarioReport.failed(scenario, unwrap(it))));
+			}
+
+			return reports.stream().map(CompletableFuture::join).toList();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private CompletableFuture<LoadedModel> getLoadedModel(String modelKey, ExecutorService executor) {
+		var loadedModel = this.loadedModels.computeIfAbsent(modelKey,
+				key -> CompletableFuture.supplyAsync(() -> this.loadModel(key), executor));
+
+		// Failed loads are not kept, so that a later run can retry them
+		loadedModel.whenComplete((result, failure) -> {
+			if (failure != null) {
+				this.loadedModels.remove(modelKey, loadedModel);
+			}
+		});
+
+		return loadedModel;
+	}
+
+	private LoadedModel loadModel(String modelKey) {
+		logger.info(String.format("Loading model %s for batch execution.", modelKey));
+		var analysis = this.modelLoader.apply(modelKey);
+
+		if (analysis == null || analysis.getActionSequences() == null) {
+			throw new IllegalStateException(String.format("Model %s could not be loaded.", modelKey));
+		}
+
+		var evaluatedSequences = List.copyOf(analysis.evaluateDataFlows(analysis.getActionSequences()));
+		return new LoadedModel(analysis, evaluatedSequences);
+	}
+
+	private BatchScenarioReport runScenario(BatchScenario scenario, LoadedModel loadedModel) {
+		long start = System.nanoTime();
+
+		var uncertaintySources = loadedModel.analysis().createUncertaintySourceCollection();
+		scenario.uncertaintySources().accept(uncertaintySources);
+		var impacts = uncertaintySources.propagateBatched();
+
+		Map<Integer, List<AbstractActionSequenceElement<?>>> violations = new TreeMap<>();
+		for (int i = 0; i < loadedModel.evaluatedSequences().size(); i++) {
+			List<AbstractActionSequenceElement<?>> violatingElements = new ArrayList<>(loadedModel.analysis()
+					.queryDataFlow(loadedModel.evaluatedSequences().get(i), scenario.constraint()));
+
+			if (!violatingElements.isEmpty()) {
+				violations.put(i, List.copyOf(violatingElements));
+			}
+		}
+
+		return new BatchScenarioReport(scenario, impacts, violations, System.nanoTime() - start, null);
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+				: throwable;
+	}
+
+}
@@ -0,0 +1,38 @@
+package dev.abunai.impact.analysis.constraint;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns dense int IDs to characteristic literal names, so that sets of
+ * literals can be represented as bit masks.
+ */
+public final class CharacteristicInterner {
+
+	public static final int UNKNOWN = -1;
+
+	private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+	private final AtomicInteger nextId = new AtomicInteger();
+
+	public int intern(String literal) {
+		return this.ids.computeIfAbsent(literal, it -> this.nextId.getAndIncrement());
+	}
+
+	public int lookup(String literal) {
+		return this.ids.getOrDefault(literal, UNKNOWN);
+	}
+
+	public int size() {
+		return this.nextId.get();
+	}
+
+	public static long[] set(long[] mask, int id) {
+		int word = id >>> 6;
+		long[] result = word < mask.length ? mask : Arrays.copyOf(mask, word + 1);
+		result[word] |= 1L << id;
+		return result;
+	}
+
+}
@@ -0,0 +1,143 @@
+package dev.abunai.impact.analysis.constraint;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+/**
+ * The data and node characteristics of all elements of a list of evaluated
+ * sequences as bit masks over interned literal IDs. The masks are computed once
+ * per model and can be shared by all constraints compiled against the same
+ * {@link CharacteristicInterner}.
+ */
+public final class CharacteristicMasks {
+
+	// Constraints are sent by clients, so only the most recently used ones are kept
+	public static final int MAX_COMPILED_CONSTRAINTS = 256;
+
+	private static final long[] EMPTY_MASK = new long[0];
+
+	private final CharacteristicInterner interner;
+	private final List<ActionSequence> evaluatedSequences;
+
+	// Indexed by sequence index and element position
+	private final long[][][] dataMasks;
+	private final long[][][] nodeMasks;
+
+	// By canonical key in access order
+	private final Map<String, CompiledConstraint> compiledConstraints = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CompiledConstraint> eldest) {
+			return this.size() > MAX_COMPILED_CONSTRAINTS;
+		}
+	};
+
+	private CharacteristicMasks(CharacteristicInterner interner, List<ActionSequence> evaluatedSequences,
+			long[][][] dataMasks, long[][][] nodeMasks) {
+		this.interner = interner;
+		this.evaluatedSequences = evaluatedSequences;
+		this.dataMasks = dataMasks;
+		this.nodeMasks = nodeMasks;
+	}
+
+	public static CharacteristicMasks of(List<ActionSequence> evaluatedSequences) {
+		var interner = new CharacteristicInterner();
+		var sequences = List.copyOf(evaluatedSequences);
+		long[][][] dataMasks = new long[sequences.size()][][];
+		long[][][] nodeMasks = new long[sequences.size()][][];
+
+		for (int sequenceIndex = 0; sequenceIndex < sequences.size(); sequenceIndex++) {
+			var elements = sequences.get(sequenceIndex).getElements();
+			dataMasks[sequenceIndex] = new long[elements.size()][];
+			nodeMasks[sequenceIndex] = new long[elements.size()][];
+
+			for (int position = 0; position < elements.size(); position++) {
+				dataMasks[sequenceIndex][position] = getDataMask(elements.get(position), interner, true);
+				nodeMasks[sequenceIndex][position] = getNodeMask(elements.get(position), interner, true);
+			}
+		}
+
+		return new CharacteristicMasks(interner, sequences, dataMasks, nodeMasks);
+	}
+
+	public static long[] getDataMask(AbstractActionSequenceElement<?> element, CharacteristicInterner interner,
+			boolean intern) {
+		long[] mask = EMPTY_MASK;
+
+		for (var variable : element.getAllDataFlowVariables()) {
+			for (var characteristic : variable.getAllCharacteristics()) {
+				mask = add(mask, characteristic.characteristicLiteral().getName(), interner, intern);
+			}
+		}
+
+		return mask;
+	}
+
+	public static long[] getNodeMask(AbstractActionSequenceElement<?> element, CharacteristicInterner interner,
+			boolean intern) {
+		long[] mask = EMPTY_MASK;
+
+		for (var characteristic : element.getAllNodeCharacteristics()) {
+			mask = add(mask, characteristic.characteristicLiteral().getName(), interner, intern);
+		}
+
+		return mask;
+	}
+
+	private static long[] add(long[] mask, String literal, CharacteristicInterner interner, boolean intern) {
+		int id = intern ? interner.intern(literal) : interner.lookup(literal);
+
+		if (id == CharacteristicInterner.UNKNOWN) {
+			return mask;
+		}
+
+		// Never modifies the shared empty mask, as it is always grown first
+		return CharacteristicInterner.set(mask, id);
+	}
+
+	// Recently used equivalent constraints are compiled only once per model.
+	// Literals of clients that occur in no element are not interned, so the shared
+	// interner only grows with the model.
+	public CompiledConstraint compile(Constraint constraint) {
+		String key = constraint.getCanonicalKey();
+
+		synchronized (this.compiledConstraints) {
+			var compiledConstraint = this.compiledConstraints.get(key);
+
+			if (compiledConstraint != null) {
+				return compiledConstraint;
+			}
+		}
+
+		// Compiled outside of the lock, concurrent compilations of the same constraint
+		// are equivalent
+		var compiledConstraint = constraint.compile(this.interner, false);
+		synchronized (this.compiledConstraints) {
+			this.compiledConstraints.putIfAbsent(key, compiledConstraint);
+		}
+
+		return compiledConstraint;
+	}
+
+	public CharacteristicInterner getInterner() {
+		return this.interner;
+	}
+
+	public List<ActionSequence> getEvaluatedSequences() {
+		return this.evaluatedSequences;
+	}
+
+	public long[] getDataMask(int sequenceIndex, int position) {
+		return this.dataMasks[sequenceIndex][position];
+	}
+
+	public long[] getNodeMask(int sequenceIndex, int position) {
+		return this.nodeMasks[sequenceIndex][position];
+	}
+
+}
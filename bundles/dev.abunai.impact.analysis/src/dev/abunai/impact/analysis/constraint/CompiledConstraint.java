@@ -0,0 +1,79 @@
+package dev.abunai.impact.analysis.constraint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+
+/**
+ * A {@link Constraint} whose clauses are bit masks over the IDs of a
+ * {@link CharacteristicInterner}. Testing precomputed element masks does not
+ * allocate.
+ */
+public final class CompiledConstraint {
+
+	private final CharacteristicInterner interner;
+	private final long[][] dataClauses;
+	private final long[][] nodeClauses;
+
+	CompiledConstraint(CharacteristicInterner interner, long[][] dataClauses, long[][] nodeClauses) {
+		this.interner = interner;
+		this.dataClauses = dataClauses;
+		this.nodeClauses = nodeClauses;
+	}
+
+	public boolean test(long[] dataMask, long[] nodeMask) {
+		for (int i = 0; i < this.dataClauses.length; i++) {
+			if (containsAll(dataMask, this.dataClauses[i]) && containsAll(nodeMask, this.nodeClauses[i])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public boolean test(CharacteristicMasks masks, int sequenceIndex, int position) {
+		return this.test(masks.getDataMask(sequenceIndex, position), masks.getNodeMask(sequenceIndex, position));
+	}
+
+	public List<AbstractActionSequenceElement<?>> queryDataFlow(CharacteristicMasks masks, int sequenceIndex) {
+		if (masks.getInterner() != this.interner) {
+			throw new IllegalArgumentException("The masks were not computed with the interner of the constraint");
+		}
+
+		var elements = masks.getEvaluatedSequences().get(sequenceIndex).getElements();
+		List<AbstractActionSequenceElement<?>> violations = null;
+
+		for (int position = 0; position < elements.size(); position++) {
+			if (this.test(masks, sequenceIndex, position)) {
+				if (violations == null) {
+					violations = new ArrayList<>();
+				}
+				violations.add(elements.get(position));
+			}
+		}
+
+		return violations == null ? List.of() : violations;
+	}
+
+	// Computes the masks of each tested element, literals unknown to the interner
+	// cannot be part of any clause and are skipped
+	public Predicate<AbstractActionSequenceElement<?>> asPredicate() {
+		return it -> this.test(CharacteristicMasks.getDataMask(it, this.interner, false),
+				CharacteristicMasks.getNodeMask(it, this.interner, false));
+	}
+
+	private static boolean containsAll(long[] mask, long[] required) {
+		for (int word = 0; word < required.length; word++) {
+			long available = word < mask.length ? mask[word] : 0L;
+
+			if ((available & required[word]) != required[word]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+}
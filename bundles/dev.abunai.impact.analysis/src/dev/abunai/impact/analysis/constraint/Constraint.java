@@ -0,0 +1,146 @@
+package dev.abunai.impact.analysis.constraint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * A confidentiality constraint in disjunctive normal form: An element violates
+ * the constraint if it carries all data and node characteristics of at least
+ * one of its clauses.
+ */
+public final class Constraint {
+
+	public record Clause(Set<String> dataLiterals, Set<String> nodeLiterals) {
+
+		public Clause {
+			if (dataLiterals.isEmpty() && nodeLiterals.isEmpty()) {
+				throw new IllegalArgumentException("A clause requires at least one literal");
+			}
+
+			dataLiterals = Set.copyOf(dataLiterals);
+			nodeLiterals = Set.copyOf(nodeLiterals);
+		}
+
+		private String getCanonicalKey() {
+			return "data" + new TreeSet<>(this.dataLiterals) + "node" + new TreeSet<>(this.nodeLiterals);
+		}
+
+	}
+
+	private final List<Clause> clauses;
+
+	// Independent of the order of clauses and literals, equivalent constraints share
+	// the same key
+	private final String canonicalKey;
+
+	private Constraint(List<Clause> clauses) {
+		this.clauses = List.copyOf(clauses);
+		this.canonicalKey = this.clauses.stream().map(Clause::getCanonicalKey).distinct().sorted()
+				.collect(Collectors.joining("|"));
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public List<Clause> getClauses() {
+		return this.clauses;
+	}
+
+	public String getCanonicalKey() {
+		return this.canonicalKey;
+	}
+
+	public boolean isEmpty() {
+		return this.clauses.isEmpty();
+	}
+
+	public CompiledConstraint compile(CharacteristicInterner interner) {
+		return this.compile(interner, true);
+	}
+
+	// Without interning, literals unknown to the interner are carried by no element
+	// of its masks, so clauses containing them can never match and are dropped
+	CompiledConstraint compile(CharacteristicInterner interner, boolean intern) {
+		List<long[]> dataClauses = new ArrayList<>();
+		List<long[]> nodeClauses = new ArrayList<>();
+
+		for (Clause clause : this.clauses) {
+			long[] dataMask = toMask(clause.dataLiterals(), interner, intern);
+			long[] nodeMask = toMask(clause.nodeLiterals(), interner, intern);
+
+			if (dataMask != null && nodeMask != null) {
+				dataClauses.add(dataMask);
+				nodeClauses.add(nodeMask);
+			}
+		}
+
+		return new CompiledConstraint(interner, dataClauses.toArray(long[][]::new),
+				nodeClauses.toArray(long[][]::new));
+	}
+
+	// Returns null if a literal is unknown and must not be interned
+	private static long[] toMask(Set<String> literals, CharacteristicInterner interner, boolean intern) {
+		long[] mask = new long[0];
+
+		for (String literal : literals) {
+			int id = intern ? interner.intern(literal) : interner.lookup(literal);
+
+			if (id == CharacteristicInterner.UNKNOWN) {
+				return null;
+			}
+
+			mask = CharacteristicInterner.set(mask, id);
+		}
+
+		return mask;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Constraint other && this.canonicalKey.equals(other.canonicalKey);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.canonicalKey.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "Constraint " + this.canonicalKey;
+	}
+
+	public static class Builder {
+
+		private final List<Clause> clauses = new ArrayList<>();
+
+		public Builder anyData(String... literals) {
+			for (String literal : literals) {
+				this.clauses.add(new Clause(Set.of(literal), Set.of()));
+			}
+			return this;
+		}
+
+		public Builder anyNode(String... literals) {
+			for (String literal : literals) {
+				this.clauses.add(new Clause(Set.of(), Set.of(literal)));
+			}
+			return this;
+		}
+
+		public Builder allOf(Set<String> dataLiterals, Set<String> nodeLiterals) {
+			this.clauses.add(new Clause(dataLiterals, nodeLiterals));
+			return this;
+		}
+
+		public Constraint build() {
+			return new Constraint(this.clauses);
+		}
+
+	}
+
+}
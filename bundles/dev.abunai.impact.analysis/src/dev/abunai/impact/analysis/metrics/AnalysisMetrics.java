@@ -0,0 +1,117 @@
+package dev.abunai.impact.analysis.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+/**
+ * In-memory timings and counts of the {@link AnalysisPhase}s of an analysis.
+ * Recording is thread-safe, so concurrent scenarios on a shared core record
+ * into the same metrics.
+ */
+public final class AnalysisMetrics {
+
+	/**
+	 * Notified after every recorded execution of an {@link AnalysisPhase}, e.g.,
+	 * to aggregate the phases of several analyses.
+	 */
+	@FunctionalInterface
+	public interface Listener {
+		void phaseCompleted(AnalysisPhase phase, long nanos);
+	}
+
+	public record PhaseStatistics(long executions, long totalNanos, long maxNanos, long sequences, long elements,
+			long sources, long impacts, long violations) {
+
+		public static final PhaseStatistics EMPTY = new PhaseStatistics(0, 0, 0, 0, 0, 0, 0, 0);
+
+		public double getAverageNanos() {
+			return this.executions == 0 ? 0.0 : (double) this.totalNanos / this.executions;
+		}
+
+	}
+
+	public record Snapshot(Map<AnalysisPhase, PhaseStatistics> phases) {
+
+		public Snapshot {
+			phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+		}
+
+		public PhaseStatistics get(AnalysisPhase phase) {
+			return this.phases.getOrDefault(phase, PhaseStatistics.EMPTY);
+		}
+
+	}
+
+	private static final class PhaseCounter {
+		private final LongAdder executions = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final LongAdder sequences = new LongAdder();
+		private final LongAdder elements = new LongAdder();
+		private final LongAdder sources = new LongAdder();
+		private final LongAdder impacts = new LongAdder();
+		private final LongAdder violations = new LongAdder();
+
+		private PhaseStatistics toStatistics() {
+			return new PhaseStatistics(this.executions.sum(), this.totalNanos.sum(), this.maxNanos.get(),
+					this.sequences.sum(), this.elements.sum(), this.sources.sum(), this.impacts.sum(),
+					this.violations.sum());
+		}
+	}
+
+	private final Map<AnalysisPhase, PhaseCounter> counters = new EnumMap<>(AnalysisPhase.class);
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	public AnalysisMetrics() {
+		for (AnalysisPhase phase : AnalysisPhase.values()) {
+			this.counters.put(phase, new PhaseCounter());
+		}
+	}
+
+	public void addListener(Listener listener) {
+		this.listeners.add(listener);
+	}
+
+	public void removeListener(Listener listener) {
+		this.listeners.remove(listener);
+	}
+
+	public PhaseRecording record(AnalysisPhase phase) {
+		return new PhaseRecording(this, phase);
+	}
+
+	void record(AnalysisPhase phase, long nanos, int sequences, long elements, int sources, int impacts,
+			int violations) {
+		var counter = this.counters.get(phase);
+		counter.executions.increment();
+		counter.totalNanos.add(nanos);
+		counter.maxNanos.accumulateAndGet(nanos, Math::max);
+		counter.sequences.add(sequences);
+		counter.elements.add(elements);
+		counter.sources.add(sources);
+		counter.impacts.add(impacts);
+		counter.violations.add(violations);
+
+		for (Listener listener : this.listeners) {
+			listener.phaseCompleted(phase, nanos);
+		}
+	}
+
+	public Snapshot snapshot() {
+		Map<AnalysisPhase, PhaseStatistics> phases = new EnumMap<>(AnalysisPhase.class);
+		this.counters.forEach((phase, counter) -> phases.put(phase, counter.toStatistics()));
+		return new Snapshot(phases);
+	}
+
+	public static long countElements(List<ActionSequence> actionSequences) {
+		return actionSequences.stream().mapToLong(it -> it.getElements().size()).sum();
+	}
+
+}
@@ -0,0 +1,22 @@
+package dev.abunai.impact.analysis.metrics;
+
+public enum AnalysisPhase {
+	LOAD_MODELS("Load Models"),
+	FIND_ALL_SEQUENCES("Find All Sequences"),
+	BUILD_INDEX("Build Index"),
+	PROPAGATE("Propagate"),
+	IMPACT_SET("Impact Set"),
+	EVALUATE_DATA_FLOWS("Evaluate Data Flows"),
+	QUERY_DATA_FLOWS("Query Data Flows");
+
+	private final String label;
+
+	private AnalysisPhase(String label) {
+		this.label = label;
+	}
+
+	public String getLabel() {
+		return this.label;
+	}
+
+}
@@ -0,0 +1,43 @@
+package dev.abunai.impact.analysis.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a single {@link AnalysisPhase}. Events are only
+ * committed if the event is enabled in the running recording, so the
+ * instrumentation is cheap when no recording is active.
+ */
+@Name("dev.abunai.impact.analysis.AnalysisPhase")
+@Label("Analysis Phase")
+@Category({ "Abunai", "Uncertainty Impact Analysis" })
+@Description("A phase of the uncertainty impact analysis pipeline and the number of processed entities")
+@StackTrace(false)
+public class AnalysisPhaseEvent extends Event {
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Detail")
+	String detail;
+
+	@Label("Sequences")
+	int sequences;
+
+	@Label("Elements")
+	long elements;
+
+	@Label("Sources")
+	int sources;
+
+	@Label("Impacts")
+	int impacts;
+
+	@Label("Violations")
+	int violations;
+
+}
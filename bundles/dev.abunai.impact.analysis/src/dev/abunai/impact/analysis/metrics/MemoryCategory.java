@@ -0,0 +1,20 @@
+package dev.abunai.impact.analysis.metrics;
+
+public enum MemoryCategory {
+	EMF_RESOURCES("EMF Resources"),
+	ACTION_SEQUENCES("Action Sequences"),
+	CONTEXT_DEQUES("Context Deques"),
+	PROPAGATION_INDEX("Propagation Index"),
+	IMPACT_COLLECTIONS("Impact Collections");
+
+	private final String label;
+
+	private MemoryCategory(String label) {
+		this.label = label;
+	}
+
+	public String getLabel() {
+		return this.label;
+	}
+
+}
@@ -0,0 +1,278 @@
+package dev.abunai.impact.analysis.metrics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.util.PropagationIndex;
+
+/**
+ * Estimated retained heap of an analysis by {@link MemoryCategory}, computed
+ * from the structures of the analysis instead of a heap dump. The estimates
+ * assume a 64-bit JVM and count every object reachable from several
+ * structures, e.g., model elements referenced by sequences, only once in the
+ * category owning it.
+ */
+public record MemoryFootprint(Map<MemoryCategory, CategoryFootprint> categories) {
+
+	public record CategoryFootprint(long estimatedBytes, Map<String, Long> counts) {
+
+		public static final CategoryFootprint EMPTY = new CategoryFootprint(0, Map.of());
+
+		public CategoryFootprint {
+			counts = Collections.unmodifiableMap(new LinkedHashMap<>(counts));
+		}
+
+		public long getCount(String name) {
+			return this.counts.getOrDefault(name, 0L);
+		}
+
+	}
+
+	private static final long OBJECT_HEADER_BYTES = 16;
+	private static final long REFERENCE_BYTES = 8;
+	private static final long ARRAY_HEADER_BYTES = 16;
+	private static final long STRING_BYTES = 40;
+	private static final long RESOURCE_BYTES = 256;
+	private static final long EOBJECT_BYTES = 64;
+	private static final long LIST_BYTES = 40;
+	private static final long HASH_ENTRY_BYTES = 48;
+	private static final long SET_BYTES = 64;
+	private static final long SEQUENCE_ELEMENT_BYTES = 64;
+	private static final long DATA_FLOW_VARIABLE_BYTES = 48;
+	private static final long CHARACTERISTIC_BYTES = 32;
+	private static final long DEQUE_BYTES = 24;
+	private static final long IMPACT_BYTES = 32;
+
+	public MemoryFootprint {
+		categories = Collections.unmodifiableMap(new EnumMap<>(categories));
+	}
+
+	public CategoryFootprint get(MemoryCategory category) {
+		return this.categories.getOrDefault(category, CategoryFootprint.EMPTY);
+	}
+
+	public long getEstimatedBytes() {
+		return this.categories.values().stream().mapToLong(CategoryFootprint::estimatedBytes).sum();
+	}
+
+	public static CategoryFootprint estimateResources(ResourceSet resourceSet) {
+		long resources = 0;
+		long objects = 0;
+		long references = 0;
+		long strings = 0;
+		long stringCharacters = 0;
+
+		for (Resource resource : List.copyOf(resourceSet.getResources())) {
+			resources++;
+			var contents = resource.getAllContents();
+
+			while (contents.hasNext()) {
+				EObject object = contents.next();
+				objects++;
+
+				for (EStructuralFeature feature : object.eClass().getEAllStructuralFeatures()) {
+					if (feature.isDerived() || !object.eIsSet(feature)) {
+						continue;
+					}
+
+					// Proxies are not resolved, the estimate must not load further resources
+					Object value = object.eGet(feature, false);
+
+					if (feature.isMany() && value instanceof Collection<?> values) {
+						references += values.size();
+					} else if (feature instanceof EAttribute && value instanceof String string) {
+						strings++;
+						stringCharacters += string.length();
+					} else {
+						references++;
+					}
+				}
+			}
+		}
+
+		long estimatedBytes = resources * RESOURCE_BYTES + objects * EOBJECT_BYTES + references * REFERENCE_BYTES
+				+ strings * STRING_BYTES + stringCharacters;
+
+		Map<String, Long> counts = new LinkedHashMap<>();
+		counts.put("resources", resources);
+		counts.put("objects", objects);
+		counts.put("references", references);
+		counts.put("strings", strings);
+		counts.put("stringCharacters", stringCharacters);
+		return new CategoryFootprint(estimatedBytes, counts);
+	}
+
+	public static CategoryFootprint estimateActionSequences(List<ActionSequence> actionSequences) {
+		Set<AbstractActionSequenceElement<?>> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+		long elementReferences = 0;
+		long dataFlowVariables = 0;
+		long characteristics = 0;
+
+		for (ActionSequence sequence : actionSequences) {
+			elementReferences += sequence.getElements().size();
+
+			for (var element : sequence.getElements()) {
+				// Sequences that have not been evaluated yet carry no variables
+				if (!elements.add(element) || !element.isEvaluated()) {
+					continue;
+				}
+
+				for (var variable : element.getAllDataFlowVariables()) {
+					dataFlowVariables++;
+					characteristics += variable.getAllCharacteristics().size();
+				}
+				characteristics += element.getAllNodeCharacteristics().size();
+			}
+		}
+
+		long estimatedBytes = actionSequences.size() * (OBJECT_HEADER_BYTES + LIST_BYTES + ARRAY_HEADER_BYTES)
+				+ elementReferences * REFERENCE_BYTES + elements.size() * SEQUENCE_ELEMENT_BYTES
+				+ dataFlowVariables * (DATA_FLOW_VARIABLE_BYTES + LIST_BYTES)
+				+ characteristics * (CHARACTERISTIC_BYTES + REFERENCE_BYTES);
+
+		Map<String, Long> counts = new LinkedHashMap<>();
+		counts.put("sequences", (long) actionSequences.size());
+		counts.put("elements", (long) elements.size());
+		counts.put("elementReferences", elementReferences);
+		counts.put("dataFlowVariables", dataFlowVariables);
+		counts.put("characteristics", characteristics);
+		return new CategoryFootprint(estimatedBytes, counts);
+	}
+
+	public static CategoryFootprint estimateContextDeques(List<ActionSequence> actionSequences) {
+		Set<Object> deques = Collections.newSetFromMap(new IdentityHashMap<>());
+		long entries = 0;
+
+		for (ActionSequence sequence : actionSequences) {
+			for (var element : sequence.getElements()) {
+				if (element instanceof AbstractPCMActionSequenceElement<?> pcmElement
+						&& pcmElement.getContext() != null && deques.add(pcmElement.getContext())) {
+					entries += pcmElement.getContext().size();
+				}
+			}
+		}
+
+		// Every deque keeps at least one free slot in its backing array
+		long estimatedBytes = deques.size() * (DEQUE_BYTES + ARRAY_HEADER_BYTES + REFERENCE_BYTES)
+				+ entries * REFERENCE_BYTES;
+
+		Map<String, Long> counts = new LinkedHashMap<>();
+		counts.put("deques", (long) deques.size());
+		counts.put("entries", entries);
+		return new CategoryFootprint(estimatedBytes, counts);
+	}
+
+	public static CategoryFootprint estimatePropagationIndex(PropagationIndex propagationIndex) {
+		long ids = propagationIndex.size();
+		long occurrences = propagationIndex.getIndexedIds().stream()
+				.mapToLong(it -> propagationIndex.getOccurrences(it).length).sum();
+
+		// The indexed IDs are the strings of the model elements and counted there
+		long estimatedBytes = ids * (HASH_ENTRY_BYTES + ARRAY_HEADER_BYTES) + occurrences * Long.BYTES;
+
+		Map<String, Long> counts = new LinkedHashMap<>();
+		counts.put("ids", ids);
+		counts.put("occurrences", occurrences);
+		return new CategoryFootprint(estimatedBytes, counts);
+	}
+
+	public static CategoryFootprint estimateImpactCollections(
+			Collection<UncertaintyImpactCollection> impactCollections) {
+		Set<Object> sources = Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<ActionSequence> sections = Collections.newSetFromMap(new IdentityHashMap<>());
+		long impacts = 0;
+		long sequenceReferences = 0;
+		long memoizedLists = 0;
+		long memoizedSets = 0;
+		long listReferences = 0;
+		long setEntries = 0;
+		long sectionReferences = 0;
+
+		for (UncertaintyImpactCollection impactCollection : impactCollections) {
+			impacts += impactCollection.getUncertaintyImpacts().size();
+			sequenceReferences += impactCollection.getActionSequences().size();
+			impactCollection.getUncertaintyImpacts().forEach(it -> sources.add(it.getOrigin()));
+
+			// Derived results are only retained once they have been computed
+			var memoizedResults = impactCollection.getMemoizedResults();
+			for (List<?> list : Arrays.asList(memoizedResults.affectedElements(),
+					memoizedResults.affectedDataFlowSections())) {
+				if (list != null) {
+					memoizedLists++;
+					listReferences += list.size();
+				}
+			}
+
+			for (Set<ActionSequence> set : Arrays.asList(memoizedResults.impactSet(),
+					memoizedResults.distinctImpactSet())) {
+				if (set != null) {
+					memoizedSets++;
+					setEntries += set.size();
+					sections.addAll(set);
+				}
+			}
+
+			if (memoizedResults.affectedDataFlowSections() != null) {
+				sections.addAll(memoizedResults.affectedDataFlowSections());
+			}
+		}
+
+		for (ActionSequence section : sections) {
+			sectionReferences += section.getElements().size();
+		}
+
+		// The affected elements are part of the action sequences, only the impacts themselves are retained.
+		// Sections are new sequences referencing the elements of the action sequences.
+		long estimatedBytes = impactCollections.size() * (OBJECT_HEADER_BYTES + 2 * (LIST_BYTES + ARRAY_HEADER_BYTES))
+				+ (impacts + sequenceReferences) * REFERENCE_BYTES + impacts * IMPACT_BYTES
+				+ sources.size() * IMPACT_BYTES + memoizedLists * (LIST_BYTES + ARRAY_HEADER_BYTES)
+				+ listReferences * REFERENCE_BYTES + memoizedSets * (SET_BYTES + ARRAY_HEADER_BYTES)
+				+ setEntries * (HASH_ENTRY_BYTES + REFERENCE_BYTES)
+				+ sections.size() * (OBJECT_HEADER_BYTES + LIST_BYTES + ARRAY_HEADER_BYTES)
+				+ sectionReferences * REFERENCE_BYTES;
+
+		Map<String, Long> counts = new LinkedHashMap<>();
+		counts.put("collections", (long) impactCollections.size());
+		counts.put("impacts", impacts);
+		counts.put("sources", (long) sources.size());
+		counts.put("sequenceReferences", sequenceReferences);
+		counts.put("memoizedLists", memoizedLists);
+		counts.put("memoizedSets", memoizedSets);
+		counts.put("setEntries", setEntries);
+		counts.put("sections", (long) sections.size());
+		counts.put("sectionReferences", sectionReferences);
+		return new CategoryFootprint(estimatedBytes, counts);
+	}
+
+	@Override
+	public String toString() {
+		var builder = new StringBuilder();
+		builder.append(String.format("Estimated memory footprint: %,d bytes", this.getEstimatedBytes()));
+
+		this.categories.forEach((category, footprint) -> {
+			builder.append(System.lineSeparator());
+			builder.append(String.format("  %s: %,d bytes %s", category.getLabel(), footprint.estimatedBytes(),
+					footprint.counts()));
+		});
+
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,86 @@
+package dev.abunai.impact.analysis.metrics;
+
+/**
+ * Measures one execution of an {@link AnalysisPhase}. The counts are set while
+ * the phase runs, closing the recording commits the flight recorder event and
+ * adds the execution to the {@link AnalysisMetrics}.
+ */
+public final class PhaseRecording implements AutoCloseable {
+
+	private final AnalysisMetrics metrics;
+	private final AnalysisPhase phase;
+	private final AnalysisPhaseEvent event;
+	private final long start;
+
+	private String detail = "";
+	private int sequences = 0;
+	private long elements = 0;
+	private int sources = 0;
+	private int impacts = 0;
+	private int violations = 0;
+	private boolean closed = false;
+
+	PhaseRecording(AnalysisMetrics metrics, AnalysisPhase phase) {
+		this.metrics = metrics;
+		this.phase = phase;
+		this.event = new AnalysisPhaseEvent();
+		this.event.begin();
+		this.start = System.nanoTime();
+	}
+
+	public PhaseRecording detail(String detail) {
+		this.detail = detail;
+		return this;
+	}
+
+	public PhaseRecording sequences(int sequences) {
+		this.sequences = sequences;
+		return this;
+	}
+
+	public PhaseRecording elements(long elements) {
+		this.elements = elements;
+		return this;
+	}
+
+	public PhaseRecording sources(int sources) {
+		this.sources = sources;
+		return this;
+	}
+
+	public PhaseRecording impacts(int impacts) {
+		this.impacts = impacts;
+		return this;
+	}
+
+	public PhaseRecording violations(int violations) {
+		this.violations = violations;
+		return this;
+	}
+
+	@Override
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+
+		this.closed = true;
+		long duration = System.nanoTime() - this.start;
+		this.event.end();
+
+		if (this.event.shouldCommit()) {
+			this.event.phase = this.phase.getLabel();
+			this.event.detail = this.detail;
+			this.event.sequences = this.sequences;
+			this.event.elements = this.elements;
+			this.event.sources = this.sources;
+			this.event.impacts = this.impacts;
+			this.event.violations = this.violations;
+			this.event.commit();
+		}
+
+		this.metrics.record(this.phase, duration, this.sequences, this.elements, this.sources, this.impacts,
+				this.violations);
+	}
+
+}
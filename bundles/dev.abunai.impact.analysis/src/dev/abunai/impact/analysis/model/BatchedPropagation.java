@@ -0,0 +1,111 @@
+package dev.abunai.impact.analysis.model;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+import dev.abunai.impact.analysis.util.PropagationIndex;
+import dev.abunai.impact.analysis.util.PropagationKey;
+import dev.abunai.impact.analysis.util.PropagationKey.Kind;
+
+/**
+ * Propagates several uncertainty sources with a single sweep over the action
+ * sequences. The keys of all sources are registered in one map, every element
+ * derives its keys once and is matched against all sources by lookups. The
+ * impacts are the same as with {@link UncertaintySource#propagate()} and in the
+ * same order.
+ */
+public class BatchedPropagation implements Consumer<PropagationKey> {
+
+	// The elements of one key group of a source, in sequence order
+	private static final class Group {
+		private final List<AbstractPCMActionSequenceElement<?>> elements = new ArrayList<>();
+		private long lastOccurrence = -1;
+	}
+
+	private final Map<PropagationKey, List<Group>> groupsByKey = new HashMap<>();
+	private final Set<Kind> kinds = EnumSet.noneOf(Kind.class);
+	private final List<List<Group>> groupsBySource = new ArrayList<>();
+
+	private AbstractPCMActionSequenceElement<?> currentElement;
+	private long currentOccurrence;
+
+	private BatchedPropagation(List<UncertaintySource<?>> uncertaintySources) {
+		for (UncertaintySource<?> source : uncertaintySources) {
+			List<Group> groups = new ArrayList<>();
+
+			for (Set<PropagationKey> keys : source.getPropagationKeys()) {
+				var group = new Group();
+				groups.add(group);
+
+				for (PropagationKey key : keys) {
+					this.groupsByKey.computeIfAbsent(key, it -> new ArrayList<>()).add(group);
+					this.kinds.add(key.kind());
+				}
+			}
+
+			this.groupsBySource.add(groups);
+		}
+	}
+
+	public static List<UncertaintyImpact<?>> propagate(List<ActionSequence> actionSequences,
+			List<UncertaintySource<?>> uncertaintySources) {
+		var propagation = new BatchedPropagation(uncertaintySources);
+		propagation.sweep(actionSequences);
+
+		List<UncertaintyImpact<?>> allImpacts = new ArrayList<>();
+
+		for (int i = 0; i < uncertaintySources.size(); i++) {
+			List<AbstractPCMActionSequenceElement<?>> affectedElements = new ArrayList<>();
+			propagation.groupsBySource.get(i).forEach(it -> affectedElements.addAll(it.elements));
+			allImpacts.addAll(uncertaintySources.get(i).createImpacts(affectedElements));
+		}
+
+		return allImpacts;
+	}
+
+	private void sweep(List<ActionSequence> actionSequences) {
+		if (this.kinds.isEmpty()) {
+			return;
+		}
+
+		for (int i = 0; i < actionSequences.size(); i++) {
+			var elements = actionSequences.get(i).getElements();
+
+			for (int j = 0; j < elements.size(); j++) {
+				if (elements.get(j) instanceof AbstractPCMActionSequenceElement<?> element) {
+					this.currentElement = element;
+					this.currentOccurrence = PropagationIndex.pack(i, j);
+					PropagationKey.keysOf(element, this.kinds, this);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void accept(PropagationKey key) {
+		var groups = this.groupsByKey.get(key);
+
+		if (groups == null) {
+			return;
+		}
+
+		// An element matching several keys of the same group is reported once
+		for (Group group : groups) {
+			if (group.lastOccurrence != this.currentOccurrence) {
+				group.lastOccurrence = this.currentOccurrence;
+				group.elements.add(this.currentElement);
+			}
+		}
+	}
+
+}
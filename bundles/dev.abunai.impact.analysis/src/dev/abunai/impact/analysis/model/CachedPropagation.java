@@ -0,0 +1,146 @@
+package dev.abunai.impact.analysis.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.PCMActionSequence;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+import dev.abunai.impact.analysis.util.ImpactResultCache.Entry;
+import dev.abunai.impact.analysis.util.ImpactResultCache.Impact;
+import dev.abunai.impact.analysis.util.ImpactResultCache.Section;
+import dev.abunai.impact.analysis.util.PropagationIndex;
+
+/**
+ * Converts between propagation results and {@link ImpactResultCache} entries.
+ * Restoring an entry recreates the impacts of every source from the cached
+ * positions of their affected elements, so no source is propagated, and the
+ * distinct impact set is taken from the entry instead of being recomputed.
+ */
+class CachedPropagation {
+
+	private CachedPropagation() {
+	}
+
+	static String sourceIdOf(UncertaintySource<?> source) {
+		return source.getUncertaintyType() + ":" + source.getArchitecturalElement().getId();
+	}
+
+	static List<String> sourceIdsOf(List<UncertaintySource<?>> sources) {
+		return sources.stream().map(CachedPropagation::sourceIdOf).toList();
+	}
+
+	static Entry toEntry(UncertaintyImpactCollection impactCollection) {
+		var actionSequences = impactCollection.getActionSequences();
+		Map<ActionSequence, Integer> sequenceIndices = new IdentityHashMap<>();
+		for (int i = 0; i < actionSequences.size(); i++) {
+			sequenceIndices.put(actionSequences.get(i), i);
+		}
+
+		List<Impact> impacts = new ArrayList<>();
+		for (UncertaintyImpact<?> impact : impactCollection.getUncertaintyImpacts()) {
+			var affectedElement = impact.getAffectedElement();
+			var affectedDataFlows = impact.getAffectedDataFlows();
+
+			if (affectedDataFlows.isEmpty()) {
+				throw new IllegalStateException("Impacts on elements outside the action sequences cannot be cached.");
+			}
+
+			var dataFlow = affectedDataFlows.get(0);
+			impacts.add(new Impact(sourceIdOf(impact.getOrigin()), PropagationIndex.getElementId(affectedElement),
+					occurrenceOf(sequenceIndices.get(dataFlow), dataFlow.getElements().indexOf(affectedElement))));
+		}
+
+		List<Section> distinctImpactSet = new ArrayList<>();
+		for (ActionSequence section : impactCollection.getImpactSet(true)) {
+			int sequenceIndex = impactCollection.getActionSequenceIndex(section.getElements());
+			int start = sequenceIndex < 0 ? -1
+					: Collections.indexOfSubList(actionSequences.get(sequenceIndex).getElements(),
+							section.getElements());
+			distinctImpactSet.add(new Section(occurrenceOf(sequenceIndex, start), section.getElements().size()));
+		}
+
+		return new Entry(impacts, distinctImpactSet);
+	}
+
+	private static long occurrenceOf(Integer sequenceIndex, int position) {
+		if (sequenceIndex == null || sequenceIndex < 0 || position < 0) {
+			throw new IllegalStateException("Sections outside the action sequences cannot be cached.");
+		}
+
+		return PropagationIndex.pack(sequenceIndex, position);
+	}
+
+	// Returns the impacts in the order of propagate() for the given sources, which
+	// may have been registered in a different order than the cached ones
+	static UncertaintyImpactCollection restore(List<ActionSequence> actionSequences,
+			List<UncertaintySource<?>> sources, Entry entry, AnalysisMetrics metrics) {
+		Map<String, List<AbstractPCMActionSequenceElement<?>>> affectedElements = new HashMap<>();
+		sources.forEach(it -> affectedElements.put(sourceIdOf(it), new ArrayList<>()));
+
+		for (Impact impact : entry.impacts()) {
+			var elements = affectedElements.get(impact.sourceId());
+
+			if (elements == null) {
+				throw new IllegalStateException("Cached impact stems from an unknown source.");
+			}
+
+			var element = elementAt(actionSequences, impact.occurrence());
+
+			if (!(element instanceof AbstractPCMActionSequenceElement<?> pcmElement)
+					|| !impact.elementId().equals(PropagationIndex.getElementId(pcmElement))) {
+				throw new IllegalStateException("Cached impact does not match the action sequences.");
+			}
+
+			elements.add(pcmElement);
+		}
+
+		List<UncertaintyImpact<?>> impacts = new ArrayList<>();
+		for (UncertaintySource<?> source : sources) {
+			impacts.addAll(source.createImpacts(affectedElements.get(sourceIdOf(source))));
+		}
+
+		Set<ActionSequence> distinctImpactSet = new LinkedHashSet<>();
+		for (Section section : entry.distinctImpactSet()) {
+			int start = PropagationIndex.positionOf(section.occurrence());
+			var elements = sequenceAt(actionSequences, section.occurrence()).getElements();
+
+			if (start < 0 || section.length() < 0 || start + section.length() > elements.size()) {
+				throw new IllegalStateException("Cached section does not match the action sequences.");
+			}
+
+			distinctImpactSet
+					.add(new PCMActionSequence(List.copyOf(elements.subList(start, start + section.length()))));
+		}
+
+		return new UncertaintyImpactCollection(actionSequences, impacts, metrics, distinctImpactSet);
+	}
+
+	private static ActionSequence sequenceAt(List<ActionSequence> actionSequences, long occurrence) {
+		int sequenceIndex = PropagationIndex.sequenceIndexOf(occurrence);
+
+		if (sequenceIndex < 0 || sequenceIndex >= actionSequences.size()) {
+			throw new IllegalStateException("Cached position does not match the action sequences.");
+		}
+
+		return actionSequences.get(sequenceIndex);
+	}
+
+	private static Object elementAt(List<ActionSequence> actionSequences, long occurrence) {
+		var elements = sequenceAt(actionSequences, occurrence).getElements();
+		int position = PropagationIndex.positionOf(occurrence);
+		return position >= 0 && position < elements.size() ? elements.get(position) : null;
+	}
+
+}
@@ -0,0 +1,91 @@
+package dev.abunai.impact.analysis.model;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+
+/**
+ * Yields the impacts of several sources in the order of
+ * {@link UncertaintySourceCollection#propagate()}, but propagates a source only
+ * once all impacts of the previous sources have been consumed. Short-circuiting
+ * operations on a stream of this spliterator therefore skip the propagation of
+ * the remaining sources.
+ */
+class ImpactSpliterator implements Spliterator<UncertaintyImpact<?>> {
+
+	private final List<UncertaintySource<?>> uncertaintySources;
+	private final AnalysisMetrics metrics;
+	private int nextSource;
+	private final int endSource;
+	private Iterator<? extends UncertaintyImpact<?>> currentImpacts = Collections.emptyIterator();
+
+	ImpactSpliterator(List<UncertaintySource<?>> uncertaintySources, AnalysisMetrics metrics) {
+		this(uncertaintySources, metrics, 0, uncertaintySources.size());
+	}
+
+	private ImpactSpliterator(List<UncertaintySource<?>> uncertaintySources, AnalysisMetrics metrics, int nextSource,
+			int endSource) {
+		this.uncertaintySources = uncertaintySources;
+		this.metrics = metrics;
+		this.nextSource = nextSource;
+		this.endSource = endSource;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super UncertaintyImpact<?>> action) {
+		while (!this.currentImpacts.hasNext()) {
+			if (this.nextSource >= this.endSource) {
+				return false;
+			}
+
+			this.currentImpacts = this.propagate(this.uncertaintySources.get(this.nextSource++)).iterator();
+		}
+
+		action.accept(this.currentImpacts.next());
+		return true;
+	}
+
+	private List<? extends UncertaintyImpact<?>> propagate(UncertaintySource<?> source) {
+		try (var recording = this.metrics.record(AnalysisPhase.PROPAGATE)) {
+			var impacts = source.propagate();
+			recording.detail(source.getUncertaintyType() + " " + source.getArchitecturalElement().getId()).sources(1)
+					.impacts(impacts.size());
+			return impacts;
+		}
+	}
+
+	// Splits off the first half of the sources that have not been propagated yet
+	@Override
+	public Spliterator<UncertaintyImpact<?>> trySplit() {
+		int remaining = this.endSource - this.nextSource;
+
+		if (this.currentImpacts.hasNext() || remaining < 2) {
+			return null;
+		}
+
+		int splitSource = this.nextSource + remaining / 2;
+		var prefix = new ImpactSpliterator(this.uncertaintySources, this.metrics, this.nextSource, splitSource);
+		this.nextSource = splitSource;
+		return prefix;
+	}
+
+	// The number of impacts is unknown before propagation, so the number of
+	// remaining sources serves as the estimate
+	@Override
+	public long estimateSize() {
+		return this.endSource - this.nextSource + (this.currentImpacts.hasNext() ? 1 : 0);
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL;
+	}
+
+}
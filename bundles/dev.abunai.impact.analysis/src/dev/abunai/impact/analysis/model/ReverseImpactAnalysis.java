@@ -0,0 +1,152 @@
+package dev.abunai.impact.analysis.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.dataflow.confidentiality.analysis.utils.pcm.PCMQueryUtils;
+import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.ProvidedDelegationConnector;
+import org.palladiosimulator.pcm.core.entity.Entity;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.seff.BranchAction;
+import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.seff.SetVariableAction;
+import org.palladiosimulator.pcm.seff.StartAction;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+
+import dev.abunai.impact.analysis.model.source.ActorUncertaintySource;
+import dev.abunai.impact.analysis.model.source.BehaviorUncertaintySource;
+import dev.abunai.impact.analysis.model.source.ComponentUncertaintySource;
+import dev.abunai.impact.analysis.model.source.ConnectorUncertaintySource;
+import dev.abunai.impact.analysis.model.source.InterfaceUncertaintySource;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.util.PropagationKey;
+import dev.abunai.impact.analysis.util.PropagationKey.Kind;
+
+/**
+ * Finds the uncertainty sources that impact a given sequence element without
+ * propagating any candidate. The sequences containing the element are
+ * traversed backwards, as a source impacts the element if it marks the element
+ * itself or one of its predecessors. The {@link PropagationKey}s of these
+ * elements are mapped back to the architecture elements they stem from.
+ */
+public class ReverseImpactAnalysis {
+
+	private static final Set<Kind> ALL_KINDS = Collections.unmodifiableSet(EnumSet.allOf(Kind.class));
+
+	private record SourceId(Class<?> type, Object architecturalElement) {
+	}
+
+	private final PropagationHelper propagationHelper;
+
+	// Connectors cannot be derived from a key directly, so the keys of all
+	// connectors are indexed on first use, racy initialization is fine
+	private volatile Map<PropagationKey, List<ConnectorUncertaintySource<?>>> connectorsByKey = null;
+
+	public ReverseImpactAnalysis(PropagationHelper propagationHelper) {
+		this.propagationHelper = propagationHelper;
+	}
+
+	// Returns the sources in the order in which their elements precede the target,
+	// the nearest first
+	public List<UncertaintySource<?>> findUncertaintySourcesImpacting(AbstractPCMActionSequenceElement<?> target) {
+		Set<PropagationKey> keys = new LinkedHashSet<>();
+		Set<Object> visitedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (ActionSequence sequence : this.propagationHelper.findActionSequencesWithElement(target)) {
+			var elements = sequence.getElements();
+
+			for (int i = elements.lastIndexOf(target); i >= 0; i--) {
+				if (elements.get(i) instanceof AbstractPCMActionSequenceElement<?> element
+						&& visitedElements.add(element)) {
+					PropagationKey.keysOf(element, ALL_KINDS, keys::add);
+				}
+			}
+		}
+
+		Map<SourceId, UncertaintySource<?>> sources = new LinkedHashMap<>();
+		keys.forEach(it -> this.addSourcesOf(it, sources));
+		return List.copyOf(sources.values());
+	}
+
+	private void addSourcesOf(PropagationKey key, Map<SourceId, UncertaintySource<?>> sources) {
+		switch (key.kind()) {
+		case ACTION -> {
+			if (isBehavior(key.element())) {
+				add(sources, BehaviorUncertaintySource.class, key.element(),
+						() -> BehaviorUncertaintySource.of((Entity) key.element(), this.propagationHelper));
+			}
+		}
+		case SEFF_IN_CONTEXT -> {
+			for (var container : this.propagationHelper
+					.findResourceContainersHosting((AssemblyContext) key.element())) {
+				add(sources, ActorUncertaintySource.class, container,
+						() -> ActorUncertaintySource.of(container, this.propagationHelper));
+			}
+		}
+		case ENTRY_LEVEL_CALL_OF_SCENARIO -> add(sources, ActorUncertaintySource.class, key.element(),
+				() -> ActorUncertaintySource.of((UsageScenario) key.element(), this.propagationHelper));
+		case START_ACTION_IN_CONTEXT -> add(sources, ComponentUncertaintySource.class, key.element(),
+				() -> new ComponentUncertaintySource((AssemblyContext) key.element(), this.propagationHelper));
+		case START_ACTION_OF_SIGNATURE, ENTRY_LEVEL_CALL_OF_SIGNATURE, EXTERNAL_CALL_OF_SIGNATURE -> add(sources,
+				InterfaceUncertaintySource.class, key.element(),
+				() -> new InterfaceUncertaintySource((OperationSignature) key.element(), this.propagationHelper));
+		case START_ACTION_OF_SIGNATURE_IN_CONTEXT, ENTRY_LEVEL_CALL_OF_SIGNATURE_VIA_ROLE,
+				EXTERNAL_CALL_OF_SIGNATURE_VIA_ROLE -> {
+			for (var connector : this.getConnectorsByKey().getOrDefault(key, List.of())) {
+				var id = new SourceId(ConnectorUncertaintySource.class, connector.getArchitecturalElement());
+				sources.putIfAbsent(id, connector);
+			}
+		}
+		}
+	}
+
+	private static void add(Map<SourceId, UncertaintySource<?>> sources, Class<?> type, Object architecturalElement,
+			Supplier<UncertaintySource<?>> source) {
+		sources.computeIfAbsent(new SourceId(type, architecturalElement), it -> source.get());
+	}
+
+	// Only the actions that can be registered as behavior uncertainties are
+	// reported, i.e., start actions only within branches
+	private static boolean isBehavior(Object action) {
+		if (action instanceof StartAction startAction) {
+			return PCMQueryUtils.findParentOfType(startAction, BranchAction.class, false).isPresent();
+		}
+
+		return action instanceof EntryLevelSystemCall || action instanceof ExternalCallAction
+				|| action instanceof SetVariableAction;
+	}
+
+	private Map<PropagationKey, List<ConnectorUncertaintySource<?>>> getConnectorsByKey() {
+		if (this.connectorsByKey == null) {
+			Map<PropagationKey, List<ConnectorUncertaintySource<?>>> connectorsByKey = new HashMap<>();
+
+			for (var connector : this.propagationHelper.findAllConnectors()) {
+				if (connector instanceof AssemblyConnector || connector instanceof ProvidedDelegationConnector) {
+					var source = ConnectorUncertaintySource.of(connector, this.propagationHelper);
+					source.getPropagationKeys().forEach(keys -> keys.forEach(key -> connectorsByKey
+							.computeIfAbsent(key, it -> new ArrayList<>()).add(source)));
+				}
+			}
+
+			this.connectorsByKey = connectorsByKey;
+		}
+
+		return this.connectorsByKey;
+	}
+
+}
@@ -0,0 +1,119 @@
+package dev.abunai.impact.analysis.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.pcm.core.entity.Entity;
+
+import dev.abunai.impact.analysis.model.impact.TransitiveUncertaintyImpact;
+import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
+import dev.abunai.impact.analysis.util.CallGraph;
+import dev.abunai.impact.analysis.util.PropagationIndex;
+
+/**
+ * Extends direct impacts to a fixpoint over the {@link CallGraph}. Whenever a
+ * call or return lies within an affected section, the sections following all
+ * occurrences of its receiving element are affected as well. A sequence is
+ * affected from its first marked position on, so the worklist only processes
+ * the elements before the previously marked position and every element is
+ * processed at most once.
+ */
+public class TransitivePropagation {
+
+	private record Entry(long occurrence, UncertaintyImpact<?> directImpact,
+			AbstractPCMActionSequenceElement<?> cause) {
+	}
+
+	private final List<ActionSequence> actionSequences;
+	private final CallGraph callGraph;
+	// The first affected position of every sequence, the sequence size if none is
+	private final int[] firstAffectedPositions;
+	private final Deque<Entry> worklist = new ArrayDeque<>();
+
+	private TransitivePropagation(List<ActionSequence> actionSequences, CallGraph callGraph) {
+		this.actionSequences = actionSequences;
+		this.callGraph = callGraph;
+		this.firstAffectedPositions = actionSequences.stream().mapToInt(it -> it.getElements().size()).toArray();
+	}
+
+	// Returns the direct impacts followed by the transitive impacts in the order in
+	// which they have been found
+	public static List<UncertaintyImpact<?>> propagate(List<ActionSequence> actionSequences, CallGraph callGraph,
+			List<UncertaintyImpact<?>> directImpacts) {
+		var propagation = new TransitivePropagation(actionSequences, callGraph);
+		propagation.seed(directImpacts);
+
+		List<UncertaintyImpact<?>> allImpacts = new ArrayList<>(directImpacts);
+		propagation.run(allImpacts);
+		return allImpacts;
+	}
+
+	private void seed(List<UncertaintyImpact<?>> directImpacts) {
+		Map<ActionSequence, Integer> sequenceIndices = new IdentityHashMap<>();
+		for (int i = 0; i < this.actionSequences.size(); i++) {
+			sequenceIndices.put(this.actionSequences.get(i), i);
+		}
+
+		for (UncertaintyImpact<?> impact : directImpacts) {
+			for (ActionSequence dataFlow : impact.getAffectedDataFlows()) {
+				Integer sequenceIndex = sequenceIndices.get(dataFlow);
+				int position = dataFlow.getElements().indexOf(impact.getAffectedElement());
+
+				if (sequenceIndex != null && position >= 0) {
+					this.worklist.add(new Entry(PropagationIndex.pack(sequenceIndex, position), impact, null));
+				}
+			}
+		}
+	}
+
+	private void run(List<UncertaintyImpact<?>> allImpacts) {
+		while (!this.worklist.isEmpty()) {
+			var entry = this.worklist.poll();
+			int sequenceIndex = PropagationIndex.sequenceIndexOf(entry.occurrence());
+			int position = PropagationIndex.positionOf(entry.occurrence());
+			int end = this.firstAffectedPositions[sequenceIndex];
+
+			if (position >= end) {
+				continue;
+			}
+
+			this.firstAffectedPositions[sequenceIndex] = position;
+			var sequence = this.actionSequences.get(sequenceIndex);
+
+			if (entry.cause() != null) {
+				allImpacts.add(createImpact(entry.directImpact(),
+						(AbstractPCMActionSequenceElement<?>) sequence.getElements().get(position), sequence,
+						entry.cause()));
+			}
+
+			for (int i = position; i < end; i++) {
+				var element = sequence.getElements().get(i);
+
+				if (!CallGraph.isCallOrReturn(element)) {
+					continue;
+				}
+
+				for (long target : this.callGraph.getTargets(PropagationIndex.pack(sequenceIndex, i))) {
+					if (PropagationIndex.positionOf(target) < this.firstAffectedPositions[PropagationIndex
+							.sequenceIndexOf(target)]) {
+						this.worklist.add(new Entry(target, entry.directImpact(),
+								(AbstractPCMActionSequenceElement<?>) element));
+					}
+				}
+			}
+		}
+	}
+
+	private static <T extends Entity> TransitiveUncertaintyImpact<T> createImpact(UncertaintyImpact<T> directImpact,
+			AbstractPCMActionSequenceElement<?> affectedElement, ActionSequence affectedDataFlow,
+			AbstractPCMActionSequenceElement<?> cause) {
+		return new TransitiveUncertaintyImpact<>(affectedElement, affectedDataFlow, cause, directImpact);
+	}
+
+}
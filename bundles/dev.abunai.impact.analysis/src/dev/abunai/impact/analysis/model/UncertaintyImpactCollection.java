@@ -1,87 +1,270 @@
 package dev.abunai.impact.analysis.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
 
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
 import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+import dev.abunai.impact.analysis.output.PlainTextResultSink;
+import dev.abunai.impact.analysis.output.ResultSink;
 
 public class UncertaintyImpactCollection {
 
 	private final List<UncertaintyImpact<?>> uncertaintyImpacts;
 	private final List<ActionSequence> actionSequences;
+	private final AnalysisMetrics metrics;
+
+	// Derived results and the reverse index from the sequences and their elements
+	// to the sources affecting them are computed on first use, racy initialization
+	// is fine as the computations are deterministic
+	private volatile List<AbstractPCMActionSequenceElement<?>> affectedElements = null;
+	private volatile List<ActionSequence> affectedDataFlowSections = null;
+	private volatile Set<ActionSequence> impactSet = null;
+	private volatile Set<ActionSequence> distinctImpactSet = null;
+	private volatile SourceIndex sourceIndex = null;
+
+	// The derived results computed so far, each null until it has been computed
+	public record MemoizedResults(List<AbstractPCMActionSequenceElement<?>> affectedElements,
+			List<ActionSequence> affectedDataFlowSections, Set<ActionSequence> impactSet,
+			Set<ActionSequence> distinctImpactSet) {
+	}
+
+	private record SourceIndex(List<Set<UncertaintySource<?>>> bySequence,
+			Map<AbstractActionSequenceElement<?>, Set<UncertaintySource<?>>> byElement) {
+	}
 
 	public UncertaintyImpactCollection(List<ActionSequence> actionSequences,
 			List<UncertaintyImpact<?>> uncertaintyImpacts) {
-		this.actionSequences = actionSequences;
-		this.uncertaintyImpacts = uncertaintyImpacts;
+		this(actionSequences, uncertaintyImpacts, new AnalysisMetrics());
+	}
+
+	public UncertaintyImpactCollection(List<ActionSequence> actionSequences,
+			List<UncertaintyImpact<?>> uncertaintyImpacts, AnalysisMetrics metrics) {
+		this.actionSequences = List.copyOf(actionSequences);
+		this.uncertaintyImpacts = List.copyOf(uncertaintyImpacts);
+		this.metrics = metrics;
+	}
+
+	// Takes over a known distinct impact set of the impacts, e.g., from a result
+	// cache, instead of computing it on first use
+	public UncertaintyImpactCollection(List<ActionSequence> actionSequences,
+			List<UncertaintyImpact<?>> uncertaintyImpacts, AnalysisMetrics metrics,
+			Set<ActionSequence> distinctImpactSet) {
+		this(actionSequences, uncertaintyImpacts, metrics);
+		this.distinctImpactSet = Collections.unmodifiableSet(new LinkedHashSet<>(distinctImpactSet));
+	}
+
+	// Returns the derived results without computing missing ones, e.g., to
+	// estimate the retained heap
+	public MemoizedResults getMemoizedResults() {
+		return new MemoizedResults(this.affectedElements, this.affectedDataFlowSections, this.impactSet,
+				this.distinctImpactSet);
 	}
 
 	public List<UncertaintyImpact<?>> getUncertaintyImpacts() {
 		return this.uncertaintyImpacts;
 	}
 
+	public List<ActionSequence> getActionSequences() {
+		return this.actionSequences;
+	}
+
+	// Returns the sources with an affected section in the sequence with the given
+	// index within the action sequences
+	public Set<UncertaintySource<?>> getSourcesAffecting(int sequenceIndex) {
+		return this.getSourceIndex().bySequence().get(sequenceIndex);
+	}
+
+	// Returns the sources with an affected section containing the given element
+	public Set<UncertaintySource<?>> getSourcesAffecting(AbstractActionSequenceElement<?> element) {
+		return this.getSourceIndex().byElement().getOrDefault(element, Set.of());
+	}
+
+	private SourceIndex getSourceIndex() {
+		if (this.sourceIndex == null) {
+			Map<ActionSequence, Integer> sequenceIndices = new IdentityHashMap<>();
+			List<Map<UncertaintySource<?>, Integer>> firstAffectedPositions = new ArrayList<>();
+
+			for (int i = 0; i < this.actionSequences.size(); i++) {
+				sequenceIndices.put(this.actionSequences.get(i), i);
+				firstAffectedPositions.add(new LinkedHashMap<>());
+			}
+
+			for (UncertaintyImpact<?> impact : this.uncertaintyImpacts) {
+				for (ActionSequence dataFlow : impact.getAffectedDataFlows()) {
+					Integer sequenceIndex = sequenceIndices.get(dataFlow);
+					int position = dataFlow.getElements().indexOf(impact.getAffectedElement());
+
+					if (sequenceIndex != null && position >= 0) {
+						firstAffectedPositions.get(sequenceIndex).merge(impact.getOrigin(), position, Math::min);
+					}
+				}
+			}
+
+			List<Set<UncertaintySource<?>>> bySequence = new ArrayList<>();
+			Map<AbstractActionSequenceElement<?>, Set<UncertaintySource<?>>> byElement = new IdentityHashMap<>();
+
+			for (int i = 0; i < this.actionSequences.size(); i++) {
+				var elements = this.actionSequences.get(i).getElements();
+				var sources = new LinkedHashSet<>(firstAffectedPositions.get(i).keySet());
+				bySequence.add(Collections.unmodifiableSet(sources));
+
+				firstAffectedPositions.get(i).forEach((source, position) -> {
+					for (int j = position; j < elements.size(); j++) {
+						byElement.computeIfAbsent(elements.get(j), it -> new LinkedHashSet<>()).add(source);
+					}
+				});
+			}
+
+			byElement.replaceAll((element, sources) -> Collections.unmodifiableSet(sources));
+			this.sourceIndex = new SourceIndex(List.copyOf(bySequence), byElement);
+		}
+
+		return this.sourceIndex;
+	}
+
 	public List<AbstractPCMActionSequenceElement<?>> getAllAffectedElementsAfterPropagation() {
-		return uncertaintyImpacts.stream().map(it -> it.getAffectedElement()).collect(Collectors.toList());
+		if (this.affectedElements == null) {
+			this.affectedElements = uncertaintyImpacts.stream().map(it -> it.getAffectedElement())
+					.collect(Collectors.toUnmodifiableList());
+		}
+
+		return this.affectedElements;
 	}
 
 	public List<ActionSequence> getAllAffectedDataFlowSectionsAfterPropagation() {
-		return uncertaintyImpacts.stream().map(it -> it.getAffectedDataFlowSections()).flatMap(Collection::stream)
-				.toList();
+		if (this.affectedDataFlowSections == null) {
+			this.affectedDataFlowSections = uncertaintyImpacts.stream().map(it -> it.getAffectedDataFlowSections())
+					.flatMap(Collection::stream).toList();
+		}
+
+		return this.affectedDataFlowSections;
 	}
 
 	public Set<ActionSequence> getImpactSet(boolean distinct) {
+		var impactSet = distinct ? this.distinctImpactSet : this.impactSet;
+
+		if (impactSet != null) {
+			return impactSet;
+		}
+
+		try (var recording = this.metrics.record(AnalysisPhase.IMPACT_SET)) {
+			if (distinct) {
+				impactSet = Collections.unmodifiableSet(this.computeDistinctImpactSet(this.getAllImpactSet()));
+				this.distinctImpactSet = impactSet;
+			} else {
+				impactSet = this.getAllImpactSet();
+			}
+
+			recording.detail(distinct ? "distinct" : "all").impacts(this.uncertaintyImpacts.size())
+					.sequences(impactSet.size());
+			return impactSet;
+		}
+	}
+
+	private Set<ActionSequence> getAllImpactSet() {
+		if (this.impactSet == null) {
+			this.impactSet = Collections.unmodifiableSet(this.computeImpactSet());
+		}
+
+		return this.impactSet;
+	}
+
+	// Keeps the first section of every distinct list of PCM elements, which takes
+	// linear time in the total length of the sections
+	private Set<ActionSequence> computeImpactSet() {
 		List<ActionSequence> allAffectedSequences = this.getAllAffectedDataFlowSectionsAfterPropagation();
 
-		Set<ActionSequence> impactSet = new HashSet<ActionSequence>();
+		Map<List<Object>, ActionSequence> sectionsByPCMElements = new LinkedHashMap<>();
 		for (ActionSequence actionSequence : allAffectedSequences) {
-			if (impactSet.stream().anyMatch(it -> {
-				var otherNodes = it.getElements().stream().map(AbstractPCMActionSequenceElement.class::cast).toList();
-				var ownNodes = actionSequence.getElements().stream().map(AbstractPCMActionSequenceElement.class::cast)
-						.toList();
+			List<Object> pcmElements = actionSequence.getElements().stream()
+					.map(it -> ((AbstractPCMActionSequenceElement<?>) it).getElement()).toList();
+			sectionsByPCMElements.putIfAbsent(pcmElements, actionSequence);
+		}
 
-				var otherPCMElements = otherNodes.stream().map(AbstractPCMActionSequenceElement::getElement).toList();
-				var ownPCMElements = ownNodes.stream().map(AbstractPCMActionSequenceElement::getElement).toList();
+		return new HashSet<ActionSequence>(sectionsByPCMElements.values());
+	}
 
-				return otherPCMElements.equals(ownPCMElements);
-			})) {
-				continue;
-			} else {
-				impactSet.add(actionSequence);
+	// Keeps the sections that are strictly longer than every other section found
+	// in the same action sequence. The sequence of every section is looked up once
+	// and only among the sequences containing its first element.
+	private Set<ActionSequence> computeDistinctImpactSet(Set<ActionSequence> allImpactSet) {
+		Map<Object, List<Integer>> sequencesByFirstElement = new HashMap<>();
+		for (ActionSequence section : allImpactSet) {
+			if (!section.getElements().isEmpty()) {
+				sequencesByFirstElement.put(section.getElements().get(0), new ArrayList<>());
 			}
 		}
 
-		if (distinct) {
-			Set<ActionSequence> entriesToRemove = new HashSet<ActionSequence>();
-			for (ActionSequence actionSequence : impactSet) {
-				List<ActionSequence> similarDataFlows = impactSet.stream().filter(it -> getActionSequenceIndex(
-						it.getElements()) == getActionSequenceIndex(actionSequence.getElements())).toList();
-
-				for (ActionSequence similarDataFlow : similarDataFlows) {
-					if (similarDataFlow.equals(actionSequence)) {
-						continue;
-					} else if (actionSequence.getElements().size() >= similarDataFlow.getElements().size()) {
-						entriesToRemove.add(similarDataFlow);
-					} else {
-						entriesToRemove.add(actionSequence);
-					}
+		for (int i = 0; i < this.actionSequences.size(); i++) {
+			for (var element : this.actionSequences.get(i).getElements()) {
+				var sequenceIndices = sequencesByFirstElement.get(element);
+
+				if (sequenceIndices != null && (sequenceIndices.isEmpty()
+						|| sequenceIndices.get(sequenceIndices.size() - 1) != i)) {
+					sequenceIndices.add(i);
 				}
 			}
-			impactSet.removeAll(entriesToRemove);
+		}
+
+		Map<Integer, List<ActionSequence>> sectionsBySequence = new HashMap<>();
+		for (ActionSequence section : allImpactSet) {
+			List<Integer> candidates = section.getElements().isEmpty()
+					? IntStream.range(0, this.actionSequences.size()).boxed().toList()
+					: sequencesByFirstElement.get(section.getElements().get(0));
+			sectionsBySequence.computeIfAbsent(this.getActionSequenceIndex(section.getElements(), candidates),
+					it -> new ArrayList<>()).add(section);
+		}
+
+		Set<ActionSequence> impactSet = new HashSet<ActionSequence>();
+		for (List<ActionSequence> sections : sectionsBySequence.values()) {
+			ActionSequence longestSection = null;
+			boolean unique = false;
+
+			for (ActionSequence section : sections) {
+				if (longestSection == null || section.getElements().size() > longestSection.getElements().size()) {
+					longestSection = section;
+					unique = true;
+				} else if (section.getElements().size() == longestSection.getElements().size()) {
+					unique = false;
+				}
+			}
+
+			if (unique) {
+				impactSet.add(longestSection);
+			}
 		}
 
 		return impactSet;
 	}
 
 	public int getActionSequenceIndex(List<AbstractActionSequenceElement<?>> entries) {
-		for (int i = 0; i < this.actionSequences.size(); i++) {
+		return this.getActionSequenceIndex(entries,
+				IntStream.range(0, this.actionSequences.size()).boxed().toList());
+	}
+
+	// Returns the first of the given ascending sequence indices whose sequence
+	// contains the entries
+	private int getActionSequenceIndex(List<AbstractActionSequenceElement<?>> entries,
+			List<Integer> sequenceIndices) {
+		for (int i : sequenceIndices) {
 			var elements = this.actionSequences.get(i).getElements().stream()
 					.map(AbstractPCMActionSequenceElement.class::cast).toList();
 
@@ -94,8 +277,7 @@ public class UncertaintyImpactCollection {
 	}
 
 	public void printResultsWithTitle(String title, boolean newLineAfterEachEntry) {
-		System.out.println("Results of: " + title);
-		this.printResults(false, false, true, newLineAfterEachEntry);
+		this.writeResults(new PlainTextResultSink(System.out, newLineAfterEachEntry), title, false, false, true);
 	}
 
 	public void printResults(boolean newLineAfterEachEntry) {
@@ -104,33 +286,45 @@ public class UncertaintyImpactCollection {
 
 	public void printResults(boolean printDetails, boolean printOverview, boolean printFinalImpactSet,
 			boolean newLineAfterEachEntry) {
+		this.writeResults(new PlainTextResultSink(System.out, newLineAfterEachEntry), null, printDetails,
+				printOverview, printFinalImpactSet);
+	}
+
+	public void writeResults(ResultSink sink, String title, boolean printDetails, boolean printOverview,
+			boolean printFinalImpactSet) {
+		sink.beginResults(title);
+		this.writeSections(sink, printDetails, printOverview, printFinalImpactSet);
+		sink.endResults();
+	}
+
+	public void writeSections(ResultSink sink, boolean printDetails, boolean printOverview,
+			boolean printFinalImpactSet) {
 
 		if (printDetails) {
-			this.getUncertaintyImpacts().forEach(System.out::println);
+			sink.beginSection("Uncertainty impacts", this.uncertaintyImpacts.size());
+			this.getUncertaintyImpacts().forEach(sink::writeElement);
+			sink.endSection();
 		}
 
-		List<AbstractPCMActionSequenceElement<?>> allAffectedElements = this.getAllAffectedElementsAfterPropagation();
-		Set<ActionSequence> impactSet = this.getImpactSet(false);
-		Set<ActionSequence> distinctImpactSet = this.getImpactSet(true);
-
 		if (printOverview) {
-			System.out.printf("\n\nAll affected elements (%d):\n", allAffectedElements.size());
-			allAffectedElements.forEach(System.out::println);
+			List<AbstractPCMActionSequenceElement<?>> allAffectedElements = this
+					.getAllAffectedElementsAfterPropagation();
+			sink.beginSection("All affected elements", allAffectedElements.size());
+			allAffectedElements.forEach(sink::writeElement);
+			sink.endSection();
 
-			System.out.printf("\n\nImpacted data flow sections (%d):\n", impactSet.size());
-			impactSet.stream().map(
-					it -> formatDataFlow(this.getActionSequenceIndex(it.getElements()), it, newLineAfterEachEntry))
-					.forEach(System.out::println);
+			Set<ActionSequence> impactSet = this.getImpactSet(false);
+			sink.beginSection("Impacted data flow sections", impactSet.size());
+			impactSet.forEach(it -> sink.writeDataFlow(this.getActionSequenceIndex(it.getElements()), it));
+			sink.endSection();
 		}
 
 		if (printFinalImpactSet) {
-			System.out.printf("\n\nDistinct Impact set (%d):\n", distinctImpactSet.size());
-			distinctImpactSet.stream().map(
-					it -> formatDataFlow(this.getActionSequenceIndex(it.getElements()), it, newLineAfterEachEntry))
-					.forEach(System.out::println);
+			Set<ActionSequence> distinctImpactSet = this.getImpactSet(true);
+			sink.beginSection("Distinct Impact set", distinctImpactSet.size());
+			distinctImpactSet.forEach(it -> sink.writeDataFlow(this.getActionSequenceIndex(it.getElements()), it));
+			sink.endSection();
 		}
-
-		System.out.println("\n\n");
 	}
 
 	public static String formatDataFlow(int index, ActionSequence sequence, boolean newLineAfterEachEntry) {
@@ -1,15 +1,29 @@
 package dev.abunai.impact.analysis.model;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
 import org.palladiosimulator.pcm.core.entity.Entity;
 import org.palladiosimulator.pcm.seff.ExternalCallAction;
 import org.palladiosimulator.pcm.seff.SetVariableAction;
 import org.palladiosimulator.pcm.seff.StartAction;
 import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
 
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
 import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
 import dev.abunai.impact.analysis.model.source.ActorUncertaintySource;
 import dev.abunai.impact.analysis.model.source.BehaviorUncertaintySource;
@@ -17,32 +31,186 @@ import dev.abunai.impact.analysis.model.source.ComponentUncertaintySource;
 import dev.abunai.impact.analysis.model.source.ConnectorUncertaintySource;
 import dev.abunai.impact.analysis.model.source.InterfaceUncertaintySource;
 import dev.abunai.impact.analysis.model.source.UncertaintySource;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
 import dev.abunai.impact.analysis.util.PropagationHelper;
 
 public class UncertaintySourceCollection {
 
+	private static final Logger logger = Logger.getLogger(UncertaintySourceCollection.class);
+
+	// Copy-on-write keeps propagation lock-free while sources are added concurrently
 	private final List<UncertaintySource<?>> uncertaintySources;
 	private final PropagationHelper propagationHelper;
 	private final List<ActionSequence> actionSequences;
+	private final AnalysisMetrics metrics;
+	private final AtomicInteger modificationCount = new AtomicInteger();
+	// Results of propagate() are reused across runs if a cache is given
+	private final ImpactResultCache resultCache;
+	private final String modelHash;
 
 	public UncertaintySourceCollection(List<ActionSequence> actionSequences, PropagationHelper propagationHelper) {
-		this.uncertaintySources = new ArrayList<>();
+		this(actionSequences, propagationHelper, new AnalysisMetrics());
+	}
+
+	public UncertaintySourceCollection(List<ActionSequence> actionSequences, PropagationHelper propagationHelper,
+			AnalysisMetrics metrics) {
+		this(actionSequences, propagationHelper, metrics, null, null);
+	}
+
+	// The result cache may be null to always propagate, the model hash identifies
+	// the models of the action sequences within the cache
+	public UncertaintySourceCollection(List<ActionSequence> actionSequences, PropagationHelper propagationHelper,
+			AnalysisMetrics metrics, ImpactResultCache resultCache, String modelHash) {
+		if (resultCache != null && modelHash == null) {
+			throw new IllegalArgumentException("A result cache requires the hash of the models.");
+		}
+
+		this.uncertaintySources = new CopyOnWriteArrayList<>();
 		this.propagationHelper = propagationHelper;
 		this.actionSequences = actionSequences;
+		this.metrics = metrics;
+		this.resultCache = resultCache;
+		this.modelHash = modelHash;
+	}
+
+	public List<UncertaintySource<?>> getUncertaintySources() {
+		return Collections.unmodifiableList(this.uncertaintySources);
+	}
+
+	// Changes whenever a source is added, so results can be reused while it is
+	// unchanged
+	public int getModificationCount() {
+		return this.modificationCount.get();
+	}
+
+	private void addUncertaintySource(UncertaintySource<?> source) {
+		this.uncertaintySources.add(source);
+		this.modificationCount.incrementAndGet();
 	}
 
 	public UncertaintyImpactCollection propagate() {
-		List<UncertaintyImpact<?>> allImpacts = new ArrayList<>();
+		return this.propagateCached(this::propagate);
+	}
+
+	// Both propagations yield the same impacts in the same order, so they share the
+	// entries of the result cache
+	private UncertaintyImpactCollection propagateCached(
+			Function<List<UncertaintySource<?>>, UncertaintyImpactCollection> propagation) {
+		List<UncertaintySource<?>> sources = List.copyOf(this.uncertaintySources);
+		List<String> sourceIds = CachedPropagation.sourceIdsOf(sources);
 
-		for (UncertaintySource<?> source : this.uncertaintySources) {
-			var localImpacts = source.propagate();
+		// Cached impacts cannot be told apart if a source has been added twice
+		if (this.resultCache == null || sourceIds.stream().distinct().count() != sourceIds.size()) {
+			return propagation.apply(sources);
+		}
+
+		var cachedEntry = this.resultCache.load(this.modelHash, sourceIds);
 
-			for (var impact : localImpacts) {
-				allImpacts.add(impact);
+		if (cachedEntry.isPresent()) {
+			try {
+				return CachedPropagation.restore(this.actionSequences, sources, cachedEntry.get(), this.metrics);
+			} catch (IllegalStateException e) {
+				logger.warn(String.format("Discarding impact result cache entry of model %s and sources %s.",
+						this.modelHash, sourceIds), e);
+				this.resultCache.invalidate(this.modelHash, sourceIds);
 			}
 		}
 
-		return new UncertaintyImpactCollection(actionSequences, allImpacts);
+		var impacts = propagation.apply(sources);
+
+		// Storing computes the distinct impact set, which the result keeps for later use
+		try {
+			this.resultCache.store(this.modelHash, sourceIds, CachedPropagation.toEntry(impacts));
+		} catch (IllegalStateException e) {
+			logger.warn(String.format("Unable to cache the impacts of model %s and sources %s.", this.modelHash,
+					sourceIds), e);
+		}
+
+		return impacts;
+	}
+
+	private UncertaintyImpactCollection propagate(List<UncertaintySource<?>> sources) {
+		List<UncertaintyImpact<?>> allImpacts = this.streamImpacts(sources).toList();
+		return new UncertaintyImpactCollection(actionSequences, allImpacts, this.metrics);
+	}
+
+	// Yields the impacts in the order of propagate(), a source is only propagated
+	// once the impacts of the previous sources have been consumed
+	public Stream<UncertaintyImpact<?>> streamImpacts() {
+		return this.streamImpacts(List.copyOf(this.uncertaintySources));
+	}
+
+	private Stream<UncertaintyImpact<?>> streamImpacts(List<UncertaintySource<?>> sources) {
+		return StreamSupport.stream(new ImpactSpliterator(sources, this.metrics), false);
+	}
+
+	// Whether an affected section contains the given element, stops propagating
+	// sources once one is found
+	public boolean anyImpactOn(AbstractActionSequenceElement<?> element) {
+		return this.streamImpacts().anyMatch(impact -> isInAffectedSection(impact, it -> it.equals(element)));
+	}
+
+	// Whether an affected section contains an element within the given component,
+	// stops propagating sources once one is found
+	public boolean anyImpactOn(AssemblyContext component) {
+		return this.streamImpacts().anyMatch(impact -> isInAffectedSection(impact,
+				it -> it instanceof AbstractPCMActionSequenceElement<?> element && element.getContext() != null
+						&& element.getContext().contains(component)));
+	}
+
+	// Returns the first n distinct data flows with an affected section in the order
+	// of propagate(), the remaining sources are not propagated
+	public List<ActionSequence> firstImpactedFlows(int n) {
+		Set<ActionSequence> impactedFlows = Collections.newSetFromMap(new IdentityHashMap<>());
+		return this.streamImpacts().flatMap(it -> it.getAffectedDataFlows().stream()).filter(impactedFlows::add)
+				.limit(n).toList();
+	}
+
+	private static boolean isInAffectedSection(UncertaintyImpact<?> impact,
+			Predicate<AbstractActionSequenceElement<?>> predicate) {
+		for (ActionSequence dataFlow : impact.getAffectedDataFlows()) {
+			var elements = dataFlow.getElements();
+			int start = elements.indexOf(impact.getAffectedElement());
+
+			if (start < 0) {
+				continue;
+			}
+
+			for (int i = start; i < elements.size(); i++) {
+				if (predicate.test(elements.get(i))) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	// Finds the impacts of all sources with a single sweep over the action sequences
+	public UncertaintyImpactCollection propagateBatched() {
+		return this.propagateCached(this::propagateBatched);
+	}
+
+	private UncertaintyImpactCollection propagateBatched(List<UncertaintySource<?>> sources) {
+		try (var recording = this.metrics.record(AnalysisPhase.PROPAGATE)) {
+			List<UncertaintyImpact<?>> allImpacts = BatchedPropagation.propagate(this.actionSequences, sources);
+			recording.detail("batched").sources(sources.size()).impacts(allImpacts.size());
+			return new UncertaintyImpactCollection(actionSequences, allImpacts, this.metrics);
+		}
+	}
+
+	// Also marks the sequences reached by calls and returns within affected sections
+	// until no further sequence is reached
+	public UncertaintyImpactCollection propagateTransitively() {
+		List<UncertaintySource<?>> sources = List.copyOf(this.uncertaintySources);
+
+		try (var recording = this.metrics.record(AnalysisPhase.PROPAGATE)) {
+			List<UncertaintyImpact<?>> directImpacts = BatchedPropagation.propagate(this.actionSequences, sources);
+			List<UncertaintyImpact<?>> allImpacts = TransitivePropagation.propagate(this.actionSequences,
+					this.propagationHelper.getCallGraph(), directImpacts);
+			recording.detail("transitive").sources(sources.size()).impacts(allImpacts.size());
+			return new UncertaintyImpactCollection(actionSequences, allImpacts, this.metrics);
+		}
 	}
 
 	public void addComponentUncertaintyInAssemblyContext(String id) {
@@ -51,7 +219,7 @@ public class UncertaintySourceCollection {
 		if (component.isEmpty()) {
 			throw new IllegalArgumentException("Unable to find an assembly context with the given ID.");
 		} else {
-			this.uncertaintySources.add(new ComponentUncertaintySource(component.get(), propagationHelper));
+			this.addUncertaintySource(new ComponentUncertaintySource(component.get(), propagationHelper));
 		}
 
 	}
@@ -85,7 +253,7 @@ public class UncertaintySourceCollection {
 		var action = this.propagationHelper.findAction(id);
 
 		if (action.isPresent() && targetType.isInstance(action.get())) {
-			this.uncertaintySources.add(BehaviorUncertaintySource.of(targetType.cast(action.get()), propagationHelper));
+			this.addUncertaintySource(BehaviorUncertaintySource.of(targetType.cast(action.get()), propagationHelper));
 		} else {
 			throw new IllegalArgumentException(
 					String.format("Unable to find %s with the given id.", targetType.getSimpleName()));
@@ -98,7 +266,7 @@ public class UncertaintySourceCollection {
 		if (actor.isEmpty()) {
 			throw new IllegalArgumentException("Unable to find resource container with the given ID.");
 		} else {
-			this.uncertaintySources.add(ActorUncertaintySource.of(actor.get(), propagationHelper));
+			this.addUncertaintySource(ActorUncertaintySource.of(actor.get(), propagationHelper));
 		}
 	}
 
@@ -108,7 +276,7 @@ public class UncertaintySourceCollection {
 		if (actor.isEmpty()) {
 			throw new IllegalArgumentException("Unable to find usage scenario with the given ID.");
 		} else {
-			this.uncertaintySources.add(ActorUncertaintySource.of(actor.get(), propagationHelper));
+			this.addUncertaintySource(ActorUncertaintySource.of(actor.get(), propagationHelper));
 		}
 	}
 
@@ -118,7 +286,7 @@ public class UncertaintySourceCollection {
 		if (signature.isEmpty()) {
 			throw new IllegalArgumentException("Unable to find the signature with the given ID.");
 		} else {
-			this.uncertaintySources.add(new InterfaceUncertaintySource(signature.get(), propagationHelper));
+			this.addUncertaintySource(new InterfaceUncertaintySource(signature.get(), propagationHelper));
 		}
 	}
 
@@ -140,7 +308,7 @@ public class UncertaintySourceCollection {
 		if (connector.isEmpty()) {
 			throw new IllegalArgumentException("Unable to find the connector with the given ID.");
 		} else {
-			this.uncertaintySources.add(ConnectorUncertaintySource.of(connector.get(), propagationHelper));
+			this.addUncertaintySource(ConnectorUncertaintySource.of(connector.get(), propagationHelper));
 		}
 	}
 
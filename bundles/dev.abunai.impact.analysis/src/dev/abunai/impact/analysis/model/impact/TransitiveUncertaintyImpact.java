@@ -0,0 +1,52 @@
+package dev.abunai.impact.analysis.model.impact;
+
+import java.util.List;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.pcm.core.entity.Entity;
+
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+
+public class TransitiveUncertaintyImpact<T extends Entity> extends UncertaintyImpact<T> {
+
+	private final AbstractPCMActionSequenceElement<?> affectedElement;
+	private final ActionSequence affectedDataFlow;
+	private final AbstractPCMActionSequenceElement<?> cause;
+	private final UncertaintyImpact<T> directImpact;
+
+	public TransitiveUncertaintyImpact(AbstractPCMActionSequenceElement<?> affectedElement,
+			ActionSequence affectedDataFlow, AbstractPCMActionSequenceElement<?> cause,
+			UncertaintyImpact<T> directImpact) {
+		this.affectedElement = affectedElement;
+		this.affectedDataFlow = affectedDataFlow;
+		this.cause = cause;
+		this.directImpact = directImpact;
+	}
+
+	@Override
+	public UncertaintySource<T> getOrigin() {
+		return this.directImpact.getOrigin();
+	}
+
+	@Override
+	public AbstractPCMActionSequenceElement<?> getAffectedElement() {
+		return this.affectedElement;
+	}
+
+	@Override
+	public List<ActionSequence> getAffectedDataFlows() {
+		return List.of(this.affectedDataFlow);
+	}
+
+	// The call or return through which the impact reached the affected element
+	public AbstractPCMActionSequenceElement<?> getCause() {
+		return this.cause;
+	}
+
+	// The impact of the origin this impact has been propagated from
+	public UncertaintyImpact<T> getDirectImpact() {
+		return this.directImpact;
+	}
+
+}
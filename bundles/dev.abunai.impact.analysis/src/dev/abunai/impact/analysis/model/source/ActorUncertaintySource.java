@@ -2,6 +2,8 @@ package dev.abunai.impact.analysis.model.source;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
 import org.palladiosimulator.pcm.core.entity.Entity;
@@ -10,6 +12,8 @@ import org.palladiosimulator.pcm.usagemodel.UsageScenario;
 
 import dev.abunai.impact.analysis.model.impact.ActorUncertaintyImpact;
 import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.util.PropagationKey;
+import dev.abunai.impact.analysis.util.PropagationKey.Kind;
 
 public class ActorUncertaintySource<T extends Entity> extends UncertaintySource<Entity> {
 
@@ -45,6 +49,22 @@ public class ActorUncertaintySource<T extends Entity> extends UncertaintySource<
 		return processes.stream().map(it -> new ActorUncertaintyImpact(it, this, this.propagationHelper)).toList();
 	}
 
+	@Override
+	public List<Set<PropagationKey>> getPropagationKeys() {
+		if (this.actor instanceof UsageScenario) {
+			return List.of(Set.of(PropagationKey.of(Kind.ENTRY_LEVEL_CALL_OF_SCENARIO, this.actor)));
+		} else {
+			return List.of(this.propagationHelper.findAssemblyContextsDeployedOn((ResourceContainer) this.actor)
+					.stream().map(it -> PropagationKey.of(Kind.SEFF_IN_CONTEXT, it)).collect(Collectors.toSet()));
+		}
+	}
+
+	@Override
+	public List<ActorUncertaintyImpact> createImpacts(List<AbstractPCMActionSequenceElement<?>> affectedElements) {
+		return affectedElements.stream().map(it -> new ActorUncertaintyImpact(it, this, this.propagationHelper))
+				.toList();
+	}
+
 	@Override
 	public String getUncertaintyType() {
 		return "Actor";
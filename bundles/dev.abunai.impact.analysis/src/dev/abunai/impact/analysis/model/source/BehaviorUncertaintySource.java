@@ -2,6 +2,7 @@ package dev.abunai.impact.analysis.model.source;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
 import org.palladiosimulator.pcm.core.entity.Entity;
@@ -12,6 +13,8 @@ import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
 
 import dev.abunai.impact.analysis.model.impact.BehaviorUncertaintyImpact;
 import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.util.PropagationKey;
+import dev.abunai.impact.analysis.util.PropagationKey.Kind;
 
 public class BehaviorUncertaintySource<T extends Entity> extends UncertaintySource<T> {
 
@@ -47,7 +50,19 @@ public class BehaviorUncertaintySource<T extends Entity> extends UncertaintySour
 	@Override
 	public List<BehaviorUncertaintyImpact<T>> propagate() {
 		List<AbstractPCMActionSequenceElement<?>> processes = this.propagationHelper.findProccessesWithAction(action);
-		return processes.stream().map(it -> new BehaviorUncertaintyImpact<>(it, this, this.propagationHelper)).toList();
+		return this.createImpacts(processes);
+	}
+
+	@Override
+	public List<Set<PropagationKey>> getPropagationKeys() {
+		return List.of(Set.of(PropagationKey.of(Kind.ACTION, this.action)));
+	}
+
+	@Override
+	public List<BehaviorUncertaintyImpact<T>> createImpacts(
+			List<AbstractPCMActionSequenceElement<?>> affectedElements) {
+		return affectedElements.stream().map(it -> new BehaviorUncertaintyImpact<>(it, this, this.propagationHelper))
+				.toList();
 	}
 
 	@Override
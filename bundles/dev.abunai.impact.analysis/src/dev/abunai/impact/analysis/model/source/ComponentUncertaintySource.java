@@ -2,13 +2,17 @@ package dev.abunai.impact.analysis.model.source;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.SEFFActionSequenceElement;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
 import org.palladiosimulator.pcm.seff.StartAction;
 
 import dev.abunai.impact.analysis.model.impact.ComponentUncertaintyImpact;
 import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.util.PropagationKey;
+import dev.abunai.impact.analysis.util.PropagationKey.Kind;
 
 public class ComponentUncertaintySource extends UncertaintySource<AssemblyContext> {
 
@@ -34,6 +38,18 @@ public class ComponentUncertaintySource extends UncertaintySource<AssemblyContex
 		return startActions.stream().map(it -> new ComponentUncertaintyImpact(it, this, propagationHelper)).toList();
 	}
 
+	@Override
+	public List<Set<PropagationKey>> getPropagationKeys() {
+		return List.of(Set.of(PropagationKey.of(Kind.START_ACTION_IN_CONTEXT, this.component)));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<ComponentUncertaintyImpact> createImpacts(List<AbstractPCMActionSequenceElement<?>> affectedElements) {
+		return affectedElements.stream().map(it -> new ComponentUncertaintyImpact(
+				(SEFFActionSequenceElement<StartAction>) it, this, propagationHelper)).toList();
+	}
+
 	@Override
 	public String getUncertaintyType() {
 		return "Component";
@@ -1,8 +1,10 @@
 package dev.abunai.impact.analysis.model.source;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
 import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
@@ -14,6 +16,8 @@ import org.palladiosimulator.pcm.repository.OperationInterface;
 import dev.abunai.impact.analysis.model.impact.ConnectorUncertaintyImpact;
 import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
 import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.util.PropagationKey;
+import dev.abunai.impact.analysis.util.PropagationKey.Kind;
 
 public class ConnectorUncertaintySource<T extends Connector> extends UncertaintySource<T> {
 
@@ -96,7 +100,37 @@ public class ConnectorUncertaintySource<T extends Connector> extends Uncertainty
 			matches.addAll(filteredExternalCallNodes);
 		}
 
-		return matches.stream().map(it -> new ConnectorUncertaintyImpact<>(it, this, this.propagationHelper)).toList();
+		return this.createImpacts(matches);
+	}
+
+	@Override
+	public List<Set<PropagationKey>> getPropagationKeys() {
+		Set<PropagationKey> startKeys = new HashSet<>();
+		Set<PropagationKey> systemCallKeys = new HashSet<>();
+		Set<PropagationKey> externalCallKeys = new HashSet<>();
+
+		AssemblyContext providingContext = getConnectorProvidingContext();
+
+		for (var signature : getConnectorInterface().getSignatures__OperationInterface()) {
+			startKeys.add(PropagationKey.of(Kind.START_ACTION_OF_SIGNATURE_IN_CONTEXT, signature, providingContext));
+
+			if (connector instanceof ProvidedDelegationConnector castedConnector) {
+				systemCallKeys.add(PropagationKey.of(Kind.ENTRY_LEVEL_CALL_OF_SIGNATURE_VIA_ROLE, signature,
+						castedConnector.getOuterProvidedRole_ProvidedDelegationConnector()));
+			} else if (connector instanceof AssemblyConnector castedConnector) {
+				externalCallKeys.add(PropagationKey.of(Kind.EXTERNAL_CALL_OF_SIGNATURE_VIA_ROLE, signature,
+						castedConnector.getRequiredRole_AssemblyConnector()));
+			}
+		}
+
+		return List.of(startKeys, systemCallKeys, externalCallKeys);
+	}
+
+	@Override
+	public List<ConnectorUncertaintyImpact<T>> createImpacts(
+			List<AbstractPCMActionSequenceElement<?>> affectedElements) {
+		return affectedElements.stream().map(it -> new ConnectorUncertaintyImpact<>(it, this, this.propagationHelper))
+				.toList();
 	}
 
 	@Override
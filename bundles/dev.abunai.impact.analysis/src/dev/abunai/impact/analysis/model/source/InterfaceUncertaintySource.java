@@ -3,6 +3,7 @@ package dev.abunai.impact.analysis.model.source;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
@@ -10,6 +11,8 @@ import org.palladiosimulator.pcm.repository.OperationSignature;
 
 import dev.abunai.impact.analysis.model.impact.InterfaceUncertaintyImpact;
 import dev.abunai.impact.analysis.util.PropagationHelper;
+import dev.abunai.impact.analysis.util.PropagationKey;
+import dev.abunai.impact.analysis.util.PropagationKey.Kind;
 
 public class InterfaceUncertaintySource extends UncertaintySource<OperationSignature> {
 
@@ -40,6 +43,19 @@ public class InterfaceUncertaintySource extends UncertaintySource<OperationSigna
 		return allNodes.stream().map(it -> new InterfaceUncertaintyImpact(it, this, propagationHelper)).toList();
 	}
 
+	@Override
+	public List<Set<PropagationKey>> getPropagationKeys() {
+		return List.of(Set.of(PropagationKey.of(Kind.START_ACTION_OF_SIGNATURE, this.signature)),
+				Set.of(PropagationKey.of(Kind.ENTRY_LEVEL_CALL_OF_SIGNATURE, this.signature)),
+				Set.of(PropagationKey.of(Kind.EXTERNAL_CALL_OF_SIGNATURE, this.signature)));
+	}
+
+	@Override
+	public List<InterfaceUncertaintyImpact> createImpacts(List<AbstractPCMActionSequenceElement<?>> affectedElements) {
+		return affectedElements.stream().map(it -> new InterfaceUncertaintyImpact(it, this, propagationHelper))
+				.toList();
+	}
+
 	@Override
 	public String getUncertaintyType() {
 		return "Interface";
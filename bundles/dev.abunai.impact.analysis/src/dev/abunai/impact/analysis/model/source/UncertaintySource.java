@@ -1,10 +1,13 @@
 package dev.abunai.impact.analysis.model.source;
 
 import java.util.List;
+import java.util.Set;
 
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
 import org.palladiosimulator.pcm.core.entity.Entity;
 
 import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
+import dev.abunai.impact.analysis.util.PropagationKey;
 
 public abstract class UncertaintySource<T extends Entity> {
 
@@ -12,6 +15,13 @@ public abstract class UncertaintySource<T extends Entity> {
 
 	public abstract List<? extends UncertaintyImpact<? extends T>> propagate();
 
+	// Describes the elements found by propagate() as one set of keys per group,
+	// the groups are in the order in which propagate() reports their elements
+	public abstract List<Set<PropagationKey>> getPropagationKeys();
+
+	public abstract List<? extends UncertaintyImpact<? extends T>> createImpacts(
+			List<AbstractPCMActionSequenceElement<?>> affectedElements);
+
 	public abstract String getUncertaintyType();
 
 	@Override
@@ -0,0 +1,149 @@
+package dev.abunai.impact.analysis.output;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+public class JsonResultSink implements ResultSink {
+
+	private final Writer writer;
+
+	// Every results block is written as one JSON object per line
+	private boolean inResults = false;
+	private boolean inSection = false;
+	private boolean firstSection;
+	private boolean firstEntry;
+	private int entries;
+
+	public JsonResultSink(OutputStream outputStream) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public void beginResults(String title) {
+		if (this.inResults) {
+			throw new IllegalStateException("Results have already been started");
+		}
+
+		this.write("{\"title\":" + (title == null ? "null" : quote(title)) + ",\"sections\":[");
+		this.inResults = true;
+		this.firstSection = true;
+	}
+
+	@Override
+	public void beginSection(String name, int size) {
+		if (!this.inResults || this.inSection) {
+			throw new IllegalStateException("Sections can only be started inside of results");
+		}
+
+		this.write((this.firstSection ? "" : ",") + "{\"name\":" + quote(name) + ",\"entries\":[");
+		this.inSection = true;
+		this.firstSection = false;
+		this.firstEntry = true;
+		this.entries = 0;
+	}
+
+	@Override
+	public void writeElement(Object element) {
+		this.beginEntry();
+		this.write(quote(String.valueOf(element)));
+	}
+
+	@Override
+	public void writeDataFlow(int index, ActionSequence sequence) {
+		this.beginEntry();
+		this.write("{\"index\":" + index + ",\"elements\":[");
+
+		var elements = sequence.getElements();
+		for (int i = 0; i < elements.size(); i++) {
+			this.write((i == 0 ? "" : ",") + quote(String.valueOf(elements.get(i))));
+		}
+
+		this.write("]}");
+	}
+
+	@Override
+	public void endSection() {
+		if (!this.inSection) {
+			throw new IllegalStateException("No section has been started");
+		}
+
+		// The size is written last, as it is unknown for incrementally written sections
+		this.write("],\"size\":" + this.entries + "}");
+		this.inSection = false;
+		this.flush();
+	}
+
+	@Override
+	public void endResults() {
+		if (!this.inResults || this.inSection) {
+			throw new IllegalStateException("No results have been started or a section is still open");
+		}
+
+		this.write("]}\n");
+		this.inResults = false;
+		this.flush();
+	}
+
+	@Override
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static String quote(String value) {
+		var builder = new StringBuilder(value.length() + 2).append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			char character = value.charAt(i);
+
+			switch (character) {
+			case '"' -> builder.append("\\\"");
+			case '\\' -> builder.append("\\\\");
+			case '\n' -> builder.append("\\n");
+			case '\r' -> builder.append("\\r");
+			case '\t' -> builder.append("\\t");
+			default -> {
+				if (character < 0x20) {
+					builder.append(String.format("\\u%04x", (int) character));
+				} else {
+					builder.append(character);
+				}
+			}
+			}
+		}
+
+		return builder.append('"').toString();
+	}
+
+	private void beginEntry() {
+		if (!this.inSection) {
+			throw new IllegalStateException("Entries can only be written inside of sections");
+		}
+
+		if (!this.firstEntry) {
+			this.write(",");
+		}
+
+		this.firstEntry = false;
+		this.entries++;
+	}
+
+	private void write(String text) {
+		try {
+			this.writer.write(text);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
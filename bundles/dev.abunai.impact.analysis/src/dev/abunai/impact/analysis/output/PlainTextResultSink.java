@@ -0,0 +1,83 @@
+package dev.abunai.impact.analysis.output;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+
+public class PlainTextResultSink implements ResultSink {
+
+	private final Writer writer;
+	private final boolean newLineAfterEachEntry;
+
+	public PlainTextResultSink(OutputStream outputStream, boolean newLineAfterEachEntry) {
+		this(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)), newLineAfterEachEntry);
+	}
+
+	public PlainTextResultSink(Writer writer, boolean newLineAfterEachEntry) {
+		this.writer = writer;
+		this.newLineAfterEachEntry = newLineAfterEachEntry;
+	}
+
+	@Override
+	public void beginResults(String title) {
+		if (title != null) {
+			this.write("Results of: " + title + "\n");
+		}
+	}
+
+	@Override
+	public void beginSection(String name, int size) {
+		if (size == UNKNOWN_SIZE) {
+			this.write(String.format("\n\n%s:\n", name));
+		} else {
+			this.write(String.format("\n\n%s (%d):\n", name, size));
+		}
+	}
+
+	@Override
+	public void writeElement(Object element) {
+		this.write(element + "\n");
+	}
+
+	@Override
+	public void writeDataFlow(int index, ActionSequence sequence) {
+		this.write(UncertaintyImpactCollection.formatDataFlow(index, sequence, this.newLineAfterEachEntry) + "\n");
+	}
+
+	@Override
+	public void endSection() {
+		this.flush();
+	}
+
+	@Override
+	public void endResults() {
+		this.write("\n\n\n");
+		this.flush();
+	}
+
+	@Override
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void write(String text) {
+		try {
+			this.writer.write(text);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
@@ -0,0 +1,27 @@
+package dev.abunai.impact.analysis.output;
+
+import java.io.Flushable;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+public interface ResultSink extends Flushable {
+
+	public static final int UNKNOWN_SIZE = -1;
+
+	// A title of null starts results without a heading
+	public void beginResults(String title);
+
+	public void beginSection(String name, int size);
+
+	public void writeElement(Object element);
+
+	public void writeDataFlow(int index, ActionSequence sequence);
+
+	public void endSection();
+
+	public void endResults();
+
+	@Override
+	public void flush();
+
+}
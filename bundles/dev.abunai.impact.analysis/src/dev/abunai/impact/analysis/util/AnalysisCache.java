@@ -0,0 +1,411 @@
+package dev.abunai.impact.analysis.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.PCMActionSequence;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.CallingSEFFActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.SEFFActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.user.CallingUserActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.user.UserActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.dataflow.confidentiality.analysis.resource.ResourceProvider;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.Parameter;
+import org.palladiosimulator.pcm.seff.AbstractAction;
+import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.usagemodel.AbstractUserAction;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+
+/**
+ * Persistent cache of the action sequences and the propagation index of an
+ * analysis. Entries are keyed by a hash over the content of all loaded model
+ * files, so that an entry can only be reused for byte-identical models.
+ */
+public class AnalysisCache {
+
+	private static final Logger logger = Logger.getLogger(AnalysisCache.class);
+
+	private static final int MAGIC = 0x55494143;
+	private static final int VERSION = 1;
+	private static final String FILE_EXTENSION = ".uiacache";
+
+	private static final byte KIND_USER = 0;
+	private static final byte KIND_CALLING_USER = 1;
+	private static final byte KIND_SEFF = 2;
+	private static final byte KIND_CALLING_SEFF = 3;
+	// Kind, element ID, calling flag, parameter signature ID and context size
+	private static final int ENCODED_ELEMENT_MIN_BYTES = 1 + 4 * Integer.BYTES;
+
+	private final Path cacheDirectory;
+
+	public AnalysisCache(Path cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	public record Entry(List<ActionSequence> actionSequences, PropagationIndex propagationIndex) {
+	}
+
+	public Path getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+	public static ResourceSet getResourceSet(ResourceProvider resourceProvider) {
+		return resourceProvider.getUsageModel().eResource().getResourceSet();
+	}
+
+	public static String computeModelHash(ResourceProvider resourceProvider) throws IOException {
+		ResourceSet resourceSet = getResourceSet(resourceProvider);
+		EcoreUtil.resolveAll(resourceSet);
+
+		// Default resources like the PCM primitive types are provided via pathmap URIs
+		// and cannot change between runs
+		List<Resource> modelResources = new ArrayList<>(resourceSet.getResources()).stream()
+				.filter(it -> it.getURI() != null && !"pathmap".equals(it.getURI().scheme()))
+				.sorted(Comparator.comparing(it -> it.getURI().toString())).toList();
+
+		MessageDigest digest = createDigest();
+		byte[] buffer = new byte[8192];
+
+		for (Resource resource : modelResources) {
+			URI uri = resource.getURI();
+			digest.update(uri.lastSegment() == null ? new byte[0] : uri.lastSegment().getBytes(StandardCharsets.UTF_8));
+
+			try (InputStream inputStream = new DigestInputStream(
+					resourceSet.getURIConverter().createInputStream(uri), digest)) {
+				while (inputStream.read(buffer) != -1) {
+					// Digest is updated while reading
+				}
+			}
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by the running JVM.", e);
+		}
+	}
+
+	public Path getCacheFile(String modelHash) {
+		return this.cacheDirectory.resolve(modelHash + FILE_EXTENSION);
+	}
+
+	public Optional<Entry> load(String modelHash, ResourceProvider resourceProvider) {
+		Path cacheFile = this.getCacheFile(modelHash);
+
+		if (!Files.isRegularFile(cacheFile)) {
+			return Optional.empty();
+		}
+
+		try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return Optional.of(this.read(buffer, getResourceSet(resourceProvider)));
+		} catch (IOException | BufferUnderflowException | IllegalStateException | ClassCastException e) {
+			logger.warn(String.format("Ignoring unusable analysis cache entry %s.", cacheFile), e);
+			return Optional.empty();
+		}
+	}
+
+	public void store(String modelHash, Entry entry) {
+		Path cacheFile = this.getCacheFile(modelHash);
+
+		try {
+			Files.createDirectories(this.cacheDirectory);
+			Path temporaryFile = Files.createTempFile(this.cacheDirectory, modelHash, ".tmp");
+
+			try {
+				try (var outputStream = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+					this.write(outputStream, entry);
+				}
+
+				Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException | IllegalStateException e) {
+			logger.warn(String.format("Unable to write analysis cache entry %s.", cacheFile), e);
+		}
+	}
+
+	private void write(DataOutputStream outputStream, Entry entry) throws IOException {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		List<int[]> encodedElements = new ArrayList<>();
+
+		for (ActionSequence sequence : entry.actionSequences()) {
+			for (AbstractActionSequenceElement<?> element : sequence.getElements()) {
+				encodedElements.add(this.encodeElement(element, strings));
+			}
+		}
+
+		for (String id : entry.propagationIndex().getIndexedIds()) {
+			strings.computeIfAbsent(id, it -> strings.size());
+		}
+
+		outputStream.writeInt(MAGIC);
+		outputStream.writeInt(VERSION);
+
+		outputStream.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			outputStream.writeInt(bytes.length);
+			outputStream.write(bytes);
+		}
+
+		int elementIndex = 0;
+		outputStream.writeInt(entry.actionSequences().size());
+		for (ActionSequence sequence : entry.actionSequences()) {
+			outputStream.writeInt(sequence.getElements().size());
+
+			for (int i = 0; i < sequence.getElements().size(); i++) {
+				int[] encodedElement = encodedElements.get(elementIndex++);
+				outputStream.writeByte(encodedElement[0]);
+				for (int j = 1; j < encodedElement.length; j++) {
+					outputStream.writeInt(encodedElement[j]);
+				}
+			}
+		}
+
+		outputStream.writeInt(entry.propagationIndex().size());
+		for (String id : entry.propagationIndex().getIndexedIds()) {
+			long[] occurrences = entry.propagationIndex().getOccurrences(id);
+			outputStream.writeInt(strings.get(id));
+			outputStream.writeInt(occurrences.length);
+			for (long occurrence : occurrences) {
+				outputStream.writeLong(occurrence);
+			}
+		}
+	}
+
+	// Encodes an element as [kind, element ID, calling flag, parameter signature
+	// ID, context size, context IDs...] with all IDs referring to the string table
+	private int[] encodeElement(AbstractActionSequenceElement<?> element, Map<String, Integer> strings) {
+		if (!(element instanceof AbstractPCMActionSequenceElement<?> pcmElement)) {
+			throw new IllegalStateException("Only PCM action sequence elements can be cached.");
+		}
+
+		byte kind;
+		boolean calling = false;
+		List<Parameter> parameters = List.of();
+
+		if (element.getClass() == CallingUserActionSequenceElement.class) {
+			kind = KIND_CALLING_USER;
+			calling = ((CallingUserActionSequenceElement) element).isCalling();
+		} else if (element.getClass() == UserActionSequenceElement.class) {
+			kind = KIND_USER;
+		} else if (element.getClass() == CallingSEFFActionSequenceElement.class) {
+			kind = KIND_CALLING_SEFF;
+			calling = ((CallingSEFFActionSequenceElement) element).isCalling();
+			parameters = ((CallingSEFFActionSequenceElement) element).getParameter();
+		} else if (element.getClass() == SEFFActionSequenceElement.class) {
+			kind = KIND_SEFF;
+			parameters = ((SEFFActionSequenceElement<?>) element).getParameter();
+		} else {
+			throw new IllegalStateException(
+					String.format("Unsupported action sequence element %s.", element.getClass().getSimpleName()));
+		}
+
+		int[] encodedElement = new int[5 + pcmElement.getContext().size()];
+		encodedElement[0] = kind;
+		encodedElement[1] = this.intern(EcoreUtil.getID(pcmElement.getElement()), strings);
+		encodedElement[2] = calling ? 1 : 0;
+		encodedElement[3] = this.intern(this.getParameterSignatureId(parameters), strings);
+		encodedElement[4] = pcmElement.getContext().size();
+
+		int position = 5;
+		for (AssemblyContext context : pcmElement.getContext()) {
+			encodedElement[position++] = this.intern(context.getId(), strings);
+		}
+
+		return encodedElement;
+	}
+
+	// Parameters have no IDs of their own, so the signature owning them is stored
+	private String getParameterSignatureId(List<Parameter> parameters) {
+		if (parameters == null || parameters.isEmpty()) {
+			return null;
+		}
+
+		OperationSignature signature = parameters.get(0).getOperationSignature__Parameter();
+
+		if (signature == null || !signature.getParameters__OperationSignature().equals(parameters)) {
+			throw new IllegalStateException("Parameters of a sequence element do not match a single signature.");
+		}
+
+		return signature.getId();
+	}
+
+	private int intern(String string, Map<String, Integer> strings) {
+		if (string == null) {
+			return -1;
+		}
+
+		return strings.computeIfAbsent(string, it -> strings.size());
+	}
+
+	private Entry read(ByteBuffer buffer, ResourceSet resourceSet) {
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new IllegalStateException("Unknown analysis cache format.");
+		}
+
+		String[] strings = new String[readCount(buffer, Integer.BYTES)];
+		for (int i = 0; i < strings.length; i++) {
+			byte[] bytes = new byte[readCount(buffer, 1)];
+			buffer.get(bytes);
+			strings[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		Map<String, EObject> elementsById = this.collectElementsById(resourceSet);
+		List<ActionSequence> actionSequences = new ArrayList<>();
+
+		int sequenceCount = readCount(buffer, Integer.BYTES);
+		for (int i = 0; i < sequenceCount; i++) {
+			int elementCount = readCount(buffer, ENCODED_ELEMENT_MIN_BYTES);
+			List<AbstractActionSequenceElement<?>> elements = new ArrayList<>(elementCount);
+
+			for (int j = 0; j < elementCount; j++) {
+				elements.add(this.readElement(buffer, strings, elementsById));
+			}
+
+			actionSequences.add(new PCMActionSequence(elements));
+		}
+
+		Map<String, long[]> occurrences = new HashMap<>();
+		int indexSize = readCount(buffer, 2 * Integer.BYTES);
+		for (int i = 0; i < indexSize; i++) {
+			String id = stringAt(buffer.getInt(), strings);
+			long[] entries = new long[readCount(buffer, Long.BYTES)];
+			for (int j = 0; j < entries.length; j++) {
+				entries[j] = occurrenceAt(buffer.getLong(), actionSequences);
+			}
+			occurrences.put(id, entries);
+		}
+
+		return new Entry(actionSequences, new PropagationIndex(occurrences));
+	}
+
+	private AbstractActionSequenceElement<?> readElement(ByteBuffer buffer, String[] strings,
+			Map<String, EObject> elementsById) {
+		byte kind = buffer.get();
+		EObject element = this.resolve(buffer.getInt(), strings, elementsById);
+		boolean calling = buffer.getInt() == 1;
+		int signatureReference = buffer.getInt();
+		List<Parameter> parameters = signatureReference == -1 ? new ArrayList<>()
+				: new ArrayList<>(((OperationSignature) this.resolve(signatureReference, strings, elementsById))
+						.getParameters__OperationSignature());
+
+		Deque<AssemblyContext> context = new ArrayDeque<>();
+		int contextSize = readCount(buffer, Integer.BYTES);
+		for (int i = 0; i < contextSize; i++) {
+			context.addLast((AssemblyContext) this.resolve(buffer.getInt(), strings, elementsById));
+		}
+
+		return switch (kind) {
+		case KIND_USER -> new UserActionSequenceElement<>((AbstractUserAction) element);
+		case KIND_CALLING_USER -> new CallingUserActionSequenceElement((EntryLevelSystemCall) element, calling);
+		case KIND_SEFF -> new SEFFActionSequenceElement<>((AbstractAction) element, context, parameters);
+		case KIND_CALLING_SEFF ->
+			new CallingSEFFActionSequenceElement((ExternalCallAction) element, context, calling, parameters);
+		default -> throw new IllegalStateException("Unknown action sequence element kind " + kind + ".");
+		};
+	}
+
+	// Reads a count of items with the given minimum size, which has to fit into the
+	// rest of the buffer, so corrupt counts are detected before allocating
+	static int readCount(ByteBuffer buffer, int minItemBytes) {
+		int count = buffer.getInt();
+
+		if (count < 0 || (long) count * minItemBytes > buffer.remaining()) {
+			throw new IllegalStateException("Cached count exceeds the size of the cache entry.");
+		}
+
+		return count;
+	}
+
+	// Occurrences are checked here, as the propagation relies on them to look up
+	// the elements of the sequences
+	private static long occurrenceAt(long occurrence, List<ActionSequence> actionSequences) {
+		int sequenceIndex = PropagationIndex.sequenceIndexOf(occurrence);
+		int position = PropagationIndex.positionOf(occurrence);
+
+		if (sequenceIndex < 0 || sequenceIndex >= actionSequences.size() || position < 0
+				|| position >= actionSequences.get(sequenceIndex).getElements().size()) {
+			throw new IllegalStateException("Cached occurrence is out of range.");
+		}
+
+		return occurrence;
+	}
+
+	static String stringAt(int reference, String[] strings) {
+		if (reference < 0 || reference >= strings.length) {
+			throw new IllegalStateException("Cached string reference is out of range.");
+		}
+
+		return strings[reference];
+	}
+
+	private EObject resolve(int reference, String[] strings, Map<String, EObject> elementsById) {
+		EObject element = reference < 0 ? null : elementsById.get(stringAt(reference, strings));
+
+		if (element == null) {
+			throw new IllegalStateException("Cached element cannot be found in the loaded models.");
+		}
+
+		return element;
+	}
+
+	private Map<String, EObject> collectElementsById(ResourceSet resourceSet) {
+		Map<String, EObject> elementsById = new HashMap<>();
+
+		resourceSet.getAllContents().forEachRemaining(it -> {
+			if (it instanceof EObject eObject) {
+				String id = EcoreUtil.getID(eObject);
+
+				if (id != null) {
+					elementsById.putIfAbsent(id, eObject);
+				}
+			}
+		});
+
+		return elementsById;
+	}
+
+}
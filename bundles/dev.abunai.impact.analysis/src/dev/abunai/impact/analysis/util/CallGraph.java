@@ -0,0 +1,96 @@
+package dev.abunai.impact.analysis.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.CallingSEFFActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.user.CallingUserActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+
+/**
+ * Inter-sequence call graph of the action sequences. Data leaving an element
+ * through a call or a return is received by the element following it, so every
+ * call and return is linked to all occurrences of its receiving element, i.e.,
+ * the same PCM element within the same assembly contexts, in all sequences.
+ */
+public class CallGraph {
+
+	private static final long[] NO_TARGETS = new long[0];
+
+	private record ReceiverKey(Object element, List<AssemblyContext> context) {
+	}
+
+	// Maps the packed occurrence of a call or return to the packed occurrences of
+	// its receiving element
+	private final Map<Long, long[]> targets;
+
+	public CallGraph(Map<Long, long[]> targets) {
+		this.targets = Collections.unmodifiableMap(targets);
+	}
+
+	public static CallGraph of(List<ActionSequence> actionSequences) {
+		Map<ReceiverKey, List<Long>> callsByReceiver = new HashMap<>();
+		Set<Object> receivingElements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (int sequenceIndex = 0; sequenceIndex < actionSequences.size(); sequenceIndex++) {
+			var elements = actionSequences.get(sequenceIndex).getElements();
+
+			for (int position = 0; position + 1 < elements.size(); position++) {
+				if (isCallOrReturn(elements.get(position))
+						&& elements.get(position + 1) instanceof AbstractPCMActionSequenceElement<?> receiver) {
+					callsByReceiver.computeIfAbsent(keyOf(receiver), it -> new ArrayList<>())
+							.add(PropagationIndex.pack(sequenceIndex, position));
+					receivingElements.add(receiver.getElement());
+				}
+			}
+		}
+
+		Map<ReceiverKey, List<Long>> receiverOccurrences = new HashMap<>();
+
+		for (int sequenceIndex = 0; sequenceIndex < actionSequences.size(); sequenceIndex++) {
+			var elements = actionSequences.get(sequenceIndex).getElements();
+
+			for (int position = 0; position < elements.size(); position++) {
+				if (elements.get(position) instanceof AbstractPCMActionSequenceElement<?> element
+						&& receivingElements.contains(element.getElement())) {
+					receiverOccurrences.computeIfAbsent(keyOf(element), it -> new ArrayList<>())
+							.add(PropagationIndex.pack(sequenceIndex, position));
+				}
+			}
+		}
+
+		Map<Long, long[]> targets = new HashMap<>();
+		callsByReceiver.forEach((receiver, calls) -> {
+			long[] occurrences = receiverOccurrences.get(receiver).stream().mapToLong(Long::longValue).toArray();
+			calls.forEach(it -> targets.put(it, occurrences));
+		});
+
+		return new CallGraph(targets);
+	}
+
+	public static boolean isCallOrReturn(Object element) {
+		return element instanceof CallingUserActionSequenceElement
+				|| element instanceof CallingSEFFActionSequenceElement;
+	}
+
+	private static ReceiverKey keyOf(AbstractPCMActionSequenceElement<?> element) {
+		var context = element.getContext() == null ? List.<AssemblyContext>of() : List.copyOf(element.getContext());
+		return new ReceiverKey(element.getElement(), context);
+	}
+
+	public long[] getTargets(long occurrence) {
+		return this.targets.getOrDefault(occurrence, NO_TARGETS);
+	}
+
+	public int size() {
+		return this.targets.size();
+	}
+
+}
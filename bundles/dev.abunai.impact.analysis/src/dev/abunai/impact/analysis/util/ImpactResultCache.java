@@ -0,0 +1,303 @@
+package dev.abunai.impact.analysis.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Persistent cache of propagation results. Entries are keyed by the hash of the
+ * loaded models and the sorted IDs of the propagated sources, so that an entry
+ * can only be reused for byte-identical models and the same set of sources.
+ * Entries that have not been used within the maximum age are removed, and the
+ * least recently used entries are removed once the cache exceeds its maximum
+ * size.
+ */
+public class ImpactResultCache {
+
+	private static final Logger logger = Logger.getLogger(ImpactResultCache.class);
+
+	private static final int MAGIC = 0x55494152;
+	private static final int VERSION = 2;
+	private static final String FILE_EXTENSION = ".uiaresult";
+	// Source ID, element ID and occurrence
+	private static final int IMPACT_BYTES = 2 * Integer.BYTES + Long.BYTES;
+	// Occurrence and length
+	private static final int SECTION_BYTES = Long.BYTES + Integer.BYTES;
+
+	private final Path cacheDirectory;
+	private final long maxBytes;
+	private final Duration maxAge;
+
+	public ImpactResultCache(Path cacheDirectory, long maxBytes, Duration maxAge) {
+		if (maxBytes < 0 || maxAge.isNegative()) {
+			throw new IllegalArgumentException("The maximum size and age of the result cache must not be negative.");
+		}
+
+		this.cacheDirectory = cacheDirectory;
+		this.maxBytes = maxBytes;
+		this.maxAge = maxAge;
+	}
+
+	// An impact of the source with the given ID on the element with the given ID at
+	// the packed occurrence, the affected sections start at the occurrences of the
+	// element and are derived from it when the impact is restored
+	public record Impact(String sourceId, String elementId, long occurrence) {
+	}
+
+	// A section of the given length starting at the packed occurrence
+	public record Section(long occurrence, int length) {
+	}
+
+	// The impacts in the order of propagation and the distinct impact set
+	public record Entry(List<Impact> impacts, List<Section> distinctImpactSet) {
+	}
+
+	private record CacheFile(Path path, FileTime lastModified, long size) {
+	}
+
+	public Path getCacheDirectory() {
+		return this.cacheDirectory;
+	}
+
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	public Duration getMaxAge() {
+		return this.maxAge;
+	}
+
+	public static String keyOf(String modelHash, List<String> sourceIds) {
+		MessageDigest digest = AnalysisCache.createDigest();
+		digest.update(modelHash.getBytes(StandardCharsets.UTF_8));
+
+		for (String sourceId : sourceIds.stream().sorted().toList()) {
+			digest.update((byte) 0);
+			digest.update(sourceId.getBytes(StandardCharsets.UTF_8));
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	public Path getCacheFile(String modelHash, List<String> sourceIds) {
+		return this.cacheDirectory.resolve(keyOf(modelHash, sourceIds) + FILE_EXTENSION);
+	}
+
+	public Optional<Entry> load(String modelHash, List<String> sourceIds) {
+		Path cacheFile = this.getCacheFile(modelHash, sourceIds);
+
+		if (!Files.isRegularFile(cacheFile)) {
+			return Optional.empty();
+		}
+
+		try {
+			if (this.isExpired(Files.getLastModifiedTime(cacheFile))) {
+				Files.deleteIfExists(cacheFile);
+				return Optional.empty();
+			}
+
+			Entry entry;
+			try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				entry = this.read(buffer, modelHash, sourceIds);
+			}
+
+			// The modification time tracks the last use for the eviction
+			Files.setLastModifiedTime(cacheFile, FileTime.from(Instant.now()));
+			return Optional.of(entry);
+		} catch (NoSuchFileException e) {
+			// Evicted concurrently
+			return Optional.empty();
+		} catch (IOException | BufferUnderflowException | IllegalStateException e) {
+			logger.warn(String.format("Ignoring unusable impact result cache entry %s.", cacheFile), e);
+			return Optional.empty();
+		}
+	}
+
+	public void store(String modelHash, List<String> sourceIds, Entry entry) {
+		String key = keyOf(modelHash, sourceIds);
+		Path cacheFile = this.cacheDirectory.resolve(key + FILE_EXTENSION);
+
+		try {
+			Files.createDirectories(this.cacheDirectory);
+			Path temporaryFile = Files.createTempFile(this.cacheDirectory, key, ".tmp");
+
+			try {
+				try (var outputStream = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+					this.write(outputStream, modelHash, sourceIds, entry);
+				}
+
+				Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException e) {
+			logger.warn(String.format("Unable to write impact result cache entry %s.", cacheFile), e);
+		}
+
+		this.evict();
+	}
+
+	// Removes the entry, e.g., if it does not match the models it has been stored for
+	public void invalidate(String modelHash, List<String> sourceIds) {
+		Path cacheFile = this.getCacheFile(modelHash, sourceIds);
+
+		try {
+			Files.deleteIfExists(cacheFile);
+		} catch (IOException e) {
+			logger.warn(String.format("Unable to remove impact result cache entry %s.", cacheFile), e);
+		}
+	}
+
+	// Removes the expired entries and then the least recently used ones until the
+	// cache fits into its maximum size
+	public void evict() {
+		if (!Files.isDirectory(this.cacheDirectory)) {
+			return;
+		}
+
+		List<CacheFile> cacheFiles = new ArrayList<>();
+
+		try (Stream<Path> files = Files.list(this.cacheDirectory)) {
+			for (Path file : files.filter(it -> it.getFileName().toString().endsWith(FILE_EXTENSION)).toList()) {
+				try {
+					cacheFiles.add(new CacheFile(file, Files.getLastModifiedTime(file), Files.size(file)));
+				} catch (NoSuchFileException e) {
+					// Evicted concurrently
+				}
+			}
+		} catch (IOException e) {
+			logger.warn(String.format("Unable to list the impact result cache %s.", this.cacheDirectory), e);
+			return;
+		}
+
+		cacheFiles.sort(Comparator.comparing(CacheFile::lastModified).reversed());
+		long totalBytes = 0;
+
+		for (CacheFile cacheFile : cacheFiles) {
+			if (!this.isExpired(cacheFile.lastModified()) && totalBytes + cacheFile.size() <= this.maxBytes) {
+				totalBytes += cacheFile.size();
+			} else {
+				try {
+					Files.deleteIfExists(cacheFile.path());
+				} catch (IOException e) {
+					logger.warn(String.format("Unable to evict impact result cache entry %s.", cacheFile.path()), e);
+				}
+			}
+		}
+	}
+
+	private boolean isExpired(FileTime lastModified) {
+		return lastModified.toInstant().plus(this.maxAge).isBefore(Instant.now());
+	}
+
+	private void write(DataOutputStream outputStream, String modelHash, List<String> sourceIds, Entry entry)
+			throws IOException {
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		List<String> sortedSourceIds = sourceIds.stream().sorted().toList();
+
+		strings.computeIfAbsent(modelHash, it -> strings.size());
+		sortedSourceIds.forEach(id -> strings.computeIfAbsent(id, it -> strings.size()));
+		for (Impact impact : entry.impacts()) {
+			strings.computeIfAbsent(impact.sourceId(), it -> strings.size());
+			strings.computeIfAbsent(impact.elementId(), it -> strings.size());
+		}
+
+		outputStream.writeInt(MAGIC);
+		outputStream.writeInt(VERSION);
+
+		outputStream.writeInt(strings.size());
+		for (String string : strings.keySet()) {
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			outputStream.writeInt(bytes.length);
+			outputStream.write(bytes);
+		}
+
+		// The key is stored as well to detect hash collisions
+		outputStream.writeInt(strings.get(modelHash));
+		outputStream.writeInt(sortedSourceIds.size());
+		for (String sourceId : sortedSourceIds) {
+			outputStream.writeInt(strings.get(sourceId));
+		}
+
+		outputStream.writeInt(entry.impacts().size());
+		for (Impact impact : entry.impacts()) {
+			outputStream.writeInt(strings.get(impact.sourceId()));
+			outputStream.writeInt(strings.get(impact.elementId()));
+			outputStream.writeLong(impact.occurrence());
+		}
+
+		outputStream.writeInt(entry.distinctImpactSet().size());
+		for (Section section : entry.distinctImpactSet()) {
+			outputStream.writeLong(section.occurrence());
+			outputStream.writeInt(section.length());
+		}
+	}
+
+	private Entry read(ByteBuffer buffer, String modelHash, List<String> sourceIds) {
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new IllegalStateException("Unknown impact result cache format.");
+		}
+
+		String[] strings = new String[AnalysisCache.readCount(buffer, Integer.BYTES)];
+		for (int i = 0; i < strings.length; i++) {
+			byte[] bytes = new byte[AnalysisCache.readCount(buffer, 1)];
+			buffer.get(bytes);
+			strings[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		String cachedModelHash = AnalysisCache.stringAt(buffer.getInt(), strings);
+		List<String> cachedSourceIds = new ArrayList<>();
+		int sourceCount = AnalysisCache.readCount(buffer, Integer.BYTES);
+		for (int i = 0; i < sourceCount; i++) {
+			cachedSourceIds.add(AnalysisCache.stringAt(buffer.getInt(), strings));
+		}
+
+		if (!cachedModelHash.equals(modelHash) || !cachedSourceIds.equals(sourceIds.stream().sorted().toList())) {
+			throw new IllegalStateException("Cached result belongs to different models or sources.");
+		}
+
+		List<Impact> impacts = new ArrayList<>();
+		int impactCount = AnalysisCache.readCount(buffer, IMPACT_BYTES);
+		for (int i = 0; i < impactCount; i++) {
+			String sourceId = AnalysisCache.stringAt(buffer.getInt(), strings);
+			String elementId = AnalysisCache.stringAt(buffer.getInt(), strings);
+			impacts.add(new Impact(sourceId, elementId, buffer.getLong()));
+		}
+
+		List<Section> distinctImpactSet = new ArrayList<>();
+		int sectionCount = AnalysisCache.readCount(buffer, SECTION_BYTES);
+		for (int i = 0; i < sectionCount; i++) {
+			distinctImpactSet.add(new Section(buffer.getLong(), buffer.getInt()));
+		}
+
+		return new Entry(List.copyOf(impacts), List.copyOf(distinctImpactSet));
+	}
+
+}
@@ -1,6 +1,7 @@
 package dev.abunai.impact.analysis.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
@@ -40,12 +41,38 @@ import org.palladiosimulator.pcm.usagemodel.UsageScenario;
 
 public class PropagationHelper {
 
-	private List<ActionSequence> actionSequences;
+	private final List<ActionSequence> actionSequences;
 	private final ResourceProvider resourceLoader;
+	private final PropagationIndex propagationIndex;
+
+	// Lazily looked up models, racy initialization is fine as the lookups are
+	// idempotent
+	private volatile Repository repository = null;
+	private volatile System system = null;
+	private volatile ResourceEnvironment resourceEnvironment = null;
+	private volatile CallGraph callGraph = null;
 
 	public PropagationHelper(List<ActionSequence> actionSequences, ResourceProvider resourceLoader) {
-		this.actionSequences = actionSequences;
+		this(actionSequences, resourceLoader, PropagationIndex.of(actionSequences));
+	}
+
+	public PropagationHelper(List<ActionSequence> actionSequences, ResourceProvider resourceLoader,
+			PropagationIndex propagationIndex) {
+		this.actionSequences = List.copyOf(actionSequences);
 		this.resourceLoader = resourceLoader;
+		this.propagationIndex = propagationIndex;
+	}
+
+	public PropagationIndex getPropagationIndex() {
+		return this.propagationIndex;
+	}
+
+	public CallGraph getCallGraph() {
+		if (this.callGraph == null) {
+			this.callGraph = CallGraph.of(this.actionSequences);
+		}
+
+		return this.callGraph;
 	}
 
 	public Optional<AssemblyContext> findAssemblyContext(String id) {
@@ -55,14 +82,11 @@ public class PropagationHelper {
 	}
 
 	public Optional<? extends Entity> findAction(String id) {
-		for (ActionSequence sequence : actionSequences) {
-			var candidates = sequence.getElements().stream().map(AbstractPCMActionSequenceElement.class::cast)
-					.filter(it -> EcoreUtil.getID(it.getElement()).equals(id)).toList();
+		long[] occurrences = this.propagationIndex.getOccurrences(id);
 
-			if (candidates.size() > 0) {
-				return candidates.stream().map(AbstractPCMActionSequenceElement::getElement)
-						.filter(Entity.class::isInstance).map(Entity.class::cast).findFirst();
-			}
+		if (occurrences.length > 0) {
+			return Optional.of(this.getElementAt(occurrences[0]).getElement()).filter(Entity.class::isInstance)
+					.map(Entity.class::cast);
 		}
 
 		return Optional.empty();
@@ -115,12 +139,12 @@ public class PropagationHelper {
 	public List<AbstractPCMActionSequenceElement<?>> findProccessesWithAction(Entity action) {
 		List<AbstractPCMActionSequenceElement<?>> matches = new ArrayList<>();
 
-		for (ActionSequence sequence : actionSequences) {
-			var candidates = sequence.getElements().stream().map(AbstractPCMActionSequenceElement.class::cast)
-					.filter(it -> it.getElement().equals(action)).map(it -> (AbstractPCMActionSequenceElement<?>) it)
-					.toList();
+		for (long occurrence : this.propagationIndex.getOccurrences(action.getId())) {
+			var candidate = this.getElementAt(occurrence);
 
-			matches.addAll(candidates);
+			if (candidate.getElement().equals(action)) {
+				matches.add(candidate);
+			}
 		}
 
 		return matches;
@@ -217,7 +241,20 @@ public class PropagationHelper {
 	}
 
 	public List<ActionSequence> findActionSequencesWithElement(AbstractActionSequenceElement<?> element) {
-		return actionSequences.stream().filter(it -> it.getElements().contains(element)).toList();
+		String id = PropagationIndex.getElementId(element);
+
+		if (id == null) {
+			return actionSequences.stream().filter(it -> it.getElements().contains(element)).toList();
+		}
+
+		return Arrays.stream(this.propagationIndex.getSequenceIndicesContaining(id)).mapToObj(actionSequences::get)
+				.filter(it -> it.getElements().contains(element)).toList();
+	}
+
+	private AbstractPCMActionSequenceElement<?> getElementAt(long occurrence) {
+		return (AbstractPCMActionSequenceElement<?>) actionSequences
+				.get(PropagationIndex.sequenceIndexOf(occurrence)).getElements()
+				.get(PropagationIndex.positionOf(occurrence));
 	}
 
 	private List<Deque<AssemblyContext>> findAllAssemblyContexts() {
@@ -257,11 +294,7 @@ public class PropagationHelper {
 
 		} else if (actor instanceof ResourceContainer resourceContainer) {
 
-			var allocationModel = lookupAllocationModel();
-
-			var contextsDeployedOnResource = allocationModel.getAllocationContexts_Allocation().stream()
-					.filter(it -> it.getResourceContainer_AllocationContext().equals(resourceContainer))
-					.map(it -> it.getAssemblyContext_AllocationContext()).toList();
+			var contextsDeployedOnResource = this.findAssemblyContextsDeployedOn(resourceContainer);
 
 			List<SEFFActionSequenceElement<?>> matches = new ArrayList<>();
 
@@ -280,6 +313,22 @@ public class PropagationHelper {
 		}
 	}
 
+	public List<AssemblyContext> findAssemblyContextsDeployedOn(ResourceContainer resourceContainer) {
+		return lookupAllocationModel().getAllocationContexts_Allocation().stream()
+				.filter(it -> it.getResourceContainer_AllocationContext().equals(resourceContainer))
+				.map(it -> it.getAssemblyContext_AllocationContext()).toList();
+	}
+
+	public List<ResourceContainer> findResourceContainersHosting(AssemblyContext context) {
+		return lookupAllocationModel().getAllocationContexts_Allocation().stream()
+				.filter(it -> it.getAssemblyContext_AllocationContext().equals(context))
+				.map(it -> it.getResourceContainer_AllocationContext()).distinct().toList();
+	}
+
+	public List<Connector> findAllConnectors() {
+		return List.copyOf(lookupSystemModel().getConnectors__ComposedStructure());
+	}
+
 	private <T extends NamedElement> T lookupPCMModel(EClass eclazz, Class<T> clazz) {
 		Objects.requireNonNull(eclazz);
 		Objects.requireNonNull(clazz);
@@ -296,15 +345,28 @@ public class PropagationHelper {
 	}
 
 	private Repository lookupRepositoryModel() {
-		return lookupPCMModel(RepositoryPackage.eINSTANCE.getRepository(), Repository.class);
+		if (this.repository == null) {
+			this.repository = lookupPCMModel(RepositoryPackage.eINSTANCE.getRepository(), Repository.class);
+		}
+
+		return this.repository;
 	}
 
 	private System lookupSystemModel() {
-		return lookupPCMModel(SystemPackage.eINSTANCE.getSystem(), System.class);
+		if (this.system == null) {
+			this.system = lookupPCMModel(SystemPackage.eINSTANCE.getSystem(), System.class);
+		}
+
+		return this.system;
 	}
 
 	private ResourceEnvironment lookupResourceEnvironmentModel() {
-		return lookupPCMModel(ResourceenvironmentPackage.eINSTANCE.getResourceEnvironment(), ResourceEnvironment.class);
+		if (this.resourceEnvironment == null) {
+			this.resourceEnvironment = lookupPCMModel(ResourceenvironmentPackage.eINSTANCE.getResourceEnvironment(),
+					ResourceEnvironment.class);
+		}
+
+		return this.resourceEnvironment;
 	}
 
 	private Allocation lookupAllocationModel() {
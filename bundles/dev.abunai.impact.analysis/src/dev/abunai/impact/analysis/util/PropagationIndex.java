@@ -0,0 +1,100 @@
+package dev.abunai.impact.analysis.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+public class PropagationIndex {
+
+	private static final long[] NO_OCCURRENCES = new long[0];
+
+	// Maps the ID of a PCM element to all (sequence index, element position) pairs
+	// at which it occurs, each pair packed into one long
+	private final Map<String, long[]> occurrences;
+
+	public PropagationIndex(Map<String, long[]> occurrences) {
+		this.occurrences = Collections.unmodifiableMap(occurrences);
+	}
+
+	public static PropagationIndex of(List<ActionSequence> actionSequences) {
+		Map<String, long[]> occurrences = new HashMap<>();
+		Map<String, Integer> sizes = new HashMap<>();
+
+		for (int sequenceIndex = 0; sequenceIndex < actionSequences.size(); sequenceIndex++) {
+			var elements = actionSequences.get(sequenceIndex).getElements();
+
+			for (int position = 0; position < elements.size(); position++) {
+				String id = getElementId(elements.get(position));
+
+				if (id == null) {
+					continue;
+				}
+
+				int size = sizes.getOrDefault(id, 0);
+				long[] entries = occurrences.get(id);
+
+				if (entries == null) {
+					entries = new long[2];
+				} else if (entries.length == size) {
+					entries = Arrays.copyOf(entries, size * 2);
+				}
+
+				entries[size] = pack(sequenceIndex, position);
+				occurrences.put(id, entries);
+				sizes.put(id, size + 1);
+			}
+		}
+
+		occurrences.replaceAll((id, entries) -> Arrays.copyOf(entries, sizes.get(id)));
+		return new PropagationIndex(occurrences);
+	}
+
+	public static String getElementId(Object element) {
+		if (element instanceof AbstractPCMActionSequenceElement<?> pcmElement && pcmElement.getElement() != null) {
+			return EcoreUtil.getID(pcmElement.getElement());
+		} else {
+			return null;
+		}
+	}
+
+	public static long pack(int sequenceIndex, int position) {
+		return ((long) sequenceIndex << 32) | (position & 0xFFFFFFFFL);
+	}
+
+	public static int sequenceIndexOf(long occurrence) {
+		return (int) (occurrence >>> 32);
+	}
+
+	public static int positionOf(long occurrence) {
+		return (int) occurrence;
+	}
+
+	public long[] getOccurrences(String id) {
+		if (id == null) {
+			return NO_OCCURRENCES;
+		}
+
+		return this.occurrences.getOrDefault(id, NO_OCCURRENCES);
+	}
+
+	public int[] getSequenceIndicesContaining(String id) {
+		return Arrays.stream(this.getOccurrences(id)).mapToInt(PropagationIndex::sequenceIndexOf).distinct()
+				.toArray();
+	}
+
+	public Set<String> getIndexedIds() {
+		return this.occurrences.keySet();
+	}
+
+	public int size() {
+		return this.occurrences.size();
+	}
+
+}
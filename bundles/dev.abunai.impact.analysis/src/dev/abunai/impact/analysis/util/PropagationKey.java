@@ -0,0 +1,125 @@
+package dev.abunai.impact.analysis.util;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.CallingSEFFActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.SEFFActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.user.CallingUserActionSequenceElement;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
+import org.palladiosimulator.pcm.seff.StartAction;
+
+/**
+ * A property of an action sequence element an uncertainty source maps to, e.g.,
+ * being the start action of a SEFF within a certain assembly context. Sources
+ * describe the elements they affect as keys, so the elements of all sources
+ * can be found by deriving the keys of every element once and looking them up.
+ * The PCM elements of a key are compared by identity.
+ */
+public record PropagationKey(Kind kind, Object element, Object qualifier) {
+
+	public enum Kind {
+		// Any element representing the given PCM action
+		ACTION,
+		// SEFF elements with the given assembly context in their context
+		SEFF_IN_CONTEXT,
+		// Start actions with the given assembly context in their context
+		START_ACTION_IN_CONTEXT,
+		// Start actions of SEFFs describing the given signature
+		START_ACTION_OF_SIGNATURE,
+		// Start actions of SEFFs describing the given signature within the given
+		// assembly context
+		START_ACTION_OF_SIGNATURE_IN_CONTEXT,
+		// Entry level system calls of the given usage scenario
+		ENTRY_LEVEL_CALL_OF_SCENARIO,
+		// Entry level system calls of the given signature
+		ENTRY_LEVEL_CALL_OF_SIGNATURE,
+		// Entry level system calls of the given signature via the given provided role
+		ENTRY_LEVEL_CALL_OF_SIGNATURE_VIA_ROLE,
+		// External calls of the given signature
+		EXTERNAL_CALL_OF_SIGNATURE,
+		// External calls of the given signature via the given required role
+		EXTERNAL_CALL_OF_SIGNATURE_VIA_ROLE
+	}
+
+	public static PropagationKey of(Kind kind, Object element) {
+		return new PropagationKey(kind, element, null);
+	}
+
+	public static PropagationKey of(Kind kind, Object element, Object qualifier) {
+		return new PropagationKey(kind, element, qualifier);
+	}
+
+	/**
+	 * Derives all keys of the given kinds that match the given element. Every
+	 * matching key is reported once per element, except for keys of assembly
+	 * contexts that occur several times in the context of the element.
+	 */
+	public static void keysOf(AbstractPCMActionSequenceElement<?> element, Set<Kind> kinds,
+			Consumer<PropagationKey> keys) {
+		if (kinds.contains(Kind.ACTION)) {
+			keys.accept(of(Kind.ACTION, element.getElement()));
+		}
+
+		if (element instanceof SEFFActionSequenceElement<?> seffElement) {
+			if (kinds.contains(Kind.SEFF_IN_CONTEXT)) {
+				seffElement.getContext().forEach(it -> keys.accept(of(Kind.SEFF_IN_CONTEXT, it)));
+			}
+
+			if (seffElement.getElement() instanceof StartAction startAction) {
+				if (kinds.contains(Kind.START_ACTION_IN_CONTEXT)) {
+					seffElement.getContext().forEach(it -> keys.accept(of(Kind.START_ACTION_IN_CONTEXT, it)));
+				}
+
+				if (startAction.eContainer() instanceof ResourceDemandingSEFF seff) {
+					var signature = seff.getDescribedService__SEFF();
+
+					if (kinds.contains(Kind.START_ACTION_OF_SIGNATURE)) {
+						keys.accept(of(Kind.START_ACTION_OF_SIGNATURE, signature));
+					}
+
+					if (kinds.contains(Kind.START_ACTION_OF_SIGNATURE_IN_CONTEXT)) {
+						for (AssemblyContext context : seffElement.getContext()) {
+							keys.accept(of(Kind.START_ACTION_OF_SIGNATURE_IN_CONTEXT, signature, context));
+						}
+					}
+				}
+			}
+		}
+
+		if (element instanceof CallingUserActionSequenceElement callElement) {
+			var call = callElement.getElement();
+
+			if (kinds.contains(Kind.ENTRY_LEVEL_CALL_OF_SCENARIO)) {
+				keys.accept(of(Kind.ENTRY_LEVEL_CALL_OF_SCENARIO,
+						call.getScenarioBehaviour_AbstractUserAction().getUsageScenario_SenarioBehaviour()));
+			}
+
+			if (kinds.contains(Kind.ENTRY_LEVEL_CALL_OF_SIGNATURE)) {
+				keys.accept(of(Kind.ENTRY_LEVEL_CALL_OF_SIGNATURE, call.getOperationSignature__EntryLevelSystemCall()));
+			}
+
+			if (kinds.contains(Kind.ENTRY_LEVEL_CALL_OF_SIGNATURE_VIA_ROLE)) {
+				var signature = call.getOperationSignature__EntryLevelSystemCall();
+				keys.accept(of(Kind.ENTRY_LEVEL_CALL_OF_SIGNATURE_VIA_ROLE, signature,
+						call.getProvidedRole_EntryLevelSystemCall()));
+			}
+		}
+
+		if (element instanceof CallingSEFFActionSequenceElement callElement) {
+			var call = callElement.getElement();
+
+			if (kinds.contains(Kind.EXTERNAL_CALL_OF_SIGNATURE)) {
+				keys.accept(of(Kind.EXTERNAL_CALL_OF_SIGNATURE, call.getCalledService_ExternalService()));
+			}
+
+			if (kinds.contains(Kind.EXTERNAL_CALL_OF_SIGNATURE_VIA_ROLE)) {
+				keys.accept(of(Kind.EXTERNAL_CALL_OF_SIGNATURE_VIA_ROLE, call.getCalledService_ExternalService(),
+						call.getRole_ExternalService()));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.builder.DataFlowAnalysisBuilder;
+import org.palladiosimulator.dataflow.confidentiality.analysis.builder.pcm.PCMDataFlowConfidentialityAnalysisBuilder;
+
+import dev.abunai.impact.analysis.PCMUncertaintyImpactAnalysisBuilder;
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.constraint.Constraint;
+import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.Activator;
+
+/**
+ * The models the benchmarks run against: the bundled test models and, if it is
+ * cloned into the test models project, the Corona Warn App case study.
+ */
+public enum BenchmarkModel {
+	INTERNATIONAL_ONLINE_SHOP("models", "InternationalOnlineShop", onlineShopConstraint()),
+	BRANCHING_ONLINE_SHOP("models", "BranchingOnlineShop", onlineShopConstraint()),
+	CORONA_WARN_APP_1(BenchmarkModel.CORONA_WARN_APP, "CoronaWarnApp_UncertaintyScenario1",
+			Constraint.builder().anyData("ConnectionIntercepted").anyNode("IllegalDeploymentLocation").build()),
+	CORONA_WARN_APP_2(BenchmarkModel.CORONA_WARN_APP, "CoronaWarnApp_UncertaintyScenario2",
+			Constraint.builder().anyNode("IllegalDeploymentLocation").anyData("ConfidentialDataNotExpected").build()),
+	CORONA_WARN_APP_3(BenchmarkModel.CORONA_WARN_APP, "CoronaWarnApp_UncertaintyScenario3",
+			Constraint.builder().allOf(Set.of("ConfidentialDataNotExpected"), Set.of("Laboratory"))
+					.anyData("ValidationFailed").build()),
+	CORONA_WARN_APP_4(BenchmarkModel.CORONA_WARN_APP, "CoronaWarnApp_UncertaintyScenario4",
+			Constraint.builder().anyData("KeyIssue", "RetrievedConfidentialDetails").build());
+
+	public static final String TEST_MODEL_PROJECT_NAME = "dev.abunai.impact.analysis.testmodels";
+	private static final String CORONA_WARN_APP = "casestudies/CaseStudy-CoronaWarnApp";
+	private static final String FILES_NAME = "default";
+
+	private final String baseFolder;
+	private final String folderName;
+	private final Constraint constraint;
+
+	private BenchmarkModel(String baseFolder, String folderName, Constraint constraint) {
+		this.baseFolder = baseFolder;
+		this.folderName = folderName;
+		this.constraint = constraint;
+	}
+
+	private static Constraint onlineShopConstraint() {
+		return Constraint.builder().allOf(Set.of("Personal"), Set.of("nonEU")).build();
+	}
+
+	public Constraint getConstraint() {
+		return this.constraint;
+	}
+
+	// Benchmarks are started from the benchmarks project, next to the test models
+	public boolean isAvailable() {
+		return Files.isDirectory(Paths.get("..", TEST_MODEL_PROJECT_NAME, this.baseFolder, this.folderName));
+	}
+
+	public static String[] getAvailableModelNames() {
+		return Arrays.stream(values()).filter(BenchmarkModel::isAvailable).map(Enum::name).toArray(String[]::new);
+	}
+
+	public StandalonePCMUncertaintyImpactAnalysis createAnalysis() {
+		return createAnalysis(this.baseFolder, this.folderName);
+	}
+
+	public StandalonePCMUncertaintyImpactAnalysis loadAnalysis() {
+		return loadAnalysis(this.baseFolder, this.folderName);
+	}
+
+	public static StandalonePCMUncertaintyImpactAnalysis createAnalysis(String baseFolder, String folderName) {
+		final var usageModelPath = Paths.get(baseFolder, folderName, FILES_NAME + ".usagemodel").toString();
+		final var allocationPath = Paths.get(baseFolder, folderName, FILES_NAME + ".allocation").toString();
+		final var nodeCharacteristicsPath = Paths.get(baseFolder, folderName, FILES_NAME + ".nodecharacteristics")
+				.toString();
+
+		return new DataFlowAnalysisBuilder().standalone().modelProjectName(TEST_MODEL_PROJECT_NAME)
+				.useBuilder(new PCMDataFlowConfidentialityAnalysisBuilder()).usePluginActivator(Activator.class)
+				.useUsageModel(usageModelPath).useAllocationModel(allocationPath)
+				.useNodeCharacteristicsModel(nodeCharacteristicsPath)
+				.useBuilder(new PCMUncertaintyImpactAnalysisBuilder()).build();
+	}
+
+	public static StandalonePCMUncertaintyImpactAnalysis loadAnalysis(String baseFolder, String folderName) {
+		var analysis = createAnalysis(baseFolder, folderName);
+
+		if (!analysis.initializeAnalysis()) {
+			throw new IllegalStateException("Unable to initialize the analysis of " + folderName);
+		}
+
+		return analysis;
+	}
+
+}
@@ -0,0 +1,41 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this project. The command line accepts the usual JMH
+ * options. Unless they are set explicitly, all benchmarks run against every
+ * available model and scenario and the results are written as JSON to
+ * <code>target/jmh-result.json</code>.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		var commandLineOptions = new CommandLineOptions(args);
+		var options = new OptionsBuilder().parent(commandLineOptions);
+
+		if (commandLineOptions.getIncludes().isEmpty()) {
+			options.include(BenchmarkRunner.class.getPackageName() + "\\..*Benchmark");
+		}
+
+		if (!commandLineOptions.getParameter("model").hasValue()) {
+			options.param("model", BenchmarkModel.getAvailableModelNames());
+		}
+
+		if (!commandLineOptions.getParameter("scenario").hasValue()) {
+			options.param("scenario", BenchmarkScenario.getAvailableScenarioNames());
+		}
+
+		if (!commandLineOptions.getResult().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON).result("target/jmh-result.json");
+		}
+
+		new Runner(options.build()).run();
+	}
+
+}
@@ -0,0 +1,71 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+
+/**
+ * One uncertainty source per source kind on the bundled test models, and the
+ * uncertainty sources of the Corona Warn App evaluation scenarios.
+ */
+public enum BenchmarkScenario {
+	COMPONENT(BenchmarkModel.INTERNATIONAL_ONLINE_SHOP,
+			it -> it.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg")),
+	BEHAVIOR_SET_VARIABLE(BenchmarkModel.INTERNATIONAL_ONLINE_SHOP,
+			it -> it.addBehaviorUncertaintyInSetVariableAction("_tMGKUITmEeywmO_IpTxeAg")),
+	ACTOR_RESOURCE_CONTAINER(BenchmarkModel.INTERNATIONAL_ONLINE_SHOP,
+			it -> it.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg")),
+	ACTOR_USAGE_SCENARIO(BenchmarkModel.INTERNATIONAL_ONLINE_SHOP,
+			it -> it.addActorUncertaintyInUsageScenario("_LPnI8CHdEd6lJo4DCALHMw")),
+	INTERFACE(BenchmarkModel.INTERNATIONAL_ONLINE_SHOP,
+			it -> it.addInterfaceUncertaintyInInterface("_XGAZwITiEeywmO_IpTxeAg")),
+	INTERFACE_SIGNATURE(BenchmarkModel.INTERNATIONAL_ONLINE_SHOP,
+			it -> it.addInterfaceUncertaintyInSignature("_YWtP0ITmEeywmO_IpTxeAg")),
+	CONNECTOR(BenchmarkModel.INTERNATIONAL_ONLINE_SHOP,
+			it -> it.addConnectorUncertaintyInConnector("_BYWIkITkEeywmO_IpTxeAg")),
+	BEHAVIOR_ENTRY_LEVEL_SYSTEM_CALL(BenchmarkModel.BRANCHING_ONLINE_SHOP,
+			it -> it.addBehaviorUncertaintyInEntryLevelSystemCall("_hq6RAITkEeywmO_IpTxeAg")),
+	BEHAVIOR_BRANCH(BenchmarkModel.BRANCHING_ONLINE_SHOP,
+			it -> it.addBehaviorUncertaintyInBranch("_tmNjQNv1EeyYrpd_1AtxSw")),
+	BEHAVIOR_EXTERNAL_CALL(BenchmarkModel.BRANCHING_ONLINE_SHOP,
+			it -> it.addBehaviorUncertaintyInExternalCallAction("_QqAdMNv2EeyYrpd_1AtxSw")),
+	CORONA_WARN_APP_1(BenchmarkModel.CORONA_WARN_APP_1, it -> {
+		it.addConnectorUncertaintyInConnector("_w-qoYLNzEe2o46d27a6tVQ");
+		it.addActorUncertaintyInResourceContainer("_E9SLkLN3Ee2o46d27a6tVQ");
+	}),
+	CORONA_WARN_APP_2(BenchmarkModel.CORONA_WARN_APP_2, it -> {
+		it.addActorUncertaintyInResourceContainer("_wqni4MP5Ee2NifGpaUwYsQ");
+		it.addBehaviorUncertaintyInExternalCallAction("_YIPkQLm8Ee2dIMSi7oNVYQ");
+	}),
+	CORONA_WARN_APP_3(BenchmarkModel.CORONA_WARN_APP_3, it -> {
+		it.addBehaviorUncertaintyInSetVariableAction("_gK7oULm8Ee2dIMSi7oNVYQ");
+		it.addBehaviorUncertaintyInExternalCallAction("_kSKnoLm1Ee2dIMSi7oNVYQ");
+	}),
+	CORONA_WARN_APP_4(BenchmarkModel.CORONA_WARN_APP_4, it -> {
+		it.addComponentUncertaintyInAssemblyContext("_v1LV8LNhEe2o46d27a6tVQ");
+		it.addInterfaceUncertaintyInInterface("_FC4gkLHzEe2fRLFFhL_FWA");
+	});
+
+	private final BenchmarkModel model;
+	private final Consumer<UncertaintySourceCollection> uncertaintySources;
+
+	private BenchmarkScenario(BenchmarkModel model, Consumer<UncertaintySourceCollection> uncertaintySources) {
+		this.model = model;
+		this.uncertaintySources = uncertaintySources;
+	}
+
+	public BenchmarkModel getModel() {
+		return this.model;
+	}
+
+	public void addUncertaintySources(UncertaintySourceCollection uncertaintySourceCollection) {
+		this.uncertaintySources.accept(uncertaintySourceCollection);
+	}
+
+	public static String[] getAvailableScenarioNames() {
+		return Arrays.stream(values()).filter(it -> it.getModel().isAvailable()).map(Enum::name)
+				.toArray(String[]::new);
+	}
+
+}
@@ -0,0 +1,92 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.AbstractActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.constraint.CharacteristicInterner;
+import dev.abunai.impact.analysis.constraint.CharacteristicMasks;
+import dev.abunai.impact.analysis.constraint.CompiledConstraint;
+
+/**
+ * Measures the label propagation of the confidentiality analysis and querying
+ * its results with the constraint of the model, both with a predicate on the
+ * individual elements and with the constraint compiled against precomputed
+ * characteristic masks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class EvaluationBenchmark {
+
+	@Param({ "INTERNATIONAL_ONLINE_SHOP", "BRANCHING_ONLINE_SHOP" })
+	public BenchmarkModel model;
+
+	private StandalonePCMUncertaintyImpactAnalysis analysis;
+	private List<ActionSequence> actionSequences;
+	private List<ActionSequence> evaluatedSequences;
+	private Predicate<AbstractActionSequenceElement<?>> predicate;
+	private CharacteristicMasks characteristicMasks;
+	private CompiledConstraint compiledConstraint;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.analysis = this.model.loadAnalysis();
+		this.actionSequences = this.analysis.getActionSequences();
+		this.evaluatedSequences = this.analysis.evaluateDataFlows(this.actionSequences);
+
+		this.predicate = this.model.getConstraint().compile(new CharacteristicInterner()).asPredicate();
+		this.characteristicMasks = CharacteristicMasks.of(this.evaluatedSequences);
+		this.compiledConstraint = this.characteristicMasks.compile(this.model.getConstraint());
+	}
+
+	@Benchmark
+	public List<ActionSequence> evaluateDataFlows() {
+		return this.analysis.evaluateDataFlows(this.actionSequences);
+	}
+
+	@Benchmark
+	public void queryWithPredicate(Blackhole blackhole) {
+		for (ActionSequence sequence : this.evaluatedSequences) {
+			blackhole.consume(this.analysis.queryDataFlow(sequence, this.predicate));
+		}
+	}
+
+	@Benchmark
+	public void queryWithCompiledConstraint(Blackhole blackhole) {
+		for (int i = 0; i < this.evaluatedSequences.size(); i++) {
+			blackhole.consume(this.compiledConstraint.queryDataFlow(this.characteristicMasks, i));
+		}
+	}
+
+	@Benchmark
+	public void evaluateAndQuery(Blackhole blackhole) {
+		var masks = CharacteristicMasks.of(this.analysis.evaluateDataFlows(this.actionSequences));
+		var constraint = masks.compile(this.model.getConstraint());
+
+		for (int i = 0; i < masks.getEvaluatedSequences().size(); i++) {
+			blackhole.consume(constraint.queryDataFlow(masks, i));
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+
+/**
+ * Measures computing the impact set from the impacts of an already propagated
+ * scenario.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ImpactSetBenchmark {
+
+	@Param({ "COMPONENT", "ACTOR_RESOURCE_CONTAINER", "INTERFACE", "CONNECTOR", "BEHAVIOR_BRANCH" })
+	public BenchmarkScenario scenario;
+
+	@Param({ "true", "false" })
+	public boolean distinct;
+
+	private UncertaintyImpactCollection impacts;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		var analysis = this.scenario.getModel().loadAnalysis();
+		this.scenario.addUncertaintySources(analysis.getUncertaintySources());
+		this.impacts = analysis.propagate();
+	}
+
+	@Benchmark
+	public Set<ActionSequence> getImpactSet() {
+		// A fresh collection, as the impact sets are memoized
+		return new UncertaintyImpactCollection(this.impacts.getActionSequences(), this.impacts.getUncertaintyImpacts())
+				.getImpactSet(this.distinct);
+	}
+
+}
@@ -0,0 +1,40 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+
+/**
+ * Measures loading the models, finding all sequences and building the
+ * propagation index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class InitializationBenchmark {
+
+	@Param({ "INTERNATIONAL_ONLINE_SHOP", "BRANCHING_ONLINE_SHOP" })
+	public BenchmarkModel model;
+
+	@Benchmark
+	public StandalonePCMUncertaintyImpactAnalysis initializeAnalysis() {
+		var analysis = this.model.createAnalysis();
+		analysis.initializeAnalysis();
+		return analysis;
+	}
+
+}
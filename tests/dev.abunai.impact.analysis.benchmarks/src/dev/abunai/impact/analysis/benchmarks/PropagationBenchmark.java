@@ -0,0 +1,52 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+
+/**
+ * Measures the propagation of the uncertainty sources of a scenario on an
+ * already initialized analysis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class PropagationBenchmark {
+
+	@Param({ "COMPONENT", "BEHAVIOR_SET_VARIABLE", "ACTOR_RESOURCE_CONTAINER", "ACTOR_USAGE_SCENARIO", "INTERFACE",
+			"INTERFACE_SIGNATURE", "CONNECTOR", "BEHAVIOR_ENTRY_LEVEL_SYSTEM_CALL", "BEHAVIOR_BRANCH",
+			"BEHAVIOR_EXTERNAL_CALL" })
+	public BenchmarkScenario scenario;
+
+	private UncertaintySourceCollection uncertaintySources;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		var analysis = this.scenario.getModel().loadAnalysis();
+		this.uncertaintySources = analysis.createUncertaintySourceCollection();
+		this.scenario.addUncertaintySources(this.uncertaintySources);
+	}
+
+	@Benchmark
+	public UncertaintyImpactCollection propagate() {
+		return this.uncertaintySources.propagate();
+	}
+
+}
@@ -0,0 +1,199 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.CallingSEFFActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.seff.SEFFActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.user.CallingUserActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationPackage;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.Connector;
+import org.palladiosimulator.pcm.core.entity.Entity;
+import org.palladiosimulator.pcm.repository.OperationInterface;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.seff.StartAction;
+import org.palladiosimulator.pcm.system.System;
+import org.palladiosimulator.pcm.system.SystemPackage;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+
+import dev.abunai.impact.analysis.util.PropagationHelper;
+
+/**
+ * Measures the individual lookups of the {@link PropagationHelper} the
+ * uncertainty sources use to find their impacts. The looked up entities are
+ * picked from the loaded model, so every model can be benchmarked without
+ * hard-coded identifiers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class PropagationHelperBenchmark {
+
+	@Param({ "INTERNATIONAL_ONLINE_SHOP", "BRANCHING_ONLINE_SHOP" })
+	public BenchmarkModel model;
+
+	private PropagationHelper propagationHelper;
+
+	private AbstractPCMActionSequenceElement<?> element;
+	private Entity action;
+	private AssemblyContext assemblyContext;
+	private OperationInterface interfaze;
+	private OperationSignature signature;
+	private Connector connector;
+	private ResourceContainer resourceContainer;
+	private UsageScenario usageScenario;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		var analysis = this.model.loadAnalysis();
+		var core = analysis.getCore();
+		this.propagationHelper = core.getPropagationHelper();
+
+		List<AbstractPCMActionSequenceElement<?>> elements = core.getActionSequences().stream()
+				.flatMap(it -> it.getElements().stream()).map(it -> (AbstractPCMActionSequenceElement<?>) it)
+				.toList();
+
+		// The middle of the longest sequence is neither trivially found nor at the end
+		ActionSequence longestSequence = core.getActionSequences().stream()
+				.max(Comparator.comparingInt(it -> it.getElements().size())).orElseThrow();
+		this.element = (AbstractPCMActionSequenceElement<?>) longestSequence.getElements()
+				.get(longestSequence.getElements().size() / 2);
+		this.action = (Entity) this.element.getElement();
+
+		this.assemblyContext = elements.stream().filter(SEFFActionSequenceElement.class::isInstance)
+				.map(it -> it.getContext().peekLast()).filter(it -> it != null).findFirst().orElseThrow();
+
+		var externalCall = elements.stream().filter(CallingSEFFActionSequenceElement.class::isInstance)
+				.map(CallingSEFFActionSequenceElement.class::cast).findFirst();
+		var entryLevelSystemCall = elements.stream().filter(CallingUserActionSequenceElement.class::isInstance)
+				.map(CallingUserActionSequenceElement.class::cast).findFirst().orElseThrow();
+
+		this.signature = externalCall.map(it -> it.getElement().getCalledService_ExternalService())
+				.orElseGet(() -> entryLevelSystemCall.getElement().getOperationSignature__EntryLevelSystemCall());
+		this.interfaze = this.signature.getInterface__OperationSignature();
+		this.usageScenario = entryLevelSystemCall.getElement().getScenarioBehaviour_AbstractUserAction()
+				.getUsageScenario_SenarioBehaviour();
+
+		var resourceProvider = core.getResourceProvider();
+		this.connector = resourceProvider.lookupElementOfType(SystemPackage.eINSTANCE.getSystem()).stream()
+				.map(System.class::cast).flatMap(it -> it.getConnectors__ComposedStructure().stream()).findFirst()
+				.orElseThrow();
+		this.resourceContainer = resourceProvider.lookupElementOfType(AllocationPackage.eINSTANCE.getAllocation())
+				.stream().map(Allocation.class::cast).flatMap(it -> it.getAllocationContexts_Allocation().stream())
+				.map(it -> it.getResourceContainer_AllocationContext()).findFirst().orElseThrow();
+	}
+
+	@Benchmark
+	public Optional<? extends Entity> findAction() {
+		return this.propagationHelper.findAction(this.action.getId());
+	}
+
+	@Benchmark
+	public Optional<AssemblyContext> findAssemblyContext() {
+		return this.propagationHelper.findAssemblyContext(this.assemblyContext.getId());
+	}
+
+	@Benchmark
+	public Optional<OperationInterface> findInterface() {
+		return this.propagationHelper.findInterface(this.interfaze.getId());
+	}
+
+	@Benchmark
+	public Optional<OperationSignature> findSignature() {
+		return this.propagationHelper.findSignature(this.signature.getId());
+	}
+
+	@Benchmark
+	public Optional<Connector> findConnector() {
+		return this.propagationHelper.findConnector(this.connector.getId());
+	}
+
+	@Benchmark
+	public Optional<ResourceContainer> findResourceContainer() {
+		return this.propagationHelper.findResourceContainer(this.resourceContainer.getId());
+	}
+
+	@Benchmark
+	public Optional<UsageScenario> findUsageScenario() {
+		return this.propagationHelper.findUsageScenario(this.usageScenario.getId());
+	}
+
+	@Benchmark
+	public List<SEFFActionSequenceElement<StartAction>> findStartActionsOfAssemblyContext() {
+		return this.propagationHelper.findStartActionsOfAssemblyContext(this.assemblyContext);
+	}
+
+	@Benchmark
+	public List<AbstractPCMActionSequenceElement<?>> findProccessesWithAction() {
+		return this.propagationHelper.findProccessesWithAction(this.action);
+	}
+
+	@Benchmark
+	public List<CallingUserActionSequenceElement> findEntryLevelSystemCallsViaInterface() {
+		return this.propagationHelper.findEntryLevelSystemCallsViaInterface(this.interfaze);
+	}
+
+	@Benchmark
+	public List<CallingUserActionSequenceElement> findEntryLevelSystemCallsViaSignature() {
+		return this.propagationHelper.findEntryLevelSystemCallsViaSignature(this.signature);
+	}
+
+	@Benchmark
+	public List<CallingSEFFActionSequenceElement> findExternalCallsViaInterface() {
+		return this.propagationHelper.findExternalCallsViaInterface(this.interfaze);
+	}
+
+	@Benchmark
+	public List<CallingSEFFActionSequenceElement> findExternalCallsViaSignature() {
+		return this.propagationHelper.findExternalCallsViaSignature(this.signature);
+	}
+
+	@Benchmark
+	public List<SEFFActionSequenceElement<StartAction>> findStartActionsOfSEFFsThatImplementInterface() {
+		return this.propagationHelper.findStartActionsOfSEFFsThatImplement(this.interfaze);
+	}
+
+	@Benchmark
+	public List<SEFFActionSequenceElement<StartAction>> findStartActionsOfSEFFsThatImplementSignature() {
+		return this.propagationHelper.findStartActionsOfSEFFsThatImplement(this.signature);
+	}
+
+	@Benchmark
+	public List<ActionSequence> findActionSequencesWithElement() {
+		return this.propagationHelper.findActionSequencesWithElement(this.element);
+	}
+
+	@Benchmark
+	public List<? extends AbstractPCMActionSequenceElement<?>> findProcessesOfResourceContainer() {
+		return this.propagationHelper
+				.findProcessesThatRepresentResourceContainerOrUsageScenario(this.resourceContainer);
+	}
+
+	@Benchmark
+	public List<? extends AbstractPCMActionSequenceElement<?>> findProcessesOfUsageScenario() {
+		return this.propagationHelper.findProcessesThatRepresentResourceContainerOrUsageScenario(this.usageScenario);
+	}
+
+}
@@ -0,0 +1,104 @@
+package dev.abunai.impact.analysis.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.constraint.CharacteristicMasks;
+import dev.abunai.impact.analysis.constraint.Constraint;
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.ScalableModelGenerator;
+import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.ScalableModelGenerator.Parameters;
+
+/**
+ * Measures how propagation, impact set computation and evaluation scale with
+ * the size of models created by the {@link ScalableModelGenerator}. The
+ * uncertainty is placed in a component of the last layer, so its impacts are
+ * found in the data flows through every layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ScalingBenchmark {
+
+	@Param({ "10", "50", "200" })
+	public int components;
+
+	@Param({ "2" })
+	public int interfaceFanOut;
+
+	@Param({ "3" })
+	public int callDepth;
+
+	@Param({ "0", "2" })
+	public int branchCount;
+
+	@Param({ "2" })
+	public int branchWidth;
+
+	private StandalonePCMUncertaintyImpactAnalysis analysis;
+	private UncertaintySourceCollection uncertaintySources;
+	private UncertaintyImpactCollection impacts;
+	private Constraint constraint;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		var parameters = new Parameters(this.components, this.interfaceFanOut, this.callDepth, this.branchCount,
+				this.branchWidth);
+		new ScalableModelGenerator(parameters).generateInto(Paths.get("..", BenchmarkModel.TEST_MODEL_PROJECT_NAME));
+
+		this.analysis = BenchmarkModel.loadAnalysis(ScalableModelGenerator.BASE_FOLDER, parameters.getFolderName());
+		this.uncertaintySources = this.analysis.createUncertaintySourceCollection();
+		this.uncertaintySources.addComponentUncertaintyInAssemblyContext(
+				ScalableModelGenerator.getAssemblyContextId(this.components - 1));
+		this.impacts = this.uncertaintySources.propagate();
+		this.constraint = Constraint.builder().allOf(Set.of("Personal"), Set.of("nonEU")).build();
+	}
+
+	@Benchmark
+	public UncertaintyImpactCollection propagate() {
+		return this.uncertaintySources.propagate();
+	}
+
+	@Benchmark
+	public Set<ActionSequence> getImpactSet() {
+		// A fresh collection, as the impact sets are memoized
+		return new UncertaintyImpactCollection(this.impacts.getActionSequences(), this.impacts.getUncertaintyImpacts())
+				.getImpactSet(true);
+	}
+
+	@Benchmark
+	public int evaluateAndQuery() {
+		List<ActionSequence> evaluatedSequences = this.analysis.evaluateDataFlows(this.analysis.getActionSequences());
+		var masks = CharacteristicMasks.of(evaluatedSequences);
+		var compiledConstraint = masks.compile(this.constraint);
+
+		int violations = 0;
+		for (int i = 0; i < evaluatedSequences.size(); i++) {
+			violations += compiledConstraint.queryDataFlow(masks, i).size();
+		}
+		return violations;
+	}
+
+}
@@ -0,0 +1,557 @@
+package edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Generates synthetic PCM models of configurable size for load testing. The
+ * components are arranged in layers of the call depth, each component of a
+ * layer requires a number of interfaces of the next layer and every SEFF may
+ * contain branches whose transitions call different required interfaces. The
+ * generated models use the same data dictionary as the online shop models: the
+ * entry level system calls pass <code>Personal</code> data and the resource
+ * containers of odd layers are located <code>nonEU</code>.
+ */
+public class ScalableModelGenerator {
+
+	public static final String BASE_FOLDER = "generated";
+	public static final String FILES_NAME = "default";
+
+	private static final String DICTIONARY_ID = "_AQnL0IThEeywmO_IpTxeAg";
+	private static final String SENSITIVITY_TYPE = "dic.pddc#" + DICTIONARY_ID + "-characteristicTypes@0";
+	private static final String LOCATION_TYPE = "dic.pddc#" + DICTIONARY_ID + "-characteristicTypes@1";
+	private static final String SENSITIVITY_LITERAL = "dic.pddc#" + DICTIONARY_ID
+			+ "-characteristicEnumerations@0.literals@";
+	private static final String LOCATION_LITERAL = "dic.pddc#" + DICTIONARY_ID
+			+ "-characteristicEnumerations@1.literals@";
+
+	private static final String DICTIONARY_NAMESPACE = "http://palladiosimulator.org/dataflow/dictionary/"
+			+ "characterized/1.0";
+	private static final String VARIABLE_CHARACTERISATION = "<variableCharacterisation_VariableUsage "
+			+ "xsi:type=\"confidentiality:ConfidentialityVariableCharacterisation\">";
+	private static final String DATA_REFERENCE = "<namedReference__VariableUsage "
+			+ "xsi:type=\"stoex:VariableReference\" referenceName=\"data\"/>";
+
+	private static final String NAMESPACES = "xmlns:xmi=\"http://www.omg.org/XMI\" "
+			+ "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
+			+ "xmlns:DataDictionaryCharacterized=\"" + DICTIONARY_NAMESPACE + "\" "
+			+ "xmlns:confidentiality=\"http://palladiosimulator.org/dataflow/confidentiality/pcm/0.1.0\" "
+			+ "xmlns:expression=\"http://palladiosimulator.org/dataflow/confidentiality/pcm/0.1.0/expression\" "
+			+ "xmlns:expressions=\"http://palladiosimulator.org/dataflow/dictionary/characterized/expressions/1.0\" "
+			+ "xmlns:stoex=\"http://sdq.ipd.uka.de/StochasticExpressions/2.2\"";
+
+	/**
+	 * The size of a generated model.
+	 *
+	 * @param components      The number of components, at least one per layer.
+	 * @param interfaceFanOut The number of interfaces every component requires
+	 *                        from the next layer.
+	 * @param callDepth       The number of layers, i.e., the depth of the call
+	 *                        hierarchy.
+	 * @param branchCount     The number of consecutive branches in every SEFF.
+	 * @param branchWidth     The number of transitions of every branch.
+	 */
+	public record Parameters(int components, int interfaceFanOut, int callDepth, int branchCount,
+			int branchWidth) {
+
+		public Parameters {
+			if (callDepth < 1 || components < callDepth) {
+				throw new IllegalArgumentException("At least one component per layer is required.");
+			}
+
+			if (interfaceFanOut < 1 || branchCount < 0 || branchWidth < 1) {
+				throw new IllegalArgumentException(
+						"The interface fan-out and branch width must be positive, the branch count not negative.");
+			}
+		}
+
+		public String getFolderName() {
+			return String.format("Scalable_C%d_F%d_D%d_B%d_W%d", this.components, this.interfaceFanOut,
+					this.callDepth, this.branchCount, this.branchWidth);
+		}
+
+	}
+
+	private record Step(String id, String type, String entityName, String attributes,
+			BiConsumer<StringBuilder, Integer> content) {
+	}
+
+	private final Parameters parameters;
+
+	public ScalableModelGenerator(Parameters parameters) {
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Generates the model into {@link #BASE_FOLDER} of the test model project, so
+	 * it can be loaded like the bundled models.
+	 *
+	 * @param testModelProject The folder of the test model project.
+	 * @return The folder the model files were written to.
+	 * @throws IOException If the model files cannot be written.
+	 */
+	public Path generateInto(Path testModelProject) throws IOException {
+		Path modelFolder = testModelProject.resolve(BASE_FOLDER).resolve(this.parameters.getFolderName());
+		this.generate(modelFolder);
+		return modelFolder;
+	}
+
+	public void generate(Path modelFolder) throws IOException {
+		Files.createDirectories(modelFolder);
+
+		write(modelFolder, "dic.pddc", this.createDictionary());
+		write(modelFolder, FILES_NAME + ".repository", this.createRepository());
+		write(modelFolder, FILES_NAME + ".system", this.createSystem());
+		write(modelFolder, FILES_NAME + ".resourceenvironment", this.createResourceEnvironment());
+		write(modelFolder, FILES_NAME + ".allocation", this.createAllocation());
+		write(modelFolder, FILES_NAME + ".usagemodel", this.createUsageModel());
+		write(modelFolder, FILES_NAME + ".nodecharacteristics", this.createNodeCharacteristics());
+	}
+
+	public static String getComponentId(int component) {
+		return "_Component" + component;
+	}
+
+	public static String getAssemblyContextId(int component) {
+		return "_AssemblyContext" + component;
+	}
+
+	public static String getInterfaceId(int component) {
+		return "_Interface" + component;
+	}
+
+	public static String getSignatureId(int component) {
+		return "_Signature" + component;
+	}
+
+	public static String getResourceContainerId(int layer) {
+		return "_ResourceContainer" + layer;
+	}
+
+	public static String getConnectorId(int component, int requiredRole) {
+		return "_Connector" + component + "_" + requiredRole;
+	}
+
+	public int getLayer(int component) {
+		return component * this.parameters.callDepth() / this.parameters.components();
+	}
+
+	public List<Integer> getComponentsOfLayer(int layer) {
+		List<Integer> components = new ArrayList<>();
+
+		for (int component = 0; component < this.parameters.components(); component++) {
+			if (this.getLayer(component) == layer) {
+				components.add(component);
+			}
+		}
+
+		return components;
+	}
+
+	// The k-th required role of a component references a component of the next
+	// layer, shifted by the position of the requiring component in its own layer
+	public List<Integer> getRequiredComponents(int component) {
+		int layer = this.getLayer(component);
+
+		if (layer == this.parameters.callDepth() - 1) {
+			return List.of();
+		}
+
+		int position = this.getComponentsOfLayer(layer).indexOf(component);
+		List<Integer> nextLayer = this.getComponentsOfLayer(layer + 1);
+		List<Integer> requiredComponents = new ArrayList<>();
+
+		for (int k = 0; k < this.parameters.interfaceFanOut(); k++) {
+			requiredComponents.add(nextLayer.get((position + k) % nextLayer.size()));
+		}
+
+		return requiredComponents;
+	}
+
+	private String createDictionary() {
+		return "dictionary id \"" + DICTIONARY_ID + "\"\n\n" + "enum Sensitivity {\n\tPersonal\n\tPublic\n}\n\n"
+				+ "enum Location {\n\tEU\n\tnonEU\n}\n\n" + "enumCharacteristicType DataSensitivity using Sensitivity\n"
+				+ "enumCharacteristicType ServerLocation using Location";
+	}
+
+	private String createRepository() {
+		var xml = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<repository:Repository xmi:version=\"2.0\" ").append(NAMESPACES)
+				.append(" xmlns:repository=\"http://palladiosimulator.org/PalladioComponentModel/Repository/5.2\"")
+				.append(" xmlns:seff=\"http://palladiosimulator.org/PalladioComponentModel/SEFF/5.2\"")
+				.append(" id=\"_Repository\" entityName=\"ScalableRepository\">\n");
+
+		for (int component = 0; component < this.parameters.components(); component++) {
+			List<Integer> requiredComponents = this.getRequiredComponents(component);
+
+			line(xml, 1, "<components__Repository xsi:type=\"repository:BasicComponent\" id=\"%s\" entityName=\"%s\">",
+					getComponentId(component), "Component" + component);
+			line(xml, 2,
+					"<providedRoles_InterfaceProvidingEntity xsi:type=\"repository:OperationProvidedRole\" id=\"%s\" "
+							+ "entityName=\"Component%d.Interface%d\" "
+							+ "providedInterface__OperationProvidedRole=\"%s\"/>",
+					getProvidedRoleId(component), component, component, getInterfaceId(component));
+
+			for (int k = 0; k < requiredComponents.size(); k++) {
+				line(xml, 2,
+						"<requiredRoles_InterfaceRequiringEntity xsi:type=\"repository:OperationRequiredRole\" "
+								+ "id=\"%s\" entityName=\"Component%d.Interface%d\" "
+								+ "requiredInterface__OperationRequiredRole=\"%s\"/>",
+						getRequiredRoleId(component, k), component, requiredComponents.get(k),
+						getInterfaceId(requiredComponents.get(k)));
+			}
+
+			String seffId = "_Seff" + component;
+			line(xml, 2,
+					"<serviceEffectSpecifications__BasicComponent xsi:type=\"seff:ResourceDemandingSEFF\" id=\"%s\" "
+							+ "describedService__SEFF=\"%s\">",
+					seffId, getSignatureId(component));
+			writeSteps(xml, 3, seffId, this.createSeffSteps(component, seffId));
+			line(xml, 2, "</serviceEffectSpecifications__BasicComponent>");
+			line(xml, 1, "</components__Repository>");
+		}
+
+		for (int component = 0; component < this.parameters.components(); component++) {
+			line(xml, 1,
+					"<interfaces__Repository xsi:type=\"repository:OperationInterface\" id=\"%s\" "
+							+ "entityName=\"Interface%d\">",
+					getInterfaceId(component), component);
+			line(xml, 2,
+					"<signatures__OperationInterface id=\"%s\" entityName=\"process%d\" "
+							+ "returnType__OperationSignature=\"_Data\">",
+					getSignatureId(component), component);
+			line(xml, 3, "<parameters__OperationSignature dataType__Parameter=\"_Data\" parameterName=\"data\"/>");
+			line(xml, 2, "</signatures__OperationInterface>");
+			line(xml, 1, "</interfaces__Repository>");
+		}
+
+		line(xml, 1,
+				"<dataTypes__Repository xsi:type=\"repository:CompositeDataType\" id=\"_Data\" entityName=\"Data\"/>");
+		xml.append("</repository:Repository>\n");
+		return xml.toString();
+	}
+
+	// Branches come first, each transition calls another required interface or, in
+	// the last layer, declares the returned data public or personal. All required
+	// interfaces are called after the branches.
+	private List<Step> createSeffSteps(int component, String seffId) {
+		List<Integer> requiredComponents = this.getRequiredComponents(component);
+		List<Step> steps = new ArrayList<>();
+
+		for (int branch = 0; branch < this.parameters.branchCount(); branch++) {
+			String branchId = seffId + "_Branch" + branch;
+			int firstTransition = branch * this.parameters.branchWidth();
+
+			steps.add(new Step(branchId, "seff:BranchAction", "Branch" + branch, "", (xml, depth) -> {
+				for (int w = 0; w < this.parameters.branchWidth(); w++) {
+					String transitionId = branchId + "_Transition" + w;
+					Step transitionStep = requiredComponents.isEmpty()
+							? createSetReturnStep(transitionId + "_SetReturn", (firstTransition + w) % 2)
+							: createExternalCallStep(transitionId + "_Call", component,
+									(firstTransition + w) % requiredComponents.size(),
+									requiredComponents.get((firstTransition + w) % requiredComponents.size()));
+
+					line(xml, depth,
+							"<branches_Branch xsi:type=\"seff:ProbabilisticBranchTransition\" id=\"%s\" "
+									+ "entityName=\"Transition%d\" branchProbability=\"%s\">",
+							transitionId, w, Double.toString(1.0 / this.parameters.branchWidth()));
+					line(xml, depth + 1, "<branchBehaviour_BranchTransition id=\"%s_Behaviour\">", transitionId);
+					writeSteps(xml, depth + 2, transitionId, List.of(transitionStep));
+					line(xml, depth + 1, "</branchBehaviour_BranchTransition>");
+					line(xml, depth, "</branches_Branch>");
+				}
+			}));
+		}
+
+		for (int k = 0; k < requiredComponents.size(); k++) {
+			steps.add(createExternalCallStep(seffId + "_Call" + k, component, k, requiredComponents.get(k)));
+		}
+
+		return steps;
+	}
+
+	private static Step createExternalCallStep(String id, int component, int requiredRole, int calledComponent) {
+		return new Step(id, "seff:ExternalCallAction", "CallComponent" + calledComponent,
+				String.format(" calledService_ExternalService=\"%s\" role_ExternalService=\"%s\"",
+						getSignatureId(calledComponent), getRequiredRoleId(component, requiredRole)),
+				(xml, depth) -> {
+					line(xml, depth, "<inputVariableUsages__CallAction>");
+					writeForwardedCharacterisation(xml, depth + 1, id, "data");
+					line(xml, depth + 1, DATA_REFERENCE);
+					line(xml, depth, "</inputVariableUsages__CallAction>");
+				});
+	}
+
+	private static Step createSetReturnStep(String id, int sensitivityLiteral) {
+		return new Step(id, "seff:SetVariableAction", "RETURN", "", (xml, depth) -> {
+			line(xml, depth, "<localVariableUsages_SetVariableAction>");
+			writeLiteralCharacterisation(xml, depth + 1, id, sensitivityLiteral);
+			line(xml, depth + 1,
+					"<namedReference__VariableUsage xsi:type=\"stoex:VariableReference\" referenceName=\"RETURN\"/>");
+			line(xml, depth, "</localVariableUsages_SetVariableAction>");
+		});
+	}
+
+	private static void writeSteps(StringBuilder xml, int depth, String behaviourId, List<Step> steps) {
+		String startId = behaviourId + "_Start";
+		String stopId = behaviourId + "_Stop";
+		String firstId = steps.isEmpty() ? stopId : steps.get(0).id();
+		String lastId = steps.isEmpty() ? startId : steps.get(steps.size() - 1).id();
+
+		line(xml, depth, "<steps_Behaviour xsi:type=\"seff:StartAction\" id=\"%s\" successor_AbstractAction=\"%s\"/>",
+				startId, firstId);
+		line(xml, depth, "<steps_Behaviour xsi:type=\"seff:StopAction\" id=\"%s\" predecessor_AbstractAction=\"%s\"/>",
+				stopId, lastId);
+
+		for (int i = 0; i < steps.size(); i++) {
+			Step step = steps.get(i);
+			String predecessor = i == 0 ? startId : steps.get(i - 1).id();
+			String successor = i == steps.size() - 1 ? stopId : steps.get(i + 1).id();
+
+			line(xml, depth,
+					"<steps_Behaviour xsi:type=\"%s\" id=\"%s\" entityName=\"%s\" predecessor_AbstractAction=\"%s\" "
+							+ "successor_AbstractAction=\"%s\"%s>",
+					step.type(), step.id(), step.entityName(), predecessor, successor, step.attributes());
+			step.content().accept(xml, depth + 1);
+			line(xml, depth, "</steps_Behaviour>");
+		}
+	}
+
+	private static void writeForwardedCharacterisation(StringBuilder xml, int depth, String id, String variable) {
+		line(xml, depth, VARIABLE_CHARACTERISATION);
+		line(xml, depth + 1, "<specification_VariableCharacterisation specification=\"false\"/>");
+		line(xml, depth + 1, "<lhs xsi:type=\"expression:LhsEnumCharacteristicReference\" id=\"%s_Lhs\"/>", id);
+		line(xml, depth + 1, "<rhs xsi:type=\"expression:NamedEnumCharacteristicReference\" id=\"%s_Rhs\">", id);
+		line(xml, depth + 2, "<namedReference xsi:type=\"stoex:VariableReference\" referenceName=\"%s\"/>", variable);
+		line(xml, depth + 1, "</rhs>");
+		line(xml, depth, "</variableCharacterisation_VariableUsage>");
+	}
+
+	private static void writeLiteralCharacterisation(StringBuilder xml, int depth, String id, int sensitivityLiteral) {
+		line(xml, depth, VARIABLE_CHARACTERISATION);
+		line(xml, depth + 1, "<specification_VariableCharacterisation specification=\"false\"/>");
+		line(xml, depth + 1, "<lhs xsi:type=\"expression:LhsEnumCharacteristicReference\" id=\"%s_Lhs\">", id);
+		line(xml, depth + 2,
+				"<characteristicType xsi:type=\"DataDictionaryCharacterized:EnumCharacteristicType\" href=\"%s\"/>",
+				SENSITIVITY_TYPE);
+		line(xml, depth + 2, "<literal href=\"%s%d\"/>", SENSITIVITY_LITERAL, sensitivityLiteral);
+		line(xml, depth + 1, "</lhs>");
+		line(xml, depth + 1, "<rhs xsi:type=\"expressions:True\" id=\"%s_Rhs\"/>", id);
+		line(xml, depth, "</variableCharacterisation_VariableUsage>");
+	}
+
+	private String createSystem() {
+		var xml = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<system:System xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" ")
+				.append("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ")
+				.append("xmlns:composition=")
+				.append("\"http://palladiosimulator.org/PalladioComponentModel/Core/Composition/5.2\" ")
+				.append("xmlns:repository=\"http://palladiosimulator.org/PalladioComponentModel/Repository/5.2\" ")
+				.append("xmlns:system=\"http://palladiosimulator.org/PalladioComponentModel/System/5.2\" ")
+				.append("id=\"_System\" entityName=\"ScalableSystem\">\n");
+
+		for (int component = 0; component < this.parameters.components(); component++) {
+			line(xml, 1, "<assemblyContexts__ComposedStructure id=\"%s\" entityName=\"Assembly_Component%d\">",
+					getAssemblyContextId(component), component);
+			line(xml, 2,
+					"<encapsulatedComponent__AssemblyContext xsi:type=\"repository:BasicComponent\" "
+							+ "href=\"default.repository#%s\"/>",
+					getComponentId(component));
+			line(xml, 1, "</assemblyContexts__ComposedStructure>");
+		}
+
+		for (int component = 0; component < this.parameters.components(); component++) {
+			List<Integer> requiredComponents = this.getRequiredComponents(component);
+
+			for (int k = 0; k < requiredComponents.size(); k++) {
+				line(xml, 1,
+						"<connectors__ComposedStructure xsi:type=\"composition:AssemblyConnector\" "
+								+ "id=\"%s\" entityName=\"Connector%d_%d\" "
+								+ "requiringAssemblyContext_AssemblyConnector=\"%s\" "
+								+ "providingAssemblyContext_AssemblyConnector=\"%s\">",
+						getConnectorId(component, k), component, k, getAssemblyContextId(component),
+						getAssemblyContextId(requiredComponents.get(k)));
+				line(xml, 2, "<providedRole_AssemblyConnector href=\"default.repository#%s\"/>",
+						getProvidedRoleId(requiredComponents.get(k)));
+				line(xml, 2, "<requiredRole_AssemblyConnector href=\"default.repository#%s\"/>",
+						getRequiredRoleId(component, k));
+				line(xml, 1, "</connectors__ComposedStructure>");
+			}
+		}
+
+		for (int component : this.getComponentsOfLayer(0)) {
+			line(xml, 1,
+					"<connectors__ComposedStructure xsi:type=\"composition:ProvidedDelegationConnector\" "
+							+ "id=\"_DelegationConnector%d\" entityName=\"DelegationConnector%d\" "
+							+ "outerProvidedRole_ProvidedDelegationConnector=\"%s\" "
+							+ "assemblyContext_ProvidedDelegationConnector=\"%s\">",
+					component, component, getSystemProvidedRoleId(component), getAssemblyContextId(component));
+			line(xml, 2, "<innerProvidedRole_ProvidedDelegationConnector href=\"default.repository#%s\"/>",
+					getProvidedRoleId(component));
+			line(xml, 1, "</connectors__ComposedStructure>");
+		}
+
+		for (int component : this.getComponentsOfLayer(0)) {
+			line(xml, 1,
+					"<providedRoles_InterfaceProvidingEntity xsi:type=\"repository:OperationProvidedRole\" id=\"%s\" "
+							+ "entityName=\"SystemInterface%d\">",
+					getSystemProvidedRoleId(component), component);
+			line(xml, 2, "<providedInterface__OperationProvidedRole href=\"default.repository#%s\"/>",
+					getInterfaceId(component));
+			line(xml, 1, "</providedRoles_InterfaceProvidingEntity>");
+		}
+
+		xml.append("</system:System>\n");
+		return xml.toString();
+	}
+
+	private String createResourceEnvironment() {
+		var xml = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<resourceenvironment:ResourceEnvironment xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" ")
+				.append("xmlns:resourceenvironment=")
+				.append("\"http://palladiosimulator.org/PalladioComponentModel/ResourceEnvironment/5.2\">\n");
+
+		var containers = new ArrayList<String>();
+		for (int layer = 0; layer < this.parameters.callDepth(); layer++) {
+			containers.add(getResourceContainerId(layer));
+		}
+
+		line(xml, 1,
+				"<linkingResources__ResourceEnvironment id=\"_LinkingResource\" entityName=\"Network\" "
+						+ "connectedResourceContainers_LinkingResource=\"%s\">",
+				String.join(" ", containers));
+		line(xml, 2, "<communicationLinkResourceSpecifications_LinkingResource id=\"_LinkingResourceSpecification\">");
+		line(xml, 3, "<latency_CommunicationLinkResourceSpecification/>");
+		line(xml, 3, "<throughput_CommunicationLinkResourceSpecification/>");
+		line(xml, 2, "</communicationLinkResourceSpecifications_LinkingResource>");
+		line(xml, 1, "</linkingResources__ResourceEnvironment>");
+
+		for (int layer = 0; layer < this.parameters.callDepth(); layer++) {
+			line(xml, 1, "<resourceContainer_ResourceEnvironment id=\"%s\" entityName=\"Server%d\"/>",
+					getResourceContainerId(layer), layer);
+		}
+
+		xml.append("</resourceenvironment:ResourceEnvironment>\n");
+		return xml.toString();
+	}
+
+	private String createAllocation() {
+		var xml = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<allocation:Allocation xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" ")
+				.append("xmlns:allocation=\"http://palladiosimulator.org/PalladioComponentModel/Allocation/5.2\" ")
+				.append("id=\"_Allocation\" entityName=\"ScalableAllocation\">\n");
+		line(xml, 1, "<targetResourceEnvironment_Allocation href=\"default.resourceenvironment#/0\"/>");
+
+		for (int component = 0; component < this.parameters.components(); component++) {
+			line(xml, 1,
+					"<allocationContexts_Allocation id=\"_AllocationContext%d\" entityName=\"Allocation_Component%d\">",
+					component, component);
+			line(xml, 2, "<resourceContainer_AllocationContext href=\"default.resourceenvironment#%s\"/>",
+					getResourceContainerId(this.getLayer(component)));
+			line(xml, 2, "<assemblyContext_AllocationContext href=\"default.system#%s\"/>",
+					getAssemblyContextId(component));
+			line(xml, 1, "</allocationContexts_Allocation>");
+		}
+
+		xml.append("</allocation:Allocation>\n");
+		return xml.toString();
+	}
+
+	private String createUsageModel() {
+		var xml = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<usagemodel:UsageModel xmi:version=\"2.0\" ").append(NAMESPACES)
+				.append(" xmlns:usagemodel=\"http://palladiosimulator.org/PalladioComponentModel/UsageModel/5.2\">\n");
+		line(xml, 1, "<usageScenario_UsageModel id=\"_UsageScenario\" entityName=\"ScalableUsageScenario\">");
+		line(xml, 2,
+				"<scenarioBehaviour_UsageScenario id=\"_ScenarioBehaviour\" entityName=\"ScalableScenarioBehaviour\">");
+
+		List<Integer> entryComponents = this.getComponentsOfLayer(0);
+		List<String> actionIds = new ArrayList<>();
+		actionIds.add("_UsageStart");
+		entryComponents.forEach(it -> actionIds.add("_EntryLevelSystemCall" + it));
+		actionIds.add("_UsageStop");
+
+		line(xml, 3, "<actions_ScenarioBehaviour xsi:type=\"usagemodel:Start\" id=\"_UsageStart\" successor=\"%s\"/>",
+				actionIds.get(1));
+		line(xml, 3, "<actions_ScenarioBehaviour xsi:type=\"usagemodel:Stop\" id=\"_UsageStop\" predecessor=\"%s\"/>",
+				actionIds.get(actionIds.size() - 2));
+
+		for (int i = 0; i < entryComponents.size(); i++) {
+			int component = entryComponents.get(i);
+			String id = actionIds.get(i + 1);
+
+			line(xml, 3,
+					"<actions_ScenarioBehaviour xsi:type=\"usagemodel:EntryLevelSystemCall\" id=\"%s\" "
+							+ "entityName=\"CallComponent%d\" successor=\"%s\" predecessor=\"%s\">",
+					id, component, actionIds.get(i + 2), actionIds.get(i));
+			line(xml, 4, "<providedRole_EntryLevelSystemCall href=\"default.system#%s\"/>",
+					getSystemProvidedRoleId(component));
+			line(xml, 4, "<operationSignature__EntryLevelSystemCall href=\"default.repository#%s\"/>",
+					getSignatureId(component));
+			line(xml, 4, "<inputParameterUsages_EntryLevelSystemCall>");
+			writeLiteralCharacterisation(xml, 5, id, 0);
+			line(xml, 5, DATA_REFERENCE);
+			line(xml, 4, "</inputParameterUsages_EntryLevelSystemCall>");
+			line(xml, 3, "</actions_ScenarioBehaviour>");
+		}
+
+		line(xml, 2, "</scenarioBehaviour_UsageScenario>");
+		line(xml, 1, "</usageScenario_UsageModel>");
+		xml.append("</usagemodel:UsageModel>\n");
+		return xml.toString();
+	}
+
+	private String createNodeCharacteristics() {
+		var xml = new StringBuilder();
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<nodecharacteristics:Assignments xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" ")
+				.append("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ")
+				.append("xmlns:DataDictionaryCharacterized=\"" + DICTIONARY_NAMESPACE + "\" ")
+				.append("xmlns:nodecharacteristics=\"http://www.example.org/nodeCharacteristics\">\n");
+
+		for (int layer = 0; layer < this.parameters.callDepth(); layer++) {
+			line(xml, 1, "<assignee xsi:type=\"nodecharacteristics:RessourceAssignee\">");
+			line(xml, 2, "<characteristics id=\"_NodeCharacteristic%d\">", layer);
+			line(xml, 3, "<type xsi:type=\"DataDictionaryCharacterized:EnumCharacteristicType\" href=\"%s\"/>",
+					LOCATION_TYPE);
+			line(xml, 3, "<values href=\"%s%d\"/>", LOCATION_LITERAL, layer % 2);
+			line(xml, 2, "</characteristics>");
+			line(xml, 2, "<resourcecontainer href=\"default.resourceenvironment#%s\"/>", getResourceContainerId(layer));
+			line(xml, 1, "</assignee>");
+		}
+
+		xml.append("</nodecharacteristics:Assignments>\n");
+		return xml.toString();
+	}
+
+	private static String getProvidedRoleId(int component) {
+		return "_ProvidedRole" + component;
+	}
+
+	private static String getRequiredRoleId(int component, int requiredRole) {
+		return "_RequiredRole" + component + "_" + requiredRole;
+	}
+
+	private static String getSystemProvidedRoleId(int component) {
+		return "_SystemProvidedRole" + component;
+	}
+
+	private static void line(StringBuilder xml, int depth, String format, Object... arguments) {
+		xml.append("  ".repeat(depth)).append(String.format(format, arguments)).append('\n');
+	}
+
+	private static void write(Path modelFolder, String fileName, String content) throws IOException {
+		Files.writeString(modelFolder.resolve(fileName), content, StandardCharsets.UTF_8);
+	}
+
+}
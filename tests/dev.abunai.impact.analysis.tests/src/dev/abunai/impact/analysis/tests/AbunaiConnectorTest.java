@@ -0,0 +1,87 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+import rest.AbunaiConnector;
+import rest.entities.ModelEntity;
+import rest.entities.SecurityCheckAssumption;
+import rest.general.RestConnector.AnalysisParameter;
+
+public class AbunaiConnectorTest {
+
+	private static final String MODEL_NAME = "AbunaiConnectorTest";
+
+	@TempDir
+	Path resultCacheDirectory;
+
+	// The case study folder the model is uploaded to, as located by the connector
+	private final Path caseStudyFolder = Paths.get(System.getProperty("user.dir")).getParent()
+			.resolve(TestBase.TEST_MODEL_PROJECT_NAME).resolve("casestudies").resolve("CaseStudy-" + MODEL_NAME);
+
+	@BeforeEach
+	public void uploadModel() throws IOException {
+		Path modelFolder = Files.createDirectories(this.caseStudyFolder.resolve(MODEL_NAME));
+		Path sourceFolder = Paths.get(System.getProperty("user.dir")).getParent()
+				.resolve(TestBase.TEST_MODEL_PROJECT_NAME).resolve("models").resolve("InternationalOnlineShop");
+
+		try (Stream<Path> files = Files.list(sourceFolder)) {
+			for (Path file : files.toList()) {
+				Files.copy(file, modelFolder.resolve(file.getFileName()));
+			}
+		}
+	}
+
+	@AfterEach
+	public void deleteModel() throws IOException {
+		try (Stream<Path> files = Files.walk(this.caseStudyFolder)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	@Test
+	public void testRepeatedRunIsServedFromResultCache() throws IOException {
+		var connector = new AbunaiConnector(
+				new ImpactResultCache(this.resultCacheDirectory, Long.MAX_VALUE, Duration.ofDays(1)));
+
+		this.run(connector);
+		assertEquals(1, this.countPropagations(connector));
+
+		// The loaded model and the cached propagation result are reused
+		this.run(connector);
+		assertEquals(1, this.countPropagations(connector));
+	}
+
+	private void run(AbunaiConnector connector) throws IOException {
+		var assumption = new SecurityCheckAssumption();
+		assumption.getAffectedEntities().add(new ModelEntity("_qvz80ITgEeywmO_IpTxeAg", "resourceenvironment",
+				"resourceContainer_ResourceEnvironment", "OnPremiseServer", "ResourceContainer"));
+		var parameter = new AnalysisParameter("casestudies" + File.separator + MODEL_NAME, List.of(assumption));
+
+		connector.writeAnalysisOutput(connector.createAdapter(parameter), new ByteArrayOutputStream());
+	}
+
+	private long countPropagations(AbunaiConnector connector) {
+		return connector.getMetrics().snapshot().phaseLatencies().get(AnalysisPhase.PROPAGATE.getLabel()).count();
+	}
+
+}
@@ -0,0 +1,146 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.PCMUncertaintyImpactAnalysisBuilder;
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.util.AnalysisCache;
+import dev.abunai.impact.analysis.util.PropagationIndex;
+
+public class AnalysisCacheTest {
+
+	@TempDir
+	Path cacheDirectory;
+
+	@Test
+	public void testWarmStartMatchesColdStart() throws IOException {
+		var coldAnalysis = this.createAnalysis();
+		assertEquals(1, this.countFindAllSequences(coldAnalysis));
+		assertEquals(1, this.listCacheFiles().size());
+
+		var warmAnalysis = this.createAnalysis();
+		assertEquals(0, this.countFindAllSequences(warmAnalysis));
+
+		assertEquals(describe(coldAnalysis.getActionSequences()), describe(warmAnalysis.getActionSequences()));
+		assertEquals(coldAnalysis.getCore().getPropagationIndex().getIndexedIds(),
+				warmAnalysis.getCore().getPropagationIndex().getIndexedIds());
+
+		var coldResult = propagate(coldAnalysis);
+		var warmResult = propagate(warmAnalysis);
+		assertEquals(coldResult.getUncertaintyImpacts().size(), warmResult.getUncertaintyImpacts().size());
+		assertEquals(describe(coldResult.getAllAffectedDataFlowSectionsAfterPropagation()),
+				describe(warmResult.getAllAffectedDataFlowSectionsAfterPropagation()));
+		assertEquals(coldResult.getImpactSet(false).size(), warmResult.getImpactSet(false).size());
+		assertEquals(coldResult.getImpactSet(true).size(), warmResult.getImpactSet(true).size());
+	}
+
+	@Test
+	public void testChangedModelHashMissesCache() throws IOException {
+		var analysis = this.createAnalysis();
+		var resourceProvider = analysis.getCore().getResourceProvider();
+		var cache = new AnalysisCache(this.cacheDirectory);
+		String modelHash = AnalysisCache.computeModelHash(resourceProvider);
+
+		assertTrue(cache.load(modelHash, resourceProvider).isPresent());
+		assertTrue(cache.load("0".repeat(modelHash.length()), resourceProvider).isEmpty());
+		assertTrue(new AnalysisCache(this.cacheDirectory.resolve("other")).load(modelHash, resourceProvider)
+				.isEmpty());
+	}
+
+	@Test
+	public void testCorruptedCacheFallsBack() throws IOException {
+		var coldAnalysis = this.createAnalysis();
+		Path cacheFile = this.listCacheFiles().get(0);
+		byte[] content = Files.readAllBytes(cacheFile);
+
+		// Truncated entry
+		Files.write(cacheFile, Arrays.copyOf(content, content.length / 2));
+		var truncatedAnalysis = this.createAnalysis();
+		assertEquals(1, this.countFindAllSequences(truncatedAnalysis));
+		assertEquals(describe(coldAnalysis.getActionSequences()), describe(truncatedAnalysis.getActionSequences()));
+
+		// Negative and huge counts of the string table
+		var resourceProvider = coldAnalysis.getCore().getResourceProvider();
+		var cache = new AnalysisCache(this.cacheDirectory);
+		String modelHash = AnalysisCache.computeModelHash(resourceProvider);
+		for (int count : new int[] { -1, Integer.MAX_VALUE }) {
+			Files.write(cacheFile, ByteBuffer.allocate(12).put(content, 0, 8).putInt(count).array());
+			assertTrue(cache.load(modelHash, resourceProvider).isEmpty());
+		}
+
+		// Occurrences outside of the sequences at the end of the propagation index
+		int sequenceCount = coldAnalysis.getActionSequences().size();
+		int elementCount = coldAnalysis.getActionSequences().get(0).getElements().size();
+		for (long occurrence : new long[] { PropagationIndex.pack(sequenceCount, 0),
+				PropagationIndex.pack(0, elementCount), PropagationIndex.pack(0, -1) }) {
+			byte[] corruptedContent = content.clone();
+			ByteBuffer.wrap(corruptedContent).putLong(corruptedContent.length - Long.BYTES, occurrence);
+			Files.write(cacheFile, corruptedContent);
+			assertTrue(cache.load(modelHash, resourceProvider).isEmpty());
+		}
+		var corruptedAnalysis = this.createAnalysis();
+		assertEquals(1, this.countFindAllSequences(corruptedAnalysis));
+		assertEquals(coldAnalysis.getCore().getPropagationIndex().getIndexedIds(),
+				corruptedAnalysis.getCore().getPropagationIndex().getIndexedIds());
+
+		// Garbage
+		Files.write(cacheFile, new byte[] { 1, 2, 3 });
+		var garbageAnalysis = this.createAnalysis();
+		assertEquals(1, this.countFindAllSequences(garbageAnalysis));
+		assertEquals(describe(coldAnalysis.getActionSequences()), describe(garbageAnalysis.getActionSequences()));
+
+		// The fallback replaces the unusable entry
+		assertEquals(0, this.countFindAllSequences(this.createAnalysis()));
+	}
+
+	private StandalonePCMUncertaintyImpactAnalysis createAnalysis() {
+		return TestBase.createAnalysis("models", "InternationalOnlineShop", "default",
+				new PCMUncertaintyImpactAnalysisBuilder().useCacheDirectory(this.cacheDirectory));
+	}
+
+	private List<Path> listCacheFiles() throws IOException {
+		try (Stream<Path> files = Files.list(this.cacheDirectory)) {
+			return files.filter(it -> it.getFileName().toString().endsWith(".uiacache")).toList();
+		}
+	}
+
+	private long countFindAllSequences(StandalonePCMUncertaintyImpactAnalysis analysis) {
+		return analysis.getMetrics().snapshot().get(AnalysisPhase.FIND_ALL_SEQUENCES).executions();
+	}
+
+	private static UncertaintyImpactCollection propagate(StandalonePCMUncertaintyImpactAnalysis analysis) {
+		var uncertaintySources = analysis.createUncertaintySourceCollection();
+		uncertaintySources.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		uncertaintySources.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+		return uncertaintySources.propagate();
+	}
+
+	// Describes every element by its type, PCM element and assembly contexts, which
+	// identify it across separately loaded models
+	private static List<List<String>> describe(List<ActionSequence> sequences) {
+		return sequences.stream().map(sequence -> sequence.getElements().stream().map(element -> {
+			var context = element instanceof AbstractPCMActionSequenceElement<?> pcmElement
+					&& pcmElement.getContext() != null
+							? pcmElement.getContext().stream().map(it -> it.getId()).toList()
+							: List.of();
+			return element.getClass().getSimpleName() + " " + PropagationIndex.getElementId(element) + " " + context;
+		}).toList()).toList();
+	}
+
+}
@@ -0,0 +1,240 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import rest.AbunaiConnector;
+import rest.AnalysisJob;
+import rest.AnalysisJob.State;
+import rest.AnalysisJobManager;
+import rest.general.RestConnector.AnalysisOutput;
+import rest.general.RestConnector.AnalysisParameter;
+import rest.general.SecurityCheckAdapter;
+import spark.Request;
+import spark.Response;
+
+public class AnalysisJobManagerTest {
+
+	private static final String INVALID_MODEL = "invalid";
+	private static final String FAILING_MODEL = "failing";
+	private static final String BLOCKING_MODEL = "blocking";
+
+	// Analyses of the blocking model wait until released by the test
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final Set<String> analysisThreads = ConcurrentHashMap.newKeySet();
+	private AnalysisJobManager jobManager;
+
+	private class StubAdapter implements SecurityCheckAdapter {
+		private AnalysisParameter parameter;
+
+		@Override
+		public void initForAnalysis(AnalysisParameter analysisParameter) {
+			if (analysisParameter.modelPath().equals(INVALID_MODEL)) {
+				throw new IllegalArgumentException("Unknown model.");
+			}
+
+			this.parameter = analysisParameter;
+		}
+
+		@Override
+		public AnalysisOutput executeAnalysis() {
+			analysisThreads.add(Thread.currentThread().getName());
+
+			if (this.parameter.modelPath().equals(BLOCKING_MODEL)) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException(e);
+				}
+			}
+
+			if (this.parameter.modelPath().equals(FAILING_MODEL)) {
+				throw new IllegalStateException("Analysis failed.");
+			}
+
+			return new AnalysisOutput("Analysis of " + this.parameter.modelPath(), List.of());
+		}
+	}
+
+	private static class RecordingResponse extends Response {
+		private int status;
+		private String type;
+
+		@Override
+		public void status(int statusCode) {
+			this.status = statusCode;
+		}
+
+		@Override
+		public int status() {
+			return this.status;
+		}
+
+		@Override
+		public void type(String contentType) {
+			this.type = contentType;
+		}
+
+		@Override
+		public String type() {
+			return this.type;
+		}
+	}
+
+	@AfterEach
+	public void shutdown() {
+		this.release.countDown();
+		this.jobManager.shutdown();
+	}
+
+	@Test
+	public void testJobStateTransitions() throws InterruptedException {
+		this.jobManager = new AnalysisJobManager(StubAdapter::new, 1, 4, 16);
+
+		var runningJob = this.jobManager.submit(parameterOf(BLOCKING_MODEL));
+		awaitState(runningJob, State.RUNNING);
+		var queuedJob = this.jobManager.submit(parameterOf(FAILING_MODEL));
+
+		assertEquals(State.QUEUED, queuedJob.getState());
+		assertNull(queuedJob.getStatus().started());
+		assertEquals(1, this.jobManager.getQueueDepth());
+		assertEquals(1, this.jobManager.getActiveJobs());
+		assertNotNull(runningJob.getStatus().started());
+		assertNull(runningJob.getOutput());
+
+		this.release.countDown();
+		awaitState(runningJob, State.COMPLETED);
+		awaitState(queuedJob, State.FAILED);
+
+		assertEquals("Analysis of " + BLOCKING_MODEL, runningJob.getOutput().outputLog());
+		assertNotNull(runningJob.getStatus().finished());
+		assertNull(runningJob.getStatus().error());
+		assertNull(queuedJob.getOutput());
+		assertTrue(queuedJob.getStatus().error().contains("Analysis failed."));
+		assertEquals(runningJob, this.jobManager.getJob(runningJob.getId()).get());
+
+		assertThrows(IllegalArgumentException.class, () -> this.jobManager.submit(parameterOf(INVALID_MODEL)));
+	}
+
+	@Test
+	public void testFullQueueIsRejected() throws Exception {
+		this.jobManager = new AnalysisJobManager(StubAdapter::new, 1, 1, 16);
+		var objectMapper = new ObjectMapper();
+		var route = AbunaiConnector.createJobSubmissionRoute(this.jobManager, objectMapper);
+
+		var runningJob = this.jobManager.submit(parameterOf(BLOCKING_MODEL));
+		awaitState(runningJob, State.RUNNING);
+		var queuedJob = this.jobManager.submit(parameterOf("model"));
+
+		assertThrows(RejectedExecutionException.class, () -> this.jobManager.submit(parameterOf("model")));
+
+		var response = new RecordingResponse();
+		route.handle(requestOf(objectMapper, parameterOf("model")), response);
+		assertEquals(503, response.status());
+		assertEquals("text/plain", response.type());
+
+		var invalidResponse = new RecordingResponse();
+		route.handle(requestOf(objectMapper, parameterOf(INVALID_MODEL)), invalidResponse);
+		assertEquals(400, invalidResponse.status());
+
+		// Jobs are accepted again once the queue has drained
+		this.release.countDown();
+		awaitState(runningJob, State.COMPLETED);
+		awaitState(queuedJob, State.COMPLETED);
+
+		var acceptedResponse = new RecordingResponse();
+		var status = objectMapper.readValue(
+				(String) route.handle(requestOf(objectMapper, parameterOf("model")), acceptedResponse),
+				AnalysisJob.Status.class);
+		assertEquals(202, acceptedResponse.status());
+		assertTrue(this.jobManager.getJob(status.jobId()).isPresent());
+	}
+
+	@Test
+	public void testFinishedJobsAreEvicted() throws InterruptedException {
+		this.jobManager = new AnalysisJobManager(StubAdapter::new, 1, 4, 1);
+
+		var firstJob = this.jobManager.submit(parameterOf("model"));
+		awaitState(firstJob, State.COMPLETED);
+		var secondJob = this.jobManager.submit(parameterOf(FAILING_MODEL));
+		awaitState(secondJob, State.FAILED);
+
+		// Only the most recently finished job is retained on the next submission,
+		// unfinished jobs are never evicted
+		var thirdJob = this.jobManager.submit(parameterOf(BLOCKING_MODEL));
+		assertTrue(this.jobManager.getJob(firstJob.getId()).isEmpty());
+		assertTrue(this.jobManager.getJob(secondJob.getId()).isPresent());
+		assertTrue(this.jobManager.getJob(thirdJob.getId()).isPresent());
+	}
+
+	@Test
+	public void testBatchRunsOnWorkerPool() throws InterruptedException {
+		this.jobManager = new AnalysisJobManager(StubAdapter::new, 2, 1, 16);
+		var adapters = List.of(adapterOf("a"), adapterOf("b"), adapterOf("c"), adapterOf("d"), adapterOf("e"));
+
+		var outputs = this.jobManager.executeAll(adapters);
+		assertEquals(List.of("Analysis of a", "Analysis of b", "Analysis of c", "Analysis of d", "Analysis of e"),
+				outputs.stream().map(AnalysisOutput::outputLog).toList());
+
+		// Analyses rejected by the full queue fall back to the calling thread
+		String callingThread = Thread.currentThread().getName();
+		assertTrue(this.analysisThreads.stream()
+				.allMatch(it -> it.startsWith("abunai-analysis-worker-") || it.equals(callingThread)));
+		assertTrue(this.analysisThreads.stream().anyMatch(it -> it.startsWith("abunai-analysis-worker-")));
+
+		assertThrows(IllegalStateException.class,
+				() -> this.jobManager.executeAll(List.of(adapterOf("a"), adapterOf(FAILING_MODEL))));
+	}
+
+	private StubAdapter adapterOf(String modelPath) {
+		var adapter = new StubAdapter();
+		adapter.initForAnalysis(parameterOf(modelPath));
+		return adapter;
+	}
+
+	private static AnalysisParameter parameterOf(String modelPath) {
+		return new AnalysisParameter(modelPath, List.of());
+	}
+
+	private static Request requestOf(ObjectMapper objectMapper, AnalysisParameter parameter) throws Exception {
+		String body = objectMapper.writeValueAsString(parameter);
+
+		return new Request() {
+			@Override
+			public String body() {
+				return body;
+			}
+
+			@Override
+			public String host() {
+				return "localhost";
+			}
+		};
+	}
+
+	private static void awaitState(AnalysisJob job, State state) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while (job.getState() != state) {
+			assertTrue(System.nanoTime() < deadline, "Job did not reach state " + state + ".");
+			Thread.sleep(5);
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.metrics.MemoryCategory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+public class AnalysisMetricsTest {
+
+	@Test
+	public void testPhasesAreRecorded() {
+		var analysis = TestBase.createAnalysis("models", "InternationalOnlineShop", "default");
+		var snapshot = analysis.getMetrics().snapshot();
+
+		assertEquals(1, snapshot.get(AnalysisPhase.LOAD_MODELS).executions());
+		assertEquals(1, snapshot.get(AnalysisPhase.FIND_ALL_SEQUENCES).executions());
+		assertEquals(analysis.getActionSequences().size(), snapshot.get(AnalysisPhase.FIND_ALL_SEQUENCES).sequences());
+		assertEquals(1, snapshot.get(AnalysisPhase.BUILD_INDEX).executions());
+
+		analysis.getUncertaintySources().addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+		analysis.getUncertaintySources().addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		var result = analysis.propagate();
+		result.getImpactSet(true);
+		analysis.evaluateDataFlows(analysis.getActionSequences());
+
+		snapshot = analysis.getMetrics().snapshot();
+		assertEquals(2, snapshot.get(AnalysisPhase.PROPAGATE).executions());
+		assertEquals(2, snapshot.get(AnalysisPhase.PROPAGATE).sources());
+		assertEquals(result.getUncertaintyImpacts().size(), snapshot.get(AnalysisPhase.PROPAGATE).impacts());
+		assertEquals(1, snapshot.get(AnalysisPhase.IMPACT_SET).executions());
+		assertEquals(1, snapshot.get(AnalysisPhase.EVALUATE_DATA_FLOWS).executions());
+		assertTrue(snapshot.get(AnalysisPhase.PROPAGATE).maxNanos() > 0);
+	}
+
+	@Test
+	public void testMemoryFootprint() {
+		var analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		var uncertaintySources = analysis.createUncertaintySourceCollection();
+		uncertaintySources.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+		var result = uncertaintySources.propagate();
+
+		var footprint = analysis.getMemoryFootprint(List.of(result));
+		var sequences = footprint.get(MemoryCategory.ACTION_SEQUENCES);
+		var index = footprint.get(MemoryCategory.PROPAGATION_INDEX);
+		var impacts = footprint.get(MemoryCategory.IMPACT_COLLECTIONS);
+
+		assertEquals(analysis.getActionSequences().size(), sequences.getCount("sequences"));
+		assertEquals(analysis.getCore().getPropagationIndex().size(), index.getCount("ids"));
+		assertEquals(result.getUncertaintyImpacts().size(), impacts.getCount("impacts"));
+		assertTrue(footprint.get(MemoryCategory.EMF_RESOURCES).getCount("objects") > 0);
+		assertTrue(footprint.get(MemoryCategory.CONTEXT_DEQUES).getCount("deques") > 0);
+
+		for (MemoryCategory category : MemoryCategory.values()) {
+			assertTrue(footprint.get(category).estimatedBytes() > 0, category.getLabel());
+		}
+		assertTrue(footprint.getEstimatedBytes() > analysis.getMemoryFootprint().getEstimatedBytes());
+	}
+
+	@Test
+	public void testMemoryFootprintCountsMemoizedResults() {
+		var analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		var uncertaintySources = analysis.createUncertaintySourceCollection();
+		uncertaintySources.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+		var result = uncertaintySources.propagate();
+
+		var impacts = analysis.getMemoryFootprint(List.of(result)).get(MemoryCategory.IMPACT_COLLECTIONS);
+		assertEquals(0, impacts.getCount("memoizedSets"));
+		assertEquals(0, impacts.getCount("sections"));
+
+		var distinctImpactSet = result.getImpactSet(true);
+		var memoizedImpacts = analysis.getMemoryFootprint(List.of(result)).get(MemoryCategory.IMPACT_COLLECTIONS);
+		assertEquals(2, memoizedImpacts.getCount("memoizedSets"));
+		assertEquals(result.getImpactSet(false).size() + distinctImpactSet.size(),
+				memoizedImpacts.getCount("setEntries"));
+		assertEquals(result.getAllAffectedDataFlowSectionsAfterPropagation().size(),
+				memoizedImpacts.getCount("sections"));
+		assertTrue(memoizedImpacts.estimatedBytes() > impacts.estimatedBytes());
+	}
+
+	@Test
+	public void testFlightRecorderEvents() throws IOException {
+		var analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		var uncertaintySources = analysis.createUncertaintySourceCollection();
+		uncertaintySources.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+
+		Path recordingFile = Files.createTempFile("analysis", ".jfr");
+		try (var recording = new Recording()) {
+			recording.enable("dev.abunai.impact.analysis.AnalysisPhase").withThreshold(Duration.ZERO);
+			recording.start();
+			uncertaintySources.propagate().getImpactSet(false);
+			recording.stop();
+			recording.dump(recordingFile);
+
+			var phases = RecordingFile.readAllEvents(recordingFile).stream().map(it -> it.getString("phase"))
+					.toList();
+			assertTrue(phases.contains(AnalysisPhase.PROPAGATE.getLabel()));
+			assertTrue(phases.contains(AnalysisPhase.IMPACT_SET.getLabel()));
+		} finally {
+			Files.deleteIfExists(recordingFile);
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.batch.BatchScenario;
+import dev.abunai.impact.analysis.batch.BatchScenarioRunner;
+
+public class BatchScenarioRunnerTest {
+
+	private static final String ONLINE_SHOP = Paths.get("models", "InternationalOnlineShop", "default").toString();
+	private static final String BRANCHING_ONLINE_SHOP = Paths.get("models", "BranchingOnlineShop", "default")
+			.toString();
+
+	@Test
+	public void testScenariosShareLoadedModels() {
+		var runner = new BatchScenarioRunner(it -> {
+			var path = Paths.get(it);
+			return TestBase.createAnalysis(path.getParent().getParent().toString(),
+					path.getParent().getFileName().toString(), path.getFileName().toString());
+		}, 4);
+
+		var reports = runner.run(List.of(
+				new BatchScenario("Component", ONLINE_SHOP,
+						it -> it.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg"), it -> false),
+				new BatchScenario("Connector", ONLINE_SHOP,
+						it -> it.addConnectorUncertaintyInConnector("_BYWIkITkEeywmO_IpTxeAg"), it -> false),
+				new BatchScenario("Branch", BRANCHING_ONLINE_SHOP,
+						it -> it.addBehaviorUncertaintyInBranch("_tmNjQNv1EeyYrpd_1AtxSw"), it -> true),
+				new BatchScenario("Unknown", ONLINE_SHOP,
+						it -> it.addConnectorUncertaintyInConnector("unknown"), it -> false)));
+
+		assertEquals(4, reports.size());
+		reports.subList(0, 3).forEach(it -> assertTrue(it.isSuccessful()));
+
+		assertEquals(2, reports.get(0).impacts().getUncertaintyImpacts().size());
+		assertEquals(9, reports.get(1).impacts().getUncertaintyImpacts().size());
+		assertEquals(2, reports.get(2).impacts().getUncertaintyImpacts().size());
+
+		assertTrue(reports.get(0).violations().isEmpty());
+		assertFalse(reports.get(2).violations().isEmpty());
+		assertFalse(reports.get(3).isSuccessful());
+		assertTrue(reports.get(3).getFailure().get() instanceof IllegalArgumentException);
+	}
+
+}
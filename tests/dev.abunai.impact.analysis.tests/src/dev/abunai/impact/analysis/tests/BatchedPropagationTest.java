@@ -0,0 +1,68 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+
+public class BatchedPropagationTest {
+
+	@Test
+	public void testInternationalOnlineShop() {
+		assertSameImpacts("InternationalOnlineShop", it -> {
+			it.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+			it.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+			it.addActorUncertaintyInUsageScenario("_LPnI8CHdEd6lJo4DCALHMw");
+			it.addInterfaceUncertaintyInSignature("_YWtP0ITmEeywmO_IpTxeAg");
+			it.addInterfaceUncertaintyInInterface("_XGAZwITiEeywmO_IpTxeAg");
+			it.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+			it.addConnectorUncertaintyInConnector("_BYWIkITkEeywmO_IpTxeAg");
+			it.addBehaviorUncertaintyInSetVariableAction("_tMGKUITmEeywmO_IpTxeAg");
+			it.addBehaviorUncertaintyInEntryLevelSystemCall("_hq6RAITkEeywmO_IpTxeAg");
+		});
+	}
+
+	@Test
+	public void testBranchingOnlineShop() {
+		assertSameImpacts("BranchingOnlineShop", it -> {
+			it.addBehaviorUncertaintyInEntryLevelSystemCall("_hq6RAITkEeywmO_IpTxeAg");
+			it.addBehaviorUncertaintyInBranch("_tmNjQNv1EeyYrpd_1AtxSw");
+			it.addBehaviorUncertaintyInExternalCallAction("_QqAdMNv2EeyYrpd_1AtxSw");
+			it.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+			it.addConnectorUncertaintyInConnector("_BYWIkITkEeywmO_IpTxeAg");
+			it.addInterfaceUncertaintyInInterface("_XGAZwITiEeywmO_IpTxeAg");
+		});
+	}
+
+	@Test
+	public void testNoSources() {
+		var analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		var uncertaintySources = analysis.createUncertaintySourceCollection();
+
+		assertEquals(0, uncertaintySources.propagateBatched().getUncertaintyImpacts().size());
+	}
+
+	private void assertSameImpacts(String modelName, Consumer<UncertaintySourceCollection> sources) {
+		var analysis = TestBase.loadAnalysis("models", modelName, "default");
+		var uncertaintySources = analysis.createUncertaintySourceCollection();
+		sources.accept(uncertaintySources);
+
+		var expected = uncertaintySources.propagate().getUncertaintyImpacts();
+		var actual = uncertaintySources.propagateBatched().getUncertaintyImpacts();
+
+		assertFalse(expected.isEmpty());
+		assertEquals(expected.size(), actual.size());
+
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getClass(), actual.get(i).getClass());
+			assertSame(expected.get(i).getOrigin(), actual.get(i).getOrigin());
+			assertSame(expected.get(i).getAffectedElement(), actual.get(i).getAffectedElement());
+		}
+	}
+
+}
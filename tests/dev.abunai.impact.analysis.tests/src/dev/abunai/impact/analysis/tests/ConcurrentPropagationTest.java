@@ -0,0 +1,51 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+
+public class ConcurrentPropagationTest {
+
+	private record Scenario(Consumer<UncertaintySourceCollection> sources, int resultSize, int impactSetSize) {
+	}
+
+	@Test
+	public void testConcurrentScenariosOnSharedCore() throws Exception {
+		var core = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default").getCore();
+		var scenarios = List.of(
+				new Scenario(it -> it.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg"), 2, 2),
+				new Scenario(it -> it.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg"), 9, 6),
+				new Scenario(it -> it.addInterfaceUncertaintyInSignature("_YWtP0ITmEeywmO_IpTxeAg"), 3, 3),
+				new Scenario(it -> it.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg"), 6, 6));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<?>> results = IntStream.range(0, 64).mapToObj(i -> scenarios.get(i % scenarios.size()))
+					.<Future<?>>map(scenario -> executor.submit(() -> {
+						var uncertaintySources = core.createUncertaintySourceCollection();
+						scenario.sources().accept(uncertaintySources);
+						var result = uncertaintySources.propagate();
+
+						assertEquals(scenario.resultSize(), result.getUncertaintyImpacts().size());
+						assertEquals(scenario.impactSetSize(), result.getImpactSet(false).size());
+					})).toList();
+
+			for (var result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
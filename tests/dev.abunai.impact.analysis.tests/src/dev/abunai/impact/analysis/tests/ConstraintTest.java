@@ -0,0 +1,113 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.constraint.CharacteristicInterner;
+import dev.abunai.impact.analysis.constraint.CharacteristicMasks;
+import dev.abunai.impact.analysis.constraint.Constraint;
+
+public class ConstraintTest {
+
+	private static long[] mask(CharacteristicInterner interner, String... literals) {
+		long[] mask = new long[0];
+		for (String literal : literals) {
+			mask = CharacteristicInterner.set(mask, interner.intern(literal));
+		}
+		return mask;
+	}
+
+	@Test
+	public void testInterning() {
+		var interner = new CharacteristicInterner();
+
+		assertEquals(0, interner.intern("A"));
+		assertEquals(1, interner.intern("B"));
+		assertEquals(0, interner.intern("A"));
+		assertEquals(CharacteristicInterner.UNKNOWN, interner.lookup("C"));
+		assertEquals(2, interner.size());
+	}
+
+	@Test
+	public void testClauses() {
+		var interner = new CharacteristicInterner();
+		var constraint = Constraint.builder().allOf(Set.of("Confidential"), Set.of("Laboratory"))
+				.anyData("ValidationFailed").build().compile(interner);
+
+		assertTrue(constraint.test(mask(interner, "Confidential"), mask(interner, "Laboratory", "Cloud")));
+		assertTrue(constraint.test(mask(interner, "ValidationFailed"), mask(interner)));
+		assertFalse(constraint.test(mask(interner, "Confidential"), mask(interner, "Cloud")));
+		assertFalse(constraint.test(mask(interner), mask(interner, "Laboratory")));
+	}
+
+	@Test
+	public void testMasksSpanningSeveralWords() {
+		var interner = new CharacteristicInterner();
+		IntStream.range(0, 130).forEach(i -> interner.intern("Literal" + i));
+
+		var constraint = Constraint.builder().anyNode("Literal129").build().compile(interner);
+
+		assertTrue(constraint.test(mask(interner), mask(interner, "Literal1", "Literal129")));
+		assertFalse(constraint.test(mask(interner, "Literal129"), mask(interner, "Literal1")));
+		// Element masks computed before a literal was interned are shorter than the clause
+		assertFalse(Constraint.builder().anyData("New").build().compile(interner).test(new long[1], new long[1]));
+	}
+
+	@Test
+	public void testUnknownLiteralsAreNotInterned() {
+		var masks = CharacteristicMasks.of(List.of());
+		var interner = masks.getInterner();
+		interner.intern("Known");
+
+		var constraint = masks.compile(Constraint.builder().anyData("Known", "Unknown")
+				.allOf(Set.of("Known"), Set.of("Unknown")).anyNode("Other").build());
+
+		assertEquals(1, interner.size());
+		assertEquals(CharacteristicInterner.UNKNOWN, interner.lookup("Unknown"));
+		assertTrue(constraint.test(mask(interner, "Known"), mask(interner)));
+		assertFalse(constraint.test(mask(interner), mask(interner, "Known")));
+
+		var unsatisfiableConstraint = masks.compile(Constraint.builder().anyNode("Unknown").build());
+		assertFalse(unsatisfiableConstraint.test(mask(interner, "Known"), mask(interner, "Known")));
+		assertEquals(1, interner.size());
+	}
+
+	@Test
+	public void testCompiledConstraintsAreBounded() {
+		var masks = CharacteristicMasks.of(List.of());
+		var constraint = masks.compile(Constraint.builder().anyData("A").build());
+		assertSame(constraint, masks.compile(Constraint.builder().anyData("A").build()));
+
+		// Distinct constraints of clients evict the least recently used ones
+		IntStream.range(0, CharacteristicMasks.MAX_COMPILED_CONSTRAINTS)
+				.forEach(i -> masks.compile(Constraint.builder().anyData("Literal" + i).build()));
+		assertNotSame(constraint, masks.compile(Constraint.builder().anyData("A").build()));
+	}
+
+	@Test
+	public void testCanonicalKey() {
+		var constraint = Constraint.builder().anyData("B", "A").allOf(Set.of("C", "D"), Set.of("E")).build();
+		var equivalentConstraint = Constraint.builder().allOf(Set.of("D", "C"), Set.of("E")).anyData("A", "B", "A")
+				.build();
+
+		assertEquals(constraint.getCanonicalKey(), equivalentConstraint.getCanonicalKey());
+		assertEquals(constraint, equivalentConstraint);
+		assertFalse(constraint.equals(Constraint.builder().anyData("A", "B").build()));
+	}
+
+	@Test
+	public void testEmptyClauseIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> Constraint.builder().allOf(Set.of(), Set.of()));
+	}
+
+}
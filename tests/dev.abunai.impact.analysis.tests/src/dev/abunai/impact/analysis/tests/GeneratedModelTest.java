@@ -0,0 +1,77 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.constraint.CharacteristicMasks;
+import dev.abunai.impact.analysis.constraint.Constraint;
+import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.ScalableModelGenerator;
+import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.ScalableModelGenerator.Parameters;
+
+public class GeneratedModelTest {
+
+	private static StandalonePCMUncertaintyImpactAnalysis generateAndLoad(Parameters parameters) throws IOException {
+		new ScalableModelGenerator(parameters).generateInto(Paths.get("..", TestBase.TEST_MODEL_PROJECT_NAME));
+		return TestBase.loadAnalysis(ScalableModelGenerator.BASE_FOLDER, parameters.getFolderName(),
+				ScalableModelGenerator.FILES_NAME);
+	}
+
+	@Test
+	public void testGeneratedModelIsLoadable() throws IOException {
+		var analysis = generateAndLoad(new Parameters(6, 2, 3, 0, 1));
+
+		assertFalse(analysis.getActionSequences().isEmpty());
+	}
+
+	@Test
+	public void testBranchesMultiplyDataFlows() throws IOException {
+		var withoutBranches = generateAndLoad(new Parameters(6, 2, 3, 0, 1));
+		var withBranches = generateAndLoad(new Parameters(6, 2, 3, 2, 3));
+
+		assertTrue(withBranches.getActionSequences().size() > withoutBranches.getActionSequences().size());
+	}
+
+	@Test
+	public void testPropagationFromLastLayer() throws IOException {
+		var parameters = new Parameters(6, 2, 3, 1, 2);
+		var analysis = generateAndLoad(parameters);
+		analysis.resetUncertaintySources();
+
+		analysis.getUncertaintySources()
+				.addComponentUncertaintyInAssemblyContext(ScalableModelGenerator.getAssemblyContextId(5));
+		var result = analysis.propagate();
+
+		assertFalse(result.getUncertaintyImpacts().isEmpty());
+		assertFalse(result.getImpactSet(true).isEmpty());
+	}
+
+	@Test
+	public void testPersonalDataReachesNonEULayer() throws IOException {
+		var analysis = generateAndLoad(new Parameters(4, 1, 2, 0, 1));
+		var masks = CharacteristicMasks.of(analysis.evaluateDataFlows(analysis.getActionSequences()));
+		var constraint = masks.compile(Constraint.builder().allOf(Set.of("Personal"), Set.of("nonEU")).build());
+
+		boolean violated = false;
+		for (int i = 0; i < masks.getEvaluatedSequences().size(); i++) {
+			violated |= !constraint.queryDataFlow(masks, i).isEmpty();
+		}
+
+		assertTrue(violated);
+	}
+
+	@Test
+	public void testInvalidParameters() {
+		assertThrows(IllegalArgumentException.class, () -> new Parameters(2, 1, 3, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new Parameters(3, 0, 3, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new Parameters(3, 1, 3, 1, 0));
+	}
+
+}
@@ -0,0 +1,174 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+import dev.abunai.impact.analysis.util.ImpactResultCache.Entry;
+import dev.abunai.impact.analysis.util.ImpactResultCache.Impact;
+import dev.abunai.impact.analysis.util.ImpactResultCache.Section;
+
+public class ImpactResultCacheTest {
+
+	private static final String MODEL_HASH = "model";
+	private static final Entry ENTRY = new Entry(List.of(new Impact("Component:a", "b", 1L)),
+			List.of(new Section(1L, 2)));
+
+	@TempDir
+	Path cacheDirectory;
+
+	private StandalonePCMUncertaintyImpactAnalysis analysis;
+
+	@BeforeEach
+	public void setup() {
+		this.analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+	}
+
+	@Test
+	public void testRepeatedPropagationIsServedFromCache() {
+		var cache = new ImpactResultCache(this.cacheDirectory, Long.MAX_VALUE, Duration.ofDays(1));
+
+		var firstMetrics = new AnalysisMetrics();
+		var firstSources = this.createUncertaintySourceCollection(cache, firstMetrics);
+		firstSources.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		firstSources.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+		var expected = firstSources.propagate();
+		assertEquals(2, firstMetrics.snapshot().get(AnalysisPhase.PROPAGATE).executions());
+
+		// The key does not depend on the order in which the sources are added
+		var secondMetrics = new AnalysisMetrics();
+		var secondSources = this.createUncertaintySourceCollection(cache, secondMetrics);
+		secondSources.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+		secondSources.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		var actual = secondSources.propagate();
+
+		var uncachedSources = this.analysis.createUncertaintySourceCollection();
+		uncachedSources.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+		uncachedSources.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		var uncached = uncachedSources.propagate();
+
+		assertEquals(uncached.getUncertaintyImpacts().size(), actual.getUncertaintyImpacts().size());
+		for (int i = 0; i < uncached.getUncertaintyImpacts().size(); i++) {
+			assertEquals(uncached.getUncertaintyImpacts().get(i).getOrigin().getArchitecturalElement(),
+					actual.getUncertaintyImpacts().get(i).getOrigin().getArchitecturalElement());
+			assertSame(uncached.getUncertaintyImpacts().get(i).getAffectedElement(),
+					actual.getUncertaintyImpacts().get(i).getAffectedElement());
+		}
+
+		assertEquals(elementsOf(expected.getImpactSet(true)), elementsOf(actual.getImpactSet(true)));
+		assertEquals(expected.getAllAffectedDataFlowSectionsAfterPropagation().size(),
+				actual.getAllAffectedDataFlowSectionsAfterPropagation().size());
+		assertEquals(0, secondMetrics.snapshot().get(AnalysisPhase.PROPAGATE).executions());
+		assertEquals(0, secondMetrics.snapshot().get(AnalysisPhase.IMPACT_SET).executions());
+	}
+
+	@Test
+	public void testDifferentSourcesAreNotServedFromCache() {
+		var cache = new ImpactResultCache(this.cacheDirectory, Long.MAX_VALUE, Duration.ofDays(1));
+
+		var firstSources = this.createUncertaintySourceCollection(cache, new AnalysisMetrics());
+		firstSources.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		firstSources.propagate();
+
+		var metrics = new AnalysisMetrics();
+		var secondSources = this.createUncertaintySourceCollection(cache, metrics);
+		secondSources.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+		secondSources.propagate();
+
+		assertEquals(1, metrics.snapshot().get(AnalysisPhase.PROPAGATE).executions());
+	}
+
+	@Test
+	public void testStoredEntryIsLoaded() {
+		var cache = new ImpactResultCache(this.cacheDirectory, Long.MAX_VALUE, Duration.ofDays(1));
+		cache.store(MODEL_HASH, List.of("Component:a"), ENTRY);
+
+		var entry = cache.load(MODEL_HASH, List.of("Component:a")).get();
+		assertEquals(ENTRY.distinctImpactSet(), entry.distinctImpactSet());
+		assertEquals("b", entry.impacts().get(0).elementId());
+		assertEquals(1L, entry.impacts().get(0).occurrence());
+
+		assertTrue(cache.load("other", List.of("Component:a")).isEmpty());
+		assertTrue(cache.load(MODEL_HASH, List.of()).isEmpty());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvicted() throws IOException {
+		var unlimitedCache = new ImpactResultCache(this.cacheDirectory, Long.MAX_VALUE, Duration.ofDays(1));
+		unlimitedCache.store(MODEL_HASH, List.of("Component:a"), ENTRY);
+		Path oldFile = unlimitedCache.getCacheFile(MODEL_HASH, List.of("Component:a"));
+		Files.setLastModifiedTime(oldFile, FileTime.from(Instant.now().minusSeconds(60)));
+
+		var cache = new ImpactResultCache(this.cacheDirectory, Files.size(oldFile), Duration.ofDays(1));
+		cache.store(MODEL_HASH, List.of("Component:c"), ENTRY);
+
+		assertFalse(Files.exists(oldFile));
+		assertTrue(cache.load(MODEL_HASH, List.of("Component:c")).isPresent());
+	}
+
+	@Test
+	public void testExpiredEntriesAreIgnored() throws IOException {
+		var cache = new ImpactResultCache(this.cacheDirectory, Long.MAX_VALUE, Duration.ofHours(1));
+		cache.store(MODEL_HASH, List.of("Component:a"), ENTRY);
+		Path cacheFile = cache.getCacheFile(MODEL_HASH, List.of("Component:a"));
+		Files.setLastModifiedTime(cacheFile, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+		assertTrue(cache.load(MODEL_HASH, List.of("Component:a")).isEmpty());
+		assertFalse(Files.exists(cacheFile));
+	}
+
+	@Test
+	public void testUnusableEntriesAreIgnored() throws IOException {
+		var cache = new ImpactResultCache(this.cacheDirectory, Long.MAX_VALUE, Duration.ofDays(1));
+		cache.store(MODEL_HASH, List.of("Component:a"), ENTRY);
+		Path cacheFile = cache.getCacheFile(MODEL_HASH, List.of("Component:a"));
+		byte[] content = Files.readAllBytes(cacheFile);
+
+		// Negative and huge counts of the string table after a valid header
+		for (int count : new int[] { -1, Integer.MAX_VALUE }) {
+			Files.write(cacheFile, ByteBuffer.allocate(12).put(content, 0, 8).putInt(count).array());
+			assertTrue(cache.load(MODEL_HASH, List.of("Component:a")).isEmpty());
+		}
+
+		Files.write(cacheFile, Arrays.copyOf(content, content.length - 1));
+		assertTrue(cache.load(MODEL_HASH, List.of("Component:a")).isEmpty());
+
+		Files.write(cacheFile, new byte[] { 1, 2, 3 });
+		assertTrue(cache.load(MODEL_HASH, List.of("Component:a")).isEmpty());
+	}
+
+	private UncertaintySourceCollection createUncertaintySourceCollection(ImpactResultCache cache,
+			AnalysisMetrics metrics) {
+		var core = this.analysis.getCore();
+		return new UncertaintySourceCollection(core.getActionSequences(), core.getPropagationHelper(), metrics, cache,
+				MODEL_HASH);
+	}
+
+	private static Set<List<?>> elementsOf(Set<ActionSequence> sections) {
+		return sections.stream().map(it -> it.getElements()).collect(Collectors.toSet());
+	}
+
+}
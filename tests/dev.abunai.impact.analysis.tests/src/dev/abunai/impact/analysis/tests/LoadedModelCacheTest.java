@@ -0,0 +1,133 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import rest.LoadedModel;
+import rest.LoadedModelCache;
+import rest.LoadedModelCache.State;
+
+public class LoadedModelCacheTest {
+
+	private final Map<String, Long> estimatedBytes = new HashMap<>();
+	private final Map<String, Integer> loads = new HashMap<>();
+	// Loads of the given models fail once
+	private final List<String> failingModels = new ArrayList<>();
+	// Loads started with the deferred executor, run explicitly by the tests
+	private final List<Runnable> pendingLoads = new ArrayList<>();
+
+	@Test
+	public void testLeastRecentlyUsedModelsAreEvicted() {
+		var cache = this.createCache(2, Long.MAX_VALUE);
+		cache.get("a");
+		cache.get("b");
+		cache.get("a");
+		cache.get("c");
+
+		assertEquals(State.READY, cache.getStatus("a").state());
+		assertEquals(State.NOT_LOADED, cache.getStatus("b").state());
+		assertEquals(State.READY, cache.getStatus("c").state());
+		assertEquals(1, cache.getEvictions());
+
+		// The estimated heap usage is bounded as well
+		this.estimatedBytes.put("d", 2L);
+		this.estimatedBytes.put("e", 2L);
+		var boundedCache = this.createCache(10, 3);
+		boundedCache.get("d");
+		boundedCache.get("e");
+
+		assertEquals(Map.of("e", 2L), boundedCache.getEstimatedBytes());
+		assertEquals(1, boundedCache.getEvictions());
+	}
+
+	@Test
+	public void testLoadingModelsAreNotEvicted() {
+		var cache = this.createCache(1, Long.MAX_VALUE);
+		var loadingModel = cache.getAsync("a", this.pendingLoads::add);
+		cache.get("b");
+
+		assertEquals(State.LOADING, cache.getStatus("a").state());
+		assertEquals(State.READY, cache.getStatus("b").state());
+		assertEquals(0, cache.getEvictions());
+
+		// The completed load evicts the least recently used loaded model instead
+		this.runPendingLoads();
+		assertEquals("a", loadingModel.join().modelName());
+		assertEquals(State.READY, cache.getStatus("a").state());
+		assertEquals(State.NOT_LOADED, cache.getStatus("b").state());
+		assertEquals(1, cache.getEvictions());
+	}
+
+	@Test
+	public void testInvalidateDuringLoad() {
+		var cache = this.createCache(10, Long.MAX_VALUE);
+		var loadingModel = cache.getAsync("a", this.pendingLoads::add);
+		cache.invalidate("a");
+		assertEquals(State.NOT_LOADED, cache.getStatus("a").state());
+
+		// The invalidated load still completes for its callers, but is not cached
+		this.runPendingLoads();
+		assertEquals("a", loadingModel.join().modelName());
+		assertEquals(State.NOT_LOADED, cache.getStatus("a").state());
+
+		var model = cache.get("a");
+		assertEquals(2, this.loads.get("a"));
+		assertEquals(2, cache.getMisses());
+		assertSame(model, cache.get("a"));
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void testFailedLoadIsRetried() {
+		var cache = this.createCache(10, Long.MAX_VALUE);
+		this.failingModels.add("a");
+
+		assertThrows(CompletionException.class, () -> cache.get("a"));
+		var status = cache.getStatus("a");
+		assertEquals(State.FAILED, status.state());
+		assertTrue(status.error().contains("Unable to load a"));
+
+		assertEquals("a", cache.get("a").modelName());
+		assertEquals(2, this.loads.get("a"));
+		assertEquals(State.READY, cache.getStatus("a").state());
+
+		// A load rejected by the executor fails as well and is retried
+		var rejectedModel = cache.getAsync("b", it -> {
+			throw new RejectedExecutionException();
+		});
+		assertTrue(rejectedModel.isCompletedExceptionally());
+		assertEquals(State.FAILED, cache.getStatus("b").state());
+		assertEquals("b", cache.get("b").modelName());
+	}
+
+	private LoadedModelCache createCache(int maxEntries, long maxEstimatedBytes) {
+		return new LoadedModelCache(modelName -> "hash", (modelName, contentHash) -> {
+			this.loads.merge(modelName, 1, Integer::sum);
+
+			if (this.failingModels.remove(modelName)) {
+				throw new IllegalStateException("Unable to load " + modelName);
+			}
+
+			return new LoadedModel(modelName, contentHash, null, List.of(), null,
+					this.estimatedBytes.getOrDefault(modelName, 1L));
+		}, maxEntries, maxEstimatedBytes);
+	}
+
+	private void runPendingLoads() {
+		var loads = List.copyOf(this.pendingLoads);
+		this.pendingLoads.clear();
+		loads.forEach(Runnable::run);
+	}
+
+}
@@ -0,0 +1,56 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+
+public class MemoizedResultsTest {
+
+	@Test
+	public void testPropagationResultIsReused() {
+		var analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		analysis.resetUncertaintySources();
+		analysis.getUncertaintySources().addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+
+		var result = analysis.propagate();
+		assertSame(result, analysis.propagate());
+
+		analysis.getUncertaintySources().addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		var changedResult = analysis.propagate();
+		assertNotSame(result, changedResult);
+		assertSame(changedResult, analysis.propagate());
+
+		analysis.resetUncertaintySources();
+		assertEquals(0, analysis.propagate().getUncertaintyImpacts().size());
+	}
+
+	@Test
+	public void testDerivedResultsAreComputedOnce() {
+		var analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		analysis.resetUncertaintySources();
+		analysis.getUncertaintySources().addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+		var result = analysis.propagate();
+		// The loaded analysis is shared with other test cases, which record impact sets as well
+		long impactSetExecutions = analysis.getMetrics().snapshot().get(AnalysisPhase.IMPACT_SET).executions();
+
+		var distinctImpactSet = result.getImpactSet(true);
+		var impactSet = result.getImpactSet(false);
+		assertSame(distinctImpactSet, result.getImpactSet(true));
+		assertSame(impactSet, result.getImpactSet(false));
+		assertSame(result.getAllAffectedElementsAfterPropagation(), result.getAllAffectedElementsAfterPropagation());
+		assertSame(result.getAllAffectedDataFlowSectionsAfterPropagation(),
+				result.getAllAffectedDataFlowSectionsAfterPropagation());
+		assertEquals(2,
+				analysis.getMetrics().snapshot().get(AnalysisPhase.IMPACT_SET).executions() - impactSetExecutions);
+
+		assertThrows(UnsupportedOperationException.class, () -> impactSet.clear());
+		var affectedElements = result.getAllAffectedElementsAfterPropagation();
+		assertThrows(UnsupportedOperationException.class, () -> affectedElements.clear());
+	}
+
+}
@@ -0,0 +1,82 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import rest.ModelFileStore;
+
+public class ModelFileStoreTest {
+
+	@TempDir
+	Path modelFolder;
+
+	private final ModelFileStore modelFileStore = new ModelFileStore();
+
+	@Test
+	public void testIdenticalContentIsNotReplaced() throws IOException {
+		Path file = this.modelFolder.resolve("default.repository");
+		assertTrue(this.store(file, "repository"));
+
+		FileTime lastModified = FileTime.from(Instant.now().minusSeconds(60));
+		Files.setLastModifiedTime(file, lastModified);
+
+		assertFalse(this.store(file, "repository"));
+		assertEquals(lastModified, Files.getLastModifiedTime(file));
+		assertEquals(List.of(file), this.listFiles());
+
+		assertTrue(this.store(file, "changed repository"));
+		assertEquals("changed repository", Files.readString(file));
+	}
+
+	@Test
+	public void testChangedContentChangesFingerprint() throws IOException {
+		Path repository = this.modelFolder.resolve("default.repository");
+		Path system = this.modelFolder.resolve("default.system");
+		this.store(repository, "repository");
+		this.store(system, "system");
+		String fingerprint = this.modelFileStore.getFingerprint(this.modelFolder);
+
+		this.store(system, "system");
+		assertEquals(fingerprint, this.modelFileStore.getFingerprint(this.modelFolder));
+
+		// Leftovers of concurrent uploads are not part of the model
+		Files.writeString(this.modelFolder.resolve(".default.system123.upload"), "partial");
+		assertEquals(fingerprint, this.modelFileStore.getFingerprint(this.modelFolder));
+
+		this.store(system, "changed system");
+		String changedFingerprint = this.modelFileStore.getFingerprint(this.modelFolder);
+		assertNotEquals(fingerprint, changedFingerprint);
+
+		// Files modified outside of the store are hashed again
+		Files.writeString(repository, "changed repository");
+		assertNotEquals(changedFingerprint, this.modelFileStore.getFingerprint(this.modelFolder));
+		assertEquals(new ModelFileStore().getFingerprint(this.modelFolder),
+				this.modelFileStore.getFingerprint(this.modelFolder));
+	}
+
+	private boolean store(Path file, String content) throws IOException {
+		return this.modelFileStore.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), file);
+	}
+
+	private List<Path> listFiles() throws IOException {
+		try (Stream<Path> files = Files.list(this.modelFolder)) {
+			return files.toList();
+		}
+	}
+
+}
@@ -0,0 +1,229 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.sun.management.ThreadMXBean;
+
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.ScalableModelGenerator;
+import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.ScalableModelGenerator.Parameters;
+
+/**
+ * Checks that propagation and impact set computation do not scale worse than
+ * recorded in the committed baseline. Every scenario is measured on generated
+ * models of increasing size. The growth exponent of the time and allocated
+ * bytes over the number of sequence elements must stay within the budget of
+ * the baseline, so e.g. reintroduced quadratic behavior fails the test on any
+ * machine. Absolute values are compared as well, if they have been recorded on
+ * the reference machine with <code>-Dabunai.performance.recordBaseline=true</code>.
+ */
+public class PerformanceRegressionTest {
+
+	private static final Path BASELINE_FILE = Paths.get("performance-baseline.properties");
+	private static final boolean RECORD_BASELINE = Boolean.getBoolean("abunai.performance.recordBaseline");
+	private static final double TIME_TOLERANCE = Double
+			.parseDouble(System.getProperty("abunai.performance.timeTolerance", "3.0"));
+	private static final double ALLOCATION_TOLERANCE = Double
+			.parseDouble(System.getProperty("abunai.performance.allocationTolerance", "1.5"));
+	// Recorded exponent budgets leave room for measurement noise on small models
+	private static final double RECORDED_EXPONENT_MARGIN = 0.3;
+
+	private static final int[] COMPONENTS = { 6, 12, 24 };
+	private static final int INTERFACE_FAN_OUT = 2;
+	private static final int CALL_DEPTH = 3;
+	private static final int BRANCH_COUNT = 1;
+	private static final int BRANCH_WIDTH = 2;
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASUREMENT_ROUNDS = 5;
+	private static final long MIN_ROUND_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private static final Properties baseline = new Properties();
+	private static volatile int sink;
+
+	enum Scenario {
+		COMPONENT((it, parameters) -> it.addComponentUncertaintyInAssemblyContext(
+				ScalableModelGenerator.getAssemblyContextId(lastComponent(parameters)))),
+		INTERFACE((it, parameters) -> it.addInterfaceUncertaintyInInterface(
+				ScalableModelGenerator.getInterfaceId(lastComponent(parameters)))),
+		ACTOR((it, parameters) -> it.addActorUncertaintyInResourceContainer(
+				ScalableModelGenerator.getResourceContainerId(parameters.callDepth() - 1))),
+		CONNECTOR((it, parameters) -> it
+				.addConnectorUncertaintyInConnector(ScalableModelGenerator.getConnectorId(0, 0)));
+
+		private final BiConsumer<UncertaintySourceCollection, Parameters> uncertaintySources;
+
+		private Scenario(BiConsumer<UncertaintySourceCollection, Parameters> uncertaintySources) {
+			this.uncertaintySources = uncertaintySources;
+		}
+
+		private static int lastComponent(Parameters parameters) {
+			return parameters.components() - 1;
+		}
+	}
+
+	private enum Operation {
+		PROPAGATE("propagate"), IMPACT_SET("impactSet");
+
+		private final String key;
+
+		private Operation(String key) {
+			this.key = key;
+		}
+	}
+
+	private record Measurement(int components, long elements, long nanos, long allocatedBytes) {
+	}
+
+	@BeforeAll
+	public static void loadBaseline() throws IOException {
+		if (Files.exists(BASELINE_FILE)) {
+			try (Reader reader = Files.newBufferedReader(BASELINE_FILE, StandardCharsets.UTF_8)) {
+				baseline.load(reader);
+			}
+		}
+	}
+
+	@AfterAll
+	public static void storeBaseline() throws IOException {
+		if (!RECORD_BASELINE) {
+			return;
+		}
+
+		List<String> lines = new ArrayList<>();
+		lines.add("# Baseline of the PerformanceRegressionTest, absolute values are recorded on the");
+		lines.add("# reference machine with -Dabunai.performance.recordBaseline=true.");
+		lines.add("# <scenario>.<operation>.<time|allocation>.exponent is the largest accepted growth");
+		lines.add("# exponent over the number of sequence elements.");
+		lines.add("# <scenario>.<operation>.<time|allocation>.<components> is the recorded value in");
+		lines.add("# nanoseconds or allocated bytes for the model with the given number of components.");
+		for (String key : new TreeSet<>(baseline.stringPropertyNames())) {
+			lines.add(key + "=" + baseline.getProperty(key));
+		}
+
+		Files.write(BASELINE_FILE, lines, StandardCharsets.UTF_8);
+	}
+
+	@ParameterizedTest
+	@EnumSource(Scenario.class)
+	public void testScaling(Scenario scenario) throws IOException {
+		Map<Operation, List<Measurement>> measurements = new EnumMap<>(Operation.class);
+
+		for (int components : COMPONENTS) {
+			var parameters = new Parameters(components, INTERFACE_FAN_OUT, CALL_DEPTH, BRANCH_COUNT, BRANCH_WIDTH);
+			new ScalableModelGenerator(parameters).generateInto(Paths.get("..", TestBase.TEST_MODEL_PROJECT_NAME));
+			var analysis = TestBase.loadAnalysis(ScalableModelGenerator.BASE_FOLDER, parameters.getFolderName(),
+					ScalableModelGenerator.FILES_NAME);
+			long elements = AnalysisMetrics.countElements(analysis.getActionSequences());
+
+			var uncertaintySources = analysis.createUncertaintySourceCollection();
+			scenario.uncertaintySources.accept(uncertaintySources, parameters);
+			var impacts = uncertaintySources.propagate();
+			assertFalse(impacts.getUncertaintyImpacts().isEmpty(), "No impacts found for scenario " + scenario);
+
+			measurements.computeIfAbsent(Operation.PROPAGATE, it -> new ArrayList<>())
+					.add(measure(components, elements, uncertaintySources::propagate));
+			measurements.computeIfAbsent(Operation.IMPACT_SET, it -> new ArrayList<>())
+					.add(measure(components, elements, () -> new UncertaintyImpactCollection(
+						impacts.getActionSequences(), impacts.getUncertaintyImpacts()).getImpactSet(true)));
+		}
+
+		measurements.forEach((operation, results) -> {
+			String key = scenario.name() + "." + operation.key;
+			check(key + ".time", results, Measurement::nanos, TIME_TOLERANCE);
+			check(key + ".allocation", results, Measurement::allocatedBytes, ALLOCATION_TOLERANCE);
+		});
+	}
+
+	private static void check(String key, List<Measurement> results, ToLongFunction<Measurement> metric,
+			double tolerance) {
+		var first = results.get(0);
+		var last = results.get(results.size() - 1);
+		double growth = (double) Math.max(1, metric.applyAsLong(last)) / Math.max(1, metric.applyAsLong(first));
+		double exponent = Math.log(growth) / Math.log((double) last.elements() / first.elements());
+		System.out.println(String.format("%s: exponent %.2f, %s", key, exponent,
+				results.stream().map(it -> it.components() + " components: " + metric.applyAsLong(it)).toList()));
+
+		if (RECORD_BASELINE) {
+			double budget = Math.ceil((exponent + RECORDED_EXPONENT_MARGIN) * 10) / 10;
+			baseline.putIfAbsent(key + ".exponent", String.format(Locale.ROOT, "%.1f", budget));
+			results.forEach(it -> baseline.setProperty(key + "." + it.components(),
+					Long.toString(metric.applyAsLong(it))));
+			return;
+		}
+
+		String budget = baseline.getProperty(key + ".exponent");
+		assertNotNull(budget, "No exponent budget for " + key + " in " + BASELINE_FILE);
+		assertTrue(exponent <= Double.parseDouble(budget),
+				String.format("%s grows with exponent %.2f, the budget is %s.", key, exponent, budget));
+
+		for (var result : results) {
+			String recorded = baseline.getProperty(key + "." + result.components());
+
+			if (recorded != null) {
+				long value = metric.applyAsLong(result);
+				assertTrue(value <= Long.parseLong(recorded) * tolerance,
+						String.format("%s with %d components is %d, the baseline is %s.", key, result.components(),
+								value, recorded));
+			}
+		}
+	}
+
+	// The fastest round is reported, as it is the least disturbed by other activity
+	private static Measurement measure(int components, long elements, Supplier<?> operation) {
+		var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long bestNanos = Long.MAX_VALUE;
+		long bestAllocatedBytes = Long.MAX_VALUE;
+
+		for (int round = 0; round < WARMUP_ROUNDS + MEASUREMENT_ROUNDS; round++) {
+			int iterations = 0;
+			long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+			long start = System.nanoTime();
+
+			do {
+				sink ^= System.identityHashCode(operation.get());
+				iterations++;
+			} while (System.nanoTime() - start < MIN_ROUND_NANOS);
+
+			long nanos = (System.nanoTime() - start) / iterations;
+			long allocatedBytes = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / iterations;
+
+			if (round >= WARMUP_ROUNDS) {
+				bestNanos = Math.min(bestNanos, nanos);
+				bestAllocatedBytes = Math.min(bestAllocatedBytes, allocatedBytes);
+			}
+		}
+
+		return new Measurement(components, elements, bestNanos, bestAllocatedBytes);
+	}
+
+}
@@ -0,0 +1,69 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.output.JsonResultSink;
+import dev.abunai.impact.analysis.output.PlainTextResultSink;
+import dev.abunai.impact.analysis.output.ResultSink;
+
+public class ResultSinkTest {
+
+	private UncertaintyImpactCollection propagate() {
+		var uncertaintySources = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default")
+				.createUncertaintySourceCollection();
+		uncertaintySources.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+		return uncertaintySources.propagate();
+	}
+
+	@Test
+	public void testPlainTextResults() {
+		var result = this.propagate();
+		var outputStream = new ByteArrayOutputStream();
+
+		result.writeResults(new PlainTextResultSink(outputStream, true), "Component", true, true, true);
+		var output = outputStream.toString(StandardCharsets.UTF_8);
+
+		assertTrue(output.startsWith("Results of: Component\n"));
+		assertTrue(output.contains(String.format("Uncertainty impacts (%d):", result.getUncertaintyImpacts().size())));
+		assertTrue(output.contains(String.format("Distinct Impact set (%d):", result.getImpactSet(true).size())));
+	}
+
+	@Test
+	public void testJsonResults() {
+		var result = this.propagate();
+		var outputStream = new ByteArrayOutputStream();
+
+		result.writeResults(new JsonResultSink(outputStream), "Component \"A\"", false, false, true);
+		var output = outputStream.toString(StandardCharsets.UTF_8);
+
+		assertTrue(output.startsWith(
+				"{\"title\":\"Component \\\"A\\\"\",\"sections\":[{\"name\":\"Distinct Impact set\",\"entries\":[{"));
+		assertTrue(output.endsWith(",\"size\":" + result.getImpactSet(true).size() + "}]}\n"));
+	}
+
+	@Test
+	public void testJsonSectionWithUnknownSize() {
+		var outputStream = new ByteArrayOutputStream();
+		var sink = new JsonResultSink(outputStream);
+
+		sink.beginResults(null);
+		sink.beginSection("Elements", ResultSink.UNKNOWN_SIZE);
+		sink.writeElement("a\nb");
+		sink.writeElement(1);
+		sink.endSection();
+		sink.endResults();
+
+		assertEquals("{\"title\":null,\"sections\":[{\"name\":\"Elements\","
+				+ "\"entries\":[\"a\\nb\",\"1\"],\"size\":2}]}\n", outputStream.toString(StandardCharsets.UTF_8));
+		assertThrows(IllegalStateException.class, () -> sink.writeElement("outside"));
+	}
+
+}
@@ -0,0 +1,117 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.AbstractPCMActionSequenceElement;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.model.impact.UncertaintyImpact;
+import dev.abunai.impact.analysis.model.source.UncertaintySource;
+
+public class ReverseImpactTest {
+
+	private StandalonePCMUncertaintyImpactAnalysis analysis;
+	private UncertaintyImpactCollection result;
+
+	@BeforeEach
+	public void setup() {
+		this.analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		var uncertaintySources = this.analysis.getUncertaintySources();
+		uncertaintySources.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg");
+		uncertaintySources.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		uncertaintySources.addInterfaceUncertaintyInSignature("_YWtP0ITmEeywmO_IpTxeAg");
+		uncertaintySources.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+		uncertaintySources.addBehaviorUncertaintyInSetVariableAction("_tMGKUITmEeywmO_IpTxeAg");
+		this.result = this.analysis.propagate();
+	}
+
+	@Test
+	public void testSourcesBySequence() {
+		var actionSequences = this.analysis.getActionSequences();
+
+		for (int i = 0; i < actionSequences.size(); i++) {
+			Set<UncertaintySource<?>> expected = new HashSet<>();
+			for (var impact : this.result.getUncertaintyImpacts()) {
+				if (containsIdentical(impact.getAffectedDataFlows(), actionSequences.get(i))) {
+					expected.add(impact.getOrigin());
+				}
+			}
+
+			assertEquals(expected, new HashSet<>(this.result.getSourcesAffecting(i)));
+		}
+	}
+
+	@Test
+	public void testSourcesByElement() {
+		for (var impact : this.result.getUncertaintyImpacts()) {
+			for (var section : impact.getAffectedDataFlowSections()) {
+				for (var element : section.getElements()) {
+					assertTrue(sourcesAffecting(this.result, element).contains(impact.getOrigin()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReverseAnalysis() {
+		var actionSequences = this.analysis.getActionSequences();
+		List<AbstractPCMActionSequenceElement<?>> targets = new ArrayList<>();
+		for (var sequence : actionSequences) {
+			targets.add((AbstractPCMActionSequenceElement<?>) sequence.getElements().get(0));
+			targets.add((AbstractPCMActionSequenceElement<?>) sequence.getElements()
+					.get(sequence.getElements().size() / 2));
+			targets.add((AbstractPCMActionSequenceElement<?>) sequence.getElements()
+					.get(sequence.getElements().size() - 1));
+		}
+
+		for (var target : targets) {
+			var sources = this.analysis.findUncertaintySourcesImpacting(target);
+			assertFalse(sources.isEmpty());
+
+			// Every reported source reaches the target
+			for (var source : sources) {
+				List<UncertaintyImpact<?>> impacts = new ArrayList<>(source.propagate());
+				var sourceResult = new UncertaintyImpactCollection(actionSequences, impacts);
+				assertTrue(sourcesAffecting(sourceResult, target).contains(source), source.toString());
+			}
+
+			// Every registered source reaching the target is reported
+			for (var source : sourcesAffecting(this.result, target)) {
+				assertTrue(sources.stream().anyMatch(it -> it.getClass().equals(source.getClass())
+						&& it.getArchitecturalElement() == source.getArchitecturalElement()), source.toString());
+			}
+		}
+	}
+
+	// The sources affecting the given element or an equal element in any sequence
+	private Set<UncertaintySource<?>> sourcesAffecting(UncertaintyImpactCollection collection, Object target) {
+		Set<UncertaintySource<?>> sources = new LinkedHashSet<>();
+
+		for (var sequence : this.analysis.getActionSequences()) {
+			for (var element : sequence.getElements()) {
+				if (element.equals(target)) {
+					sources.addAll(collection.getSourcesAffecting(element));
+				}
+			}
+		}
+
+		return sources;
+	}
+
+	private static boolean containsIdentical(List<ActionSequence> sequences, ActionSequence sequence) {
+		return sequences.stream().anyMatch(it -> it == sequence);
+	}
+
+}
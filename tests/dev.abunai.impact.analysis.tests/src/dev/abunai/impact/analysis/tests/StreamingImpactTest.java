@@ -0,0 +1,90 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+
+public class StreamingImpactTest {
+
+	private static final String COMPONENT_ID = "_4YTEYITjEeywmO_IpTxeAg";
+
+	private StandalonePCMUncertaintyImpactAnalysis analysis;
+	private UncertaintySourceCollection uncertaintySources;
+
+	@BeforeEach
+	public void setup() {
+		this.analysis = TestBase.loadAnalysis("models", "InternationalOnlineShop", "default");
+		this.uncertaintySources = this.analysis.createUncertaintySourceCollection();
+		this.uncertaintySources.addComponentUncertaintyInAssemblyContext(COMPONENT_ID);
+		this.uncertaintySources.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+		this.uncertaintySources.addConnectorUncertaintyInConnector("_E9MIUITkEeywmO_IpTxeAg");
+	}
+
+	@Test
+	public void testStreamEqualsPropagation() {
+		var expected = this.uncertaintySources.propagate().getUncertaintyImpacts();
+		var actual = this.uncertaintySources.streamImpacts().toList();
+
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i).getOrigin(), actual.get(i).getOrigin());
+			assertSame(expected.get(i).getAffectedElement(), actual.get(i).getAffectedElement());
+		}
+	}
+
+	@Test
+	public void testAnyImpactOnComponentStopsEarly() {
+		var component = this.analysis.getCore().getPropagationHelper().findAssemblyContext(COMPONENT_ID).get();
+
+		long propagations = this.countPropagations();
+		assertTrue(this.uncertaintySources.anyImpactOn(component));
+		assertEquals(1, this.countPropagations() - propagations);
+	}
+
+	@Test
+	public void testAnyImpactOnElement() {
+		var result = this.uncertaintySources.propagate();
+
+		for (var sequence : this.analysis.getActionSequences()) {
+			for (var element : sequence.getElements()) {
+				boolean expected = result.getAllAffectedDataFlowSectionsAfterPropagation().stream()
+						.anyMatch(it -> it.getElements().contains(element));
+
+				long propagations = this.countPropagations();
+				assertEquals(expected, this.uncertaintySources.anyImpactOn(element));
+
+				if (!expected) {
+					assertEquals(this.uncertaintySources.getUncertaintySources().size(),
+							this.countPropagations() - propagations);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFirstImpactedFlows() {
+		long propagations = this.countPropagations();
+		var impactedFlows = this.uncertaintySources.firstImpactedFlows(1);
+
+		assertEquals(1, impactedFlows.size());
+		assertEquals(1, this.countPropagations() - propagations);
+
+		var allImpactedFlows = this.uncertaintySources.firstImpactedFlows(Integer.MAX_VALUE);
+		assertSame(impactedFlows.get(0), allImpactedFlows.get(0));
+		assertEquals(allImpactedFlows.size(), allImpactedFlows.stream().distinct().count());
+		assertFalse(allImpactedFlows.isEmpty());
+	}
+
+	private long countPropagations() {
+		return this.analysis.getCore().getMetrics().snapshot().get(AnalysisPhase.PROPAGATE).executions();
+	}
+
+}
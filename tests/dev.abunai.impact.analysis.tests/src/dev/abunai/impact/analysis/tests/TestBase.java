@@ -3,6 +3,8 @@ package dev.abunai.impact.analysis.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.palladiosimulator.dataflow.confidentiality.analysis.builder.DataFlowAnalysisBuilder;
@@ -16,6 +18,11 @@ import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.Activator;
 public abstract class TestBase {
 
 	public static final String TEST_MODEL_PROJECT_NAME = "dev.abunai.impact.analysis.testmodels";
+
+	// Loaded models are shared between test cases, each test case only gets a fresh
+	// set of uncertainty sources
+	private static final Map<String, StandalonePCMUncertaintyImpactAnalysis> loadedAnalyses = new ConcurrentHashMap<>();
+
 	protected StandalonePCMUncertaintyImpactAnalysis analysis = null;
 
 	protected abstract String getFolderName();
@@ -28,21 +35,37 @@ public abstract class TestBase {
 
 	@BeforeEach
 	public void setup() {
-		final var usageModelPath = Paths.get(getBaseFolder(), getFolderName(), getFilesName() + ".usagemodel")
-				.toString();
-		final var allocationPath = Paths.get(getBaseFolder(), getFolderName(), getFilesName() + ".allocation")
+		var analysis = loadAnalysis(getBaseFolder(), getFolderName(), getFilesName());
+		analysis.resetUncertaintySources();
+		this.analysis = analysis;
+	}
+
+	public static StandalonePCMUncertaintyImpactAnalysis loadAnalysis(String baseFolder, String folderName,
+			String filesName) {
+		return loadedAnalyses.computeIfAbsent(Paths.get(baseFolder, folderName, filesName).toString(),
+				it -> createAnalysis(baseFolder, folderName, filesName));
+	}
+
+	public static StandalonePCMUncertaintyImpactAnalysis createAnalysis(String baseFolder, String folderName,
+			String filesName) {
+		return createAnalysis(baseFolder, folderName, filesName, new PCMUncertaintyImpactAnalysisBuilder());
+	}
+
+	public static StandalonePCMUncertaintyImpactAnalysis createAnalysis(String baseFolder, String folderName,
+			String filesName, PCMUncertaintyImpactAnalysisBuilder builder) {
+		final var usageModelPath = Paths.get(baseFolder, folderName, filesName + ".usagemodel").toString();
+		final var allocationPath = Paths.get(baseFolder, folderName, filesName + ".allocation").toString();
+		final var nodeCharacteristicsPath = Paths.get(baseFolder, folderName, filesName + ".nodecharacteristics")
 				.toString();
-		final var nodeCharacteristicsPath = Paths
-				.get(getBaseFolder(), getFolderName(), getFilesName() + ".nodecharacteristics").toString();
 
 		var analysis = new DataFlowAnalysisBuilder().standalone().modelProjectName(TEST_MODEL_PROJECT_NAME)
 				.useBuilder(new PCMDataFlowConfidentialityAnalysisBuilder()).usePluginActivator(Activator.class)
 				.useUsageModel(usageModelPath).useAllocationModel(allocationPath)
 				.useNodeCharacteristicsModel(nodeCharacteristicsPath)
-				.useBuilder(new PCMUncertaintyImpactAnalysisBuilder()).build();
+				.useBuilder(builder).build();
 
 		analysis.initializeAnalysis();
-		this.analysis = analysis;
+		return analysis;
 	}
 
 	protected void assertAnalysisResults(int resultSize, int numberOfDataFlowSections, int impactSetSize) {
@@ -0,0 +1,107 @@
+package dev.abunai.impact.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+import dev.abunai.impact.analysis.model.impact.TransitiveUncertaintyImpact;
+import dev.abunai.impact.analysis.util.CallGraph;
+import dev.abunai.impact.analysis.util.PropagationIndex;
+
+public class TransitivePropagationTest {
+
+	@Test
+	public void testComponentUncertainty() {
+		assertFixpoint("InternationalOnlineShop",
+				it -> it.addComponentUncertaintyInAssemblyContext("_4YTEYITjEeywmO_IpTxeAg"));
+	}
+
+	@Test
+	public void testBehaviorUncertainty() {
+		assertFixpoint("BranchingOnlineShop",
+				it -> it.addBehaviorUncertaintyInExternalCallAction("_QqAdMNv2EeyYrpd_1AtxSw"));
+	}
+
+	@Test
+	public void testSeveralUncertainties() {
+		assertFixpoint("InternationalOnlineShop", it -> {
+			it.addActorUncertaintyInResourceContainer("_qvz80ITgEeywmO_IpTxeAg");
+			it.addConnectorUncertaintyInConnector("_BYWIkITkEeywmO_IpTxeAg");
+			it.addBehaviorUncertaintyInSetVariableAction("_tMGKUITmEeywmO_IpTxeAg");
+		});
+	}
+
+	private void assertFixpoint(String modelName, Consumer<UncertaintySourceCollection> sources) {
+		var analysis = TestBase.loadAnalysis("models", modelName, "default");
+		var uncertaintySources = analysis.createUncertaintySourceCollection();
+		sources.accept(uncertaintySources);
+
+		var directResult = uncertaintySources.propagate();
+		var directImpacts = directResult.getUncertaintyImpacts();
+		var result = uncertaintySources.propagateTransitively();
+		var allImpacts = result.getUncertaintyImpacts();
+
+		// The direct impacts come first and are unchanged
+		assertTrue(allImpacts.size() >= directImpacts.size());
+		for (int i = 0; i < directImpacts.size(); i++) {
+			assertSame(directImpacts.get(i).getAffectedElement(), allImpacts.get(i).getAffectedElement());
+			assertSame(directImpacts.get(i).getOrigin(), allImpacts.get(i).getOrigin());
+		}
+
+		for (var impact : allImpacts.subList(directImpacts.size(), allImpacts.size())) {
+			var transitiveImpact = (TransitiveUncertaintyImpact<?>) impact;
+			assertTrue(CallGraph.isCallOrReturn(transitiveImpact.getCause()));
+			assertTrue(directImpacts.contains(transitiveImpact.getDirectImpact()));
+		}
+
+		// No call or return within an affected section reaches an unaffected element
+		var actionSequences = analysis.getActionSequences();
+		int[] firstAffectedPositions = getFirstAffectedPositions(actionSequences, result);
+		var callGraph = analysis.getCore().getPropagationHelper().getCallGraph();
+
+		for (int i = 0; i < actionSequences.size(); i++) {
+			var elements = actionSequences.get(i).getElements();
+
+			for (int j = firstAffectedPositions[i]; j < elements.size(); j++) {
+				for (long target : callGraph.getTargets(PropagationIndex.pack(i, j))) {
+					assertTrue(PropagationIndex.positionOf(target) >= firstAffectedPositions[PropagationIndex
+							.sequenceIndexOf(target)]);
+				}
+			}
+		}
+
+		assertTrue(countAffected(getFirstAffectedPositions(actionSequences, directResult),
+				actionSequences) <= countAffected(firstAffectedPositions, actionSequences));
+	}
+
+	private static int[] getFirstAffectedPositions(List<ActionSequence> actionSequences,
+			UncertaintyImpactCollection result) {
+		int[] firstAffectedPositions = actionSequences.stream().mapToInt(it -> it.getElements().size()).toArray();
+
+		for (var impact : result.getUncertaintyImpacts()) {
+			for (var dataFlow : impact.getAffectedDataFlows()) {
+				int sequenceIndex = actionSequences.indexOf(dataFlow);
+				int position = dataFlow.getElements().indexOf(impact.getAffectedElement());
+				firstAffectedPositions[sequenceIndex] = Math.min(firstAffectedPositions[sequenceIndex], position);
+			}
+		}
+
+		return firstAffectedPositions;
+	}
+
+	private static long countAffected(int[] firstAffectedPositions, List<ActionSequence> actionSequences) {
+		long affected = 0;
+		for (int i = 0; i < actionSequences.size(); i++) {
+			affected += actionSequences.get(i).getElements().size() - firstAffectedPositions[i];
+		}
+		return affected;
+	}
+
+}
@@ -1,31 +1,49 @@
 package dev.abunai.impact.analysis.tests.evaluation;
 
-import java.util.List;
-import java.util.function.BiPredicate;
+import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.PCMActionSequence;
 
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.batch.BatchScenario;
+import dev.abunai.impact.analysis.constraint.CharacteristicInterner;
+import dev.abunai.impact.analysis.constraint.CharacteristicMasks;
+import dev.abunai.impact.analysis.constraint.Constraint;
 import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
 import dev.abunai.impact.analysis.tests.TestBase;
 
 public abstract class EvaluationBase extends TestBase {
 
-	abstract void addUncertaintySources();
+	abstract void addUncertaintySources(UncertaintySourceCollection uncertaintySources);
 
 	abstract String getScenarioName();
 
-	abstract BiPredicate<List<String>, List<String>> getConstraint();
+	abstract Constraint getConstraint();
 
 	@Override
 	protected String getBaseFolder() {
 		return "casestudies/CaseStudy-CoronaWarnApp";
 	}
 
+	String getModelKey() {
+		return Paths.get(getBaseFolder(), getFolderName(), getFilesName()).toString();
+	}
+
+	StandalonePCMUncertaintyImpactAnalysis loadModel() {
+		return loadAnalysis(getBaseFolder(), getFolderName(), getFilesName());
+	}
+
+	BatchScenario toBatchScenario() {
+		return new BatchScenario(getScenarioName(), getModelKey(), this::addUncertaintySources,
+				getConstraint().compile(new CharacteristicInterner()).asPredicate());
+	}
+
 	@Test
 	public void evaluateScenario() {
-		addUncertaintySources();
+		addUncertaintySources(analysis.getUncertaintySources());
 
 		// Do uncertainty impact analysis
 		var result = analysis.propagate();
@@ -36,16 +54,10 @@ public abstract class EvaluationBase extends TestBase {
 		var evaluatedSequences = analysis.evaluateDataFlows(actionSequences);
 
 		System.out.println("Confidentiality Violations: ");
+		var characteristicMasks = CharacteristicMasks.of(evaluatedSequences);
+		var constraint = getConstraint().compile(characteristicMasks.getInterner());
 		for (int i = 0; i < evaluatedSequences.size(); i++) {
-			var violations = analysis.queryDataFlow(evaluatedSequences.get(i), it -> {
-
-				List<String> dataLiterals = it.getAllDataFlowVariables().stream().map(e -> e.getAllCharacteristics())
-						.flatMap(List::stream).map(e -> e.characteristicLiteral().getName()).toList();
-				List<String> nodeLiterals = it.getAllNodeCharacteristics().stream()
-						.map(e -> e.characteristicLiteral().getName()).toList();
-
-				return getConstraint().test(dataLiterals, nodeLiterals);
-			});
+			var violations = constraint.queryDataFlow(characteristicMasks, i);
 
 			if (!violations.isEmpty()) {
 				System.out.println(
@@ -66,4 +78,4 @@ public abstract class EvaluationBase extends TestBase {
 					UncertaintyImpactCollection.formatDataFlow(i, new PCMActionSequence(actionSequences.get(i)), true));
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package dev.abunai.impact.analysis.tests.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.PCMActionSequence;
+
+import dev.abunai.impact.analysis.batch.BatchScenarioRunner;
+import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+
+public class EvaluationBatch {
+
+	@Test
+	public void evaluateAllScenarios() {
+		List<EvaluationBase> scenarios = List.of(new EvaluationScenario1(), new EvaluationScenario2(),
+				new EvaluationScenario3(), new EvaluationScenario4());
+		Map<String, EvaluationBase> scenariosByModel = scenarios.stream()
+				.collect(Collectors.toMap(EvaluationBase::getModelKey, Function.identity()));
+
+		var runner = new BatchScenarioRunner(it -> scenariosByModel.get(it).loadModel());
+		var reports = runner.run(scenarios.stream().map(EvaluationBase::toBatchScenario).toList());
+
+		for (var report : reports) {
+			assertTrue(report.isSuccessful(), () -> report.getFailure().get().toString());
+
+			report.impacts().printResultsWithTitle(report.scenario().name(), true);
+
+			System.out.println("Confidentiality Violations: ");
+			report.violations().forEach((index, violations) -> System.out.println(
+					UncertaintyImpactCollection.formatDataFlow(index, new PCMActionSequence(violations), true)));
+		}
+	}
+
+}
@@ -1,7 +1,7 @@
 package dev.abunai.impact.analysis.tests.evaluation;
 
-import java.util.List;
-import java.util.function.BiPredicate;
+import dev.abunai.impact.analysis.constraint.Constraint;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
 
 public class EvaluationScenario1 extends EvaluationBase {
 
@@ -21,27 +21,18 @@ public class EvaluationScenario1 extends EvaluationBase {
 	}
 
 	@Override
-	void addUncertaintySources() {
+	void addUncertaintySources(UncertaintySourceCollection uncertaintySources) {
 		// Scenario 1: "One component still uncertain, the others not"
-		analysis.getUncertaintySources().addConnectorUncertaintyInConnector("_w-qoYLNzEe2o46d27a6tVQ"); // S1_1
-		analysis.getUncertaintySources().addActorUncertaintyInResourceContainer("_E9SLkLN3Ee2o46d27a6tVQ"); // S1_2
+		uncertaintySources.addConnectorUncertaintyInConnector("_w-qoYLNzEe2o46d27a6tVQ"); // S1_1
+		uncertaintySources.addActorUncertaintyInResourceContainer("_E9SLkLN3Ee2o46d27a6tVQ"); // S1_2
 	}
 
 	@Override
-	BiPredicate<List<String>, List<String>> getConstraint() {
-		return (List<String> dataLiterals, List<String> nodeLiterals) -> {
-			// S1_1
-			if (dataLiterals.contains("ConnectionIntercepted")) {
-				return true;
-			}
-
-			// S1_2
-			if (nodeLiterals.contains("IllegalDeploymentLocation")) {
-				return true;
-			}
-
-			return false;
-		};
+	Constraint getConstraint() {
+		return Constraint.builder() //
+				.anyData("ConnectionIntercepted") // S1_1
+				.anyNode("IllegalDeploymentLocation") // S1_2
+				.build();
 	}
 
 }
@@ -1,7 +1,7 @@
 package dev.abunai.impact.analysis.tests.evaluation;
 
-import java.util.List;
-import java.util.function.BiPredicate;
+import dev.abunai.impact.analysis.constraint.Constraint;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
 
 public class EvaluationScenario2 extends EvaluationBase {
 
@@ -21,27 +21,18 @@ public class EvaluationScenario2 extends EvaluationBase {
 	}
 
 	@Override
-	void addUncertaintySources() {
+	void addUncertaintySources(UncertaintySourceCollection uncertaintySources) {
 		// Scenario 2: "Environmental uncertainty in the deployment and system context"
-		analysis.getUncertaintySources().addActorUncertaintyInResourceContainer("_wqni4MP5Ee2NifGpaUwYsQ"); // S2_1
-		analysis.getUncertaintySources().addBehaviorUncertaintyInExternalCallAction("_YIPkQLm8Ee2dIMSi7oNVYQ"); // S2_2
+		uncertaintySources.addActorUncertaintyInResourceContainer("_wqni4MP5Ee2NifGpaUwYsQ"); // S2_1
+		uncertaintySources.addBehaviorUncertaintyInExternalCallAction("_YIPkQLm8Ee2dIMSi7oNVYQ"); // S2_2
 	}
 
 	@Override
-	BiPredicate<List<String>, List<String>> getConstraint() {
-		return (List<String> dataLiterals, List<String> nodeLiterals) -> {
-			// S2_1
-			if (nodeLiterals.contains("IllegalDeploymentLocation")) {
-				return true;
-			}
-
-			// S2_2
-			if (dataLiterals.contains("ConfidentialDataNotExpected")) {
-				return true;
-			}
-
-			return false;
-		};
+	Constraint getConstraint() {
+		return Constraint.builder() //
+				.anyNode("IllegalDeploymentLocation") // S2_1
+				.anyData("ConfidentialDataNotExpected") // S2_2
+				.build();
 	}
 
 }
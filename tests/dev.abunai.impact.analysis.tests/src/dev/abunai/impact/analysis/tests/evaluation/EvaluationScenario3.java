@@ -1,7 +1,9 @@
 package dev.abunai.impact.analysis.tests.evaluation;
 
-import java.util.List;
-import java.util.function.BiPredicate;
+import java.util.Set;
+
+import dev.abunai.impact.analysis.constraint.Constraint;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
 
 public class EvaluationScenario3 extends EvaluationBase {
 
@@ -21,27 +23,18 @@ public class EvaluationScenario3 extends EvaluationBase {
 	}
 
 	@Override
-	void addUncertaintySources() {
+	void addUncertaintySources(UncertaintySourceCollection uncertaintySources) {
 		// Scenario 3: "Focus on behavior, as critical regarding confidentiality"
-		analysis.getUncertaintySources().addBehaviorUncertaintyInSetVariableAction("_gK7oULm8Ee2dIMSi7oNVYQ"); // S3_1
-		analysis.getUncertaintySources().addBehaviorUncertaintyInExternalCallAction("_kSKnoLm1Ee2dIMSi7oNVYQ"); // S3_2
+		uncertaintySources.addBehaviorUncertaintyInSetVariableAction("_gK7oULm8Ee2dIMSi7oNVYQ"); // S3_1
+		uncertaintySources.addBehaviorUncertaintyInExternalCallAction("_kSKnoLm1Ee2dIMSi7oNVYQ"); // S3_2
 	}
 
 	@Override
-	BiPredicate<List<String>, List<String>> getConstraint() {
-		return (List<String> dataLiterals, List<String> nodeLiterals) -> {
-			// S3_1
-			if (dataLiterals.contains("ConfidentialDataNotExpected") & nodeLiterals.contains("Laboratory")) {
-				return true;
-			}
-
-			// S3_2
-			if (dataLiterals.contains("ValidationFailed")) {
-				return true;
-			}
-
-			return false;
-		};
+	Constraint getConstraint() {
+		return Constraint.builder() //
+				.allOf(Set.of("ConfidentialDataNotExpected"), Set.of("Laboratory")) // S3_1
+				.anyData("ValidationFailed") // S3_2
+				.build();
 	}
 
 }
@@ -1,7 +1,7 @@
 package dev.abunai.impact.analysis.tests.evaluation;
 
-import java.util.List;
-import java.util.function.BiPredicate;
+import dev.abunai.impact.analysis.constraint.Constraint;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
 
 public class EvaluationScenario4 extends EvaluationBase {
 
@@ -21,27 +21,18 @@ public class EvaluationScenario4 extends EvaluationBase {
 	}
 
 	@Override
-	void addUncertaintySources() {
+	void addUncertaintySources(UncertaintySourceCollection uncertaintySources) {
 		// Scenario 4: "Critical points in the system with wide impact"
-		analysis.getUncertaintySources().addComponentUncertaintyInAssemblyContext("_v1LV8LNhEe2o46d27a6tVQ"); // S4_1
-		analysis.getUncertaintySources().addInterfaceUncertaintyInInterface("_FC4gkLHzEe2fRLFFhL_FWA"); // S4_2
+		uncertaintySources.addComponentUncertaintyInAssemblyContext("_v1LV8LNhEe2o46d27a6tVQ"); // S4_1
+		uncertaintySources.addInterfaceUncertaintyInInterface("_FC4gkLHzEe2fRLFFhL_FWA"); // S4_2
 	}
 
 	@Override
-	BiPredicate<List<String>, List<String>> getConstraint() {
-		return (List<String> dataLiterals, List<String> nodeLiterals) -> {
-			// S4_1
-			if (dataLiterals.contains("KeyIssue")) {
-				return true;
-			}
-
-			// S4_2
-			if (dataLiterals.contains("RetrievedConfidentialDetails")) {
-				return true;
-			}
-
-			return false;
-		};
+	Constraint getConstraint() {
+		return Constraint.builder() //
+				.anyData("KeyIssue") // S4_1
+				.anyData("RetrievedConfidentialDetails") // S4_2
+				.build();
 	}
 
 }
@@ -1,24 +1,22 @@
 package rest;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 
 import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.dataflow.confidentiality.analysis.builder.DataFlowAnalysisBuilder;
 import org.palladiosimulator.dataflow.confidentiality.analysis.builder.pcm.PCMDataFlowConfidentialityAnalysisBuilder;
 import org.palladiosimulator.dataflow.confidentiality.analysis.entity.pcm.PCMActionSequence;
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
 import org.palladiosimulator.pcm.core.composition.Connector;
 import org.palladiosimulator.pcm.repository.Interface;
@@ -34,7 +32,14 @@ import org.slf4j.LoggerFactory;
 
 import dev.abunai.impact.analysis.PCMUncertaintyImpactAnalysisBuilder;
 import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
-import dev.abunai.impact.analysis.model.UncertaintyImpactCollection;
+import dev.abunai.impact.analysis.constraint.CharacteristicMasks;
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import dev.abunai.impact.analysis.metrics.MemoryFootprint;
+import dev.abunai.impact.analysis.model.UncertaintySourceCollection;
+import dev.abunai.impact.analysis.output.PlainTextResultSink;
+import dev.abunai.impact.analysis.output.ResultSink;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
 import edu.kit.kastel.dsis.uncertainty.impactanalysis.testmodels.Activator;
 import rest.entities.SecurityCheckAssumption;
 import rest.general.RestConnector.AnalysisOutput;
@@ -45,14 +50,36 @@ public class AbunaiAdapter implements SecurityCheckAdapter {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbunaiAdapter.class);
 	public static final String MODEL_PROJECT_NAME = "dev.abunai.impact.analysis.testmodels";
 
+	/**
+	 * The progress of an analysis execution, reported per stage.
+	 *
+	 * @param stage     The name of the current stage.
+	 * @param completed The number of completed steps of the stage.
+	 * @param total     The total number of steps of the stage.
+	 */
+	public static record Progress(String stage, int completed, int total) {
+	}
+
+	private final LoadedModelCache modelCache;
+	private final ConstraintCache constraintCache;
+	private volatile Consumer<Progress> progressListener = null;
+
 	private StandalonePCMUncertaintyImpactAnalysis analysis = null;
+	private CharacteristicMasks characteristicMasks = null;
 
 	private Collection<SecurityCheckAssumption> assumptions;
-	private String baseFolderName;
-	private String folderName;
-	private String filesName;
+	private String modelName;
 	private String scenarioName;
 
+	public AbunaiAdapter() {
+		this(null, new ConstraintCache());
+	}
+
+	public AbunaiAdapter(LoadedModelCache modelCache, ConstraintCache constraintCache) {
+		this.modelCache = modelCache;
+		this.constraintCache = constraintCache;
+	}
+
 	@Override
 	public void initForAnalysis(AnalysisParameter parameter) throws IllegalArgumentException {
 		// Extract model name.
@@ -63,103 +90,238 @@ public class AbunaiAdapter implements SecurityCheckAdapter {
 		String modelName = parameter.modelPath().substring(lastSeparatorIndex + 1);
 
 		this.assumptions = parameter.assumptions();
-		this.baseFolderName = "casestudies/CaseStudy-" + modelName;
-		this.folderName = modelName;
-		this.filesName = "default";
+		this.modelName = modelName;
 		this.scenarioName = "Analysis of model '" + modelName + "' on "
 				+ new SimpleDateFormat("dd.MM.yyyy 'at' HH:mm:ss").format(new Date());
 	}
 
 	@Override
 	public AnalysisOutput executeAnalysis() {
-		LOGGER.info("Initiating execution of analysis.");
-		StringBuilder outputStringBuilder = new StringBuilder(
-				"#################### Analysis Output ####################\n");
+		var stringWriter = new StringWriter();
+		this.writeOutputLog(stringWriter);
+
+		return new AnalysisOutput(stringWriter.toString(), this.assumptions);
+	}
 
-		try (var outputStream = new ByteArrayOutputStream(); var printStream = new PrintStream(outputStream)) {
-			var oldPrintStream = System.out;
-			System.setOut(printStream);
+	/**
+	 * Sets the name of the analyzed scenario, which is used as the title of the
+	 * results.
+	 *
+	 * @param scenarioName The name of the scenario.
+	 */
+	public void setScenarioName(String scenarioName) {
+		this.scenarioName = scenarioName;
+	}
 
-			this.setup();
-			this.evaluateScenario();
+	/**
+	 * Gets the assumptions the analysis was initialized with.
+	 *
+	 * @return The {@link Collection} of {@link SecurityCheckAssumption}s.
+	 */
+	public Collection<SecurityCheckAssumption> getAssumptions() {
+		return this.assumptions;
+	}
+
+	/**
+	 * Sets the listener that is notified about the progress of subsequent analysis
+	 * executions.
+	 *
+	 * @param progressListener The listener or <code>null</code> if progress should
+	 *                         not be reported.
+	 */
+	public void setProgressListener(Consumer<Progress> progressListener) {
+		this.progressListener = progressListener;
+	}
 
-			System.out.flush();
-			System.setOut(oldPrintStream);
+	/**
+	 * Executes the actual analysis on the previously initialized state and writes
+	 * the output log of {@link AnalysisOutput} incrementally to the specified
+	 * {@link Writer}. Errors are reported within the log.
+	 * <p>
+	 * The log is written by a {@link PlainTextResultSink}, so the confidentiality
+	 * violations are a section of the scenario's results like the distinct impact
+	 * set. Unlike the console output captured by earlier versions, their header
+	 * <code>Confidentiality Violations:</code> is preceded by two line breaks and
+	 * has no trailing space, and the three line breaks closing the results follow
+	 * the violations instead of preceding them.
+	 *
+	 * @param writer The {@link Writer} the output log is written to.
+	 */
+	public void writeOutputLog(Writer writer) {
+		LOGGER.info("Initiating execution of analysis.");
+		var printWriter = new PrintWriter(writer);
+		printWriter.print("#################### Analysis Output ####################\n");
+		printWriter.flush();
 
-			outputStringBuilder.append(outputStream.toString());
+		try {
+			this.writeAnalysis(new PlainTextResultSink(writer, true));
 			LOGGER.info("Execution of analysis successfully completed.");
 		} catch (Exception e) {
 			LOGGER.error("Error occured during analysis execution.", e);
-			outputStringBuilder.append("Analysis execution encountered a fatal error. Details are shown below:\n");
-
-			var stringWriter = new StringWriter();
-			e.printStackTrace(new PrintWriter(stringWriter));
-
-			outputStringBuilder.append(stringWriter.toString());
+			printWriter.print("Analysis execution encountered a fatal error. Details are shown below:\n");
+			e.printStackTrace(printWriter);
 		}
 
-		outputStringBuilder.append("\n#########################################################");
+		printWriter.print("\n#########################################################");
+		printWriter.flush();
+	}
 
-		return new AnalysisOutput(outputStringBuilder.toString(), this.assumptions);
+	/**
+	 * Executes the actual analysis on the previously initialized state and writes
+	 * its results incrementally to the specified {@link ResultSink}.
+	 *
+	 * @param sink The {@link ResultSink} the results are written to.
+	 */
+	public void writeAnalysis(ResultSink sink) {
+		this.reportProgress("setup", 0, 1);
+		this.setup();
+		this.reportProgress("setup", 1, 1);
+		this.evaluateScenario(sink);
+		sink.flush();
+	}
+
+	private void reportProgress(String stage, int completed, int total) {
+		var progressListener = this.progressListener;
+		if (progressListener != null) {
+			progressListener.accept(new Progress(stage, completed, total));
+		}
 	}
 
 	private void setup() {
 		LOGGER.info("Performing set-up for the analysis.");
 
-		final var usageModelPath = Paths.get(this.baseFolderName, this.folderName, this.filesName + ".usagemodel")
-				.toString();
-		final var allocationPath = Paths.get(this.baseFolderName, this.folderName, this.filesName + ".allocation")
+		var loadedModel = this.modelCache == null ? loadModel(this.modelName, null)
+				: this.modelCache.get(this.modelName);
+
+		this.analysis = loadedModel.analysis();
+		this.characteristicMasks = loadedModel.characteristicMasks();
+		LOGGER.info("Set-Up complete.");
+	}
+
+	/**
+	 * Loads the model with the specified name from the <code>casestudies</code>
+	 * directory and evaluates its data flows.
+	 *
+	 * @param modelName   The name of the model.
+	 * @param contentHash The content hash of the model files or <code>null</code>
+	 *                    if it is unknown.
+	 * @return The created {@link LoadedModel}.
+	 */
+	public static LoadedModel loadModel(String modelName, String contentHash) {
+		return loadModel(modelName, contentHash, null);
+	}
+
+	/**
+	 * Loads the model with the specified name from the <code>casestudies</code>
+	 * directory and evaluates its data flows, reporting all analysis phases of the
+	 * model to the specified listener.
+	 *
+	 * @param modelName     The name of the model.
+	 * @param contentHash   The content hash of the model files or
+	 *                      <code>null</code> if it is unknown.
+	 * @param phaseListener The listener notified about every analysis phase of the
+	 *                      model or <code>null</code>.
+	 * @return The created {@link LoadedModel}.
+	 */
+	public static LoadedModel loadModel(String modelName, String contentHash,
+			AnalysisMetrics.Listener phaseListener) {
+		return loadModel(modelName, contentHash, phaseListener, null);
+	}
+
+	/**
+	 * Loads the model with the specified name from the <code>casestudies</code>
+	 * directory and evaluates its data flows, reporting all analysis phases of the
+	 * model to the specified listener. Propagation results of the model are reused
+	 * from and stored to the specified {@link ImpactResultCache}.
+	 *
+	 * @param modelName     The name of the model.
+	 * @param contentHash   The content hash of the model files or
+	 *                      <code>null</code> if it is unknown.
+	 * @param phaseListener The listener notified about every analysis phase of the
+	 *                      model or <code>null</code>.
+	 * @param resultCache   The {@link ImpactResultCache} of the propagation results
+	 *                      or <code>null</code> if results should not be cached.
+	 * @return The created {@link LoadedModel}.
+	 */
+	public static LoadedModel loadModel(String modelName, String contentHash, AnalysisMetrics.Listener phaseListener,
+			ImpactResultCache resultCache) {
+		LOGGER.info("Loading model '" + modelName + "'.");
+
+		final var baseFolderName = "casestudies/CaseStudy-" + modelName;
+		final var filesName = "default";
+		final var usageModelPath = Paths.get(baseFolderName, modelName, filesName + ".usagemodel").toString();
+		final var allocationPath = Paths.get(baseFolderName, modelName, filesName + ".allocation").toString();
+		final var nodeCharacteristicsPath = Paths.get(baseFolderName, modelName, filesName + ".nodecharacteristics")
 				.toString();
-		final var nodeCharacteristicsPath = Paths
-				.get(this.baseFolderName, this.folderName, this.filesName + ".nodecharacteristics").toString();
 
 		var analysis = new DataFlowAnalysisBuilder().standalone().modelProjectName(MODEL_PROJECT_NAME)
 				.useBuilder(new PCMDataFlowConfidentialityAnalysisBuilder()).usePluginActivator(Activator.class)
 				.useUsageModel(usageModelPath).useAllocationModel(allocationPath)
 				.useNodeCharacteristicsModel(nodeCharacteristicsPath)
-				.useBuilder(new PCMUncertaintyImpactAnalysisBuilder()).build();
+				.useBuilder(new PCMUncertaintyImpactAnalysisBuilder().useResultCache(resultCache)).build();
 
-		analysis.initializeAnalysis();
-		this.analysis = analysis;
-		LOGGER.info("Set-Up complete.");
-	}
-
-	private void evaluateScenario() {
-		LOGGER.info("Evaluate given scenario.");
-		this.addUncertaintySources();
+		if (phaseListener != null) {
+			analysis.getMetrics().addListener(phaseListener);
+		}
 
-		// Do uncertainty impact analysis
-		var result = analysis.propagate();
-		result.printResultsWithTitle(this.scenarioName, true);
+		if (!analysis.initializeAnalysis()) {
+			throw new IllegalStateException("Unable to initialize the analysis of model '" + modelName + "'.");
+		}
 
-		// Do confidentiality analysis
-		var actionSequences = analysis.findAllSequences();
-		var evaluatedSequences = analysis.evaluateDataFlows(actionSequences);
+		var evaluatedSequences = List.copyOf(analysis.evaluateDataFlows(analysis.getActionSequences()));
 
-		System.out.println("Confidentiality Violations: ");
-		var constraint = this.getConstraint();
-		for (int i = 0; i < evaluatedSequences.size(); i++) {
-			var violations = analysis.queryDataFlow(evaluatedSequences.get(i), it -> {
+		return new LoadedModel(modelName, contentHash, analysis, evaluatedSequences,
+				CharacteristicMasks.of(evaluatedSequences), estimateBytes(analysis, evaluatedSequences));
+	}
 
-				List<String> dataLiterals = it.getAllDataFlowVariables().stream().map(e -> e.getAllCharacteristics())
-						.flatMap(List::stream).map(e -> e.characteristicLiteral().getName()).toList();
-				List<String> nodeLiterals = it.getAllNodeCharacteristics().stream()
-						.map(e -> e.characteristicLiteral().getName()).toList();
+	private static long estimateBytes(StandalonePCMUncertaintyImpactAnalysis analysis,
+			List<ActionSequence> evaluatedSequences) {
+		// The evaluated sequences are retained next to the analysis and carry the data flow variables
+		return analysis.getMemoryFootprint().getEstimatedBytes()
+				+ MemoryFootprint.estimateActionSequences(evaluatedSequences).estimatedBytes();
+	}
 
-				return constraint.test(dataLiterals, nodeLiterals);
-			});
+	private void evaluateScenario(ResultSink sink) {
+		LOGGER.info("Evaluate given scenario.");
+		var uncertaintySources = this.analysis.createUncertaintySourceCollection();
+		this.addUncertaintySources(uncertaintySources);
 
-			if (!violations.isEmpty()) {
-				System.out.println(
-						UncertaintyImpactCollection.formatDataFlow(i, new PCMActionSequence(violations), true));
+		// Do uncertainty impact analysis
+		this.reportProgress("propagation", 0, 1);
+		var result = uncertaintySources.propagateBatched();
+		this.reportProgress("propagation", 1, 1);
+		sink.beginResults(this.scenarioName);
+		result.writeSections(sink, false, false, true);
+
+		// Do confidentiality analysis on the shared evaluated data flows, whose violations
+		// are written as a section of the same results for structured sinks like JSON
+		var characteristicMasks = this.characteristicMasks;
+		var sequenceCount = characteristicMasks.getEvaluatedSequences().size();
+
+		sink.beginSection("Confidentiality Violations", ResultSink.UNKNOWN_SIZE);
+		var constraint = characteristicMasks.compile(this.constraintCache.getConstraint(this.assumptions));
+		try (var recording = this.analysis.getMetrics().record(AnalysisPhase.QUERY_DATA_FLOWS)) {
+			int violationCount = 0;
+
+			for (int i = 0; i < sequenceCount; i++) {
+				var violations = constraint.queryDataFlow(characteristicMasks, i);
+
+				if (!violations.isEmpty()) {
+					violationCount += violations.size();
+					sink.writeDataFlow(i, new PCMActionSequence(violations));
+				}
+				this.reportProgress("evaluation", i + 1, sequenceCount);
 			}
+
+			recording.sequences(sequenceCount).violations(violationCount);
 		}
+		sink.endSection();
+		sink.endResults();
 		LOGGER.info("Finished evaluating the scenario.");
 	}
 
-	private void addUncertaintySources() {
+	private void addUncertaintySources(UncertaintySourceCollection uncertaintySources) {
 		LOGGER.info("Add uncertainty sources for the specified entity-ids.");
-		var uncertaintySources = this.analysis.getUncertaintySources();
 		var resourceProvider = this.analysis.getResourceProvider();
 
 		for (var assumption : this.assumptions) {
@@ -200,45 +362,4 @@ public class AbunaiAdapter implements SecurityCheckAdapter {
 
 		LOGGER.info("Completed adding uncertainty sources");
 	}
-
-	private BiPredicate<List<String>, List<String>> getConstraint() {
-		var dataConstraints = new HashSet<String>();
-		var nodeConstraints = new HashSet<String>();
-
-		// Extract constraints from the individual assumption descriptions.
-		this.assumptions.forEach(assumption -> {
-			String assumptionDescription = assumption.getDescription();
-			String[] descriptionLines = assumptionDescription.split(System.lineSeparator());
-
-			for (String descriptionLine : descriptionLines) {
-				String lineWithoutWhitespace = descriptionLine.replaceAll("\\s", "");
-				String[] lineComponents = lineWithoutWhitespace.split(":");
-
-				if (lineComponents.length == 2) {
-					if (lineComponents[0].toLowerCase().equals("dataconstraints")
-							|| lineComponents[0].toLowerCase().equals("nodeconstraints")) {
-						HashSet<String> target = lineComponents[0].toLowerCase().equals("dataconstraints")
-								? dataConstraints
-								: nodeConstraints;
-
-						for (String constraint : lineComponents[1].split(",")) {
-							target.add(constraint);
-						}
-					}
-				}
-			}
-		});
-
-		return (List<String> dataLiterals, List<String> nodeLiterals) -> {
-			if (!dataConstraints.isEmpty() && !Collections.disjoint(dataLiterals, dataConstraints)) {
-				return true;
-			}
-
-			if (!nodeConstraints.isEmpty() && !Collections.disjoint(nodeLiterals, nodeConstraints)) {
-				return true;
-			}
-
-			return false;
-		};
-	}
 }
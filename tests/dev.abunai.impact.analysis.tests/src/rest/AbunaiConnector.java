@@ -1,9 +1,20 @@
 package rest;
 
 import java.io.File;
-import java.nio.file.Files;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.MultipartConfigElement;
 
@@ -12,8 +23,14 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import dev.abunai.impact.analysis.output.JsonResultSink;
+import dev.abunai.impact.analysis.output.PlainTextResultSink;
+import dev.abunai.impact.analysis.util.ImpactResultCache;
+
 import rest.general.RestConnector;
-import rest.general.SecurityCheckAdapter;
+import spark.Request;
+import spark.Response;
+import spark.Route;
 import spark.Spark;
 
 public class AbunaiConnector extends RestConnector {
@@ -23,9 +40,22 @@ public class AbunaiConnector extends RestConnector {
 			+ "dev.abunai.impact.analysis.testmodels" + File.separator + "casestudies";
 	private static final String SERVICE_PATH = "/abunai";
 
+	/**
+	 * The data type sent to clients that query the content fingerprint of a
+	 * model.
+	 */
+	public static record ModelFingerprint(String modelName, String fingerprint) {
+	}
+
 	private final File casestudiesDirectory;
 	private final ObjectMapper objectMapper;
-	private final SecurityCheckAdapter abunaiAdapter;
+	private final ModelFileStore modelFileStore;
+	private final LoadedModelCache modelCache;
+	private final Supplier<AbunaiAdapter> adapterFactory;
+	private final AnalysisJobManager jobManager;
+	private final ExecutorService precomputeExecutor;
+	private final boolean precomputeByDefault;
+	private final ConnectorMetrics metrics;
 
 	public static void main(String[] args) {
 		var restConnector = new AbunaiConnector();
@@ -33,10 +63,21 @@ public class AbunaiConnector extends RestConnector {
 	}
 
 	public AbunaiConnector() {
+		this(createResultCache());
+	}
+
+	/**
+	 * Creates the connector, whose loaded models reuse propagation results from the
+	 * specified {@link ImpactResultCache}, so repeated analyses of the same
+	 * uncertainty sources are answered without propagation.
+	 *
+	 * @param resultCache The {@link ImpactResultCache} shared by all loaded models
+	 *                    or <code>null</code> if results should not be cached.
+	 */
+	public AbunaiConnector(ImpactResultCache resultCache) {
 		Spark.port(2406);
 		
 		this.objectMapper = new ObjectMapper();
-		this.abunaiAdapter = new AbunaiAdapter();
 
 		// Determine casestudies directory.
 		File potentialCaseStudiesDirectory = null;
@@ -59,12 +100,62 @@ public class AbunaiConnector extends RestConnector {
 		this.casestudiesDirectory = (potentialCaseStudiesDirectory != null && potentialCaseStudiesDirectory.exists())
 				? potentialCaseStudiesDirectory
 				: new File(AbunaiConnector.CASESTUDIES_DIR_CONTAINER);
+
+		// Request counts, phase latencies and cache usage are kept in a local registry,
+		// which the loaded models report their phase latencies to.
+		this.metrics = new ConnectorMetrics();
+
+		// Loaded models are shared by all adapters, bounded by count and estimated heap.
+		this.modelFileStore = new ModelFileStore();
+		this.modelCache = new LoadedModelCache(
+				modelName -> this.modelFileStore.getFingerprint(this.getModelFolder(modelName).toPath()),
+				(modelName, contentHash) -> AbunaiAdapter.loadModel(modelName, contentHash, this.metrics,
+						resultCache),
+				Integer.getInteger("abunai.cache.maxModels", 8),
+				Long.getLong("abunai.cache.maxBytes", Runtime.getRuntime().maxMemory() / 2));
+		// Parsed constraints are shared by all adapters, e.g., across repeated runs and batch groups.
+		var constraintCache = new ConstraintCache();
+		this.adapterFactory = () -> new AbunaiAdapter(this.modelCache, constraintCache);
+		this.jobManager = new AnalysisJobManager(this.adapterFactory);
+		this.metrics.monitor(this.modelCache, constraintCache, this.jobManager);
+
+		// Uploaded models are loaded in the background, so the first analysis is served warm.
+		this.precomputeByDefault = Boolean.parseBoolean(System.getProperty("abunai.precompute", "true"));
+		this.precomputeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			var thread = new Thread(runnable, "abunai-model-precompute");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static ImpactResultCache createResultCache() {
+		// Propagation results are only cached across requests and restarts if a directory is configured.
+		var directory = System.getProperty("abunai.resultCache.directory");
+
+		return directory == null ? null
+				: new ImpactResultCache(Paths.get(directory), Long.getLong("abunai.resultCache.maxBytes", 1L << 30),
+						Duration.ofHours(Long.getLong("abunai.resultCache.maxAgeHours", 24 * 7)));
+	}
+
+	/**
+	 * Gets the metrics of the connector, which are also served by the
+	 * <code>/metrics</code> endpoint.
+	 *
+	 * @return The {@link ConnectorMetrics} of the connector.
+	 */
+	public ConnectorMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	private File getModelFolder(String modelName) {
+		return new File(this.casestudiesDirectory.getAbsolutePath() + File.separator + "CaseStudy-" + modelName
+				+ File.separator + modelName);
 	}
 
 	@Override
 	protected void initConnectionTestEndpoint() {
 		// Connection test endpoint.
-		Spark.get(SERVICE_PATH + "/test", (req, res) -> {
+		this.get("/test", (req, res) -> {
 			LOGGER.info("Recived connection test from host '" + req.host() + "'.");
 
 			res.status(200);
@@ -72,11 +163,18 @@ public class AbunaiConnector extends RestConnector {
 
 			return "Connection test from inside Abunai successful!";
 		});
+
+		// Metrics endpoint.
+		this.get("/metrics", (req, res) -> {
+			res.status(200);
+			res.type("application/json");
+			return this.objectMapper.writeValueAsString(this.metrics.snapshot());
+		});
 	}
 
 	protected void initModelTransferEndpoint() {
 		// Model transfer endpoint.
-		Spark.post(SERVICE_PATH + "/set/model/:modelName", (req, res) -> {
+		this.post("/set/model/:modelName", (req, res) -> {
 			LOGGER.info("Recived model for analysis from '" + req.host() + "'.");
 
 			if (this.casestudiesDirectory == null || !this.casestudiesDirectory.exists()) {
@@ -97,49 +195,342 @@ public class AbunaiConnector extends RestConnector {
 			}
 
 			// Create new Base Folder.
-			File modelFolder = new File(this.casestudiesDirectory.getAbsolutePath() + File.separator + "CaseStudy-"
-					+ modelName + File.separator + modelName);
+			File modelFolder = this.getModelFolder(modelName);
 			if (!modelFolder.exists()) {
 				modelFolder.mkdirs();
 			}
 
-			// Copy model files.
+			// Copy model files, files with unchanged content are kept as they are.
+			boolean changed = false;
 			var parts = req.raw().getParts();
 			for (var part : parts) {
 				var fileName = part.getName();
 				var targetFilePath = Paths.get(modelFolder.getAbsolutePath() + File.separator + fileName);
 
-				Files.copy(part.getInputStream(), targetFilePath, StandardCopyOption.REPLACE_EXISTING);
+				changed |= this.modelFileStore.store(part.getInputStream(), targetFilePath);
+			}
+
+			// Analyses of the previous model version must not be reused.
+			if (changed) {
+				this.modelCache.invalidate(modelName);
+			} else {
+				LOGGER.info("Model '" + modelName + "' is unchanged.");
 			}
+			res.header("ETag", "\"" + this.modelFileStore.getFingerprint(modelFolder.toPath()) + "\"");
+
+			String precompute = req.queryParams("precompute");
+			if (precompute == null ? !this.precomputeByDefault : !Boolean.parseBoolean(precompute)) {
+				res.status(200);
+				return "Sucess!";
+			}
+
+			// Load the model, enumerate its sequences and build its indexes ahead of the first analysis.
+			this.modelCache.getAsync(modelName, this.precomputeExecutor);
 
 			res.status(200);
+			res.type("application/json");
+			res.header("Location", SERVICE_PATH + "/models/" + modelName);
+			return this.objectMapper.writeValueAsString(this.modelCache.getStatus(modelName));
+		});
+
+		// Model status endpoint.
+		this.get("/models/:modelName", (req, res) -> {
+			res.status(200);
+			res.type("application/json");
+			return this.objectMapper.writeValueAsString(this.modelCache.getStatus(req.params(":modelName")));
+		});
+
+		// Model fingerprint endpoint.
+		this.get("/models/:modelName/fingerprint", (req, res) -> {
+			String modelName = req.params(":modelName");
+			File modelFolder = this.getModelFolder(modelName);
+
+			if (!modelFolder.isDirectory()) {
+				res.status(404);
+				return "Unknown model.";
+			}
 
-			return "Sucess!";
+			res.status(200);
+			res.type("application/json");
+			return this.objectMapper.writeValueAsString(
+					new ModelFingerprint(modelName, this.modelFileStore.getFingerprint(modelFolder.toPath())));
 		});
 	}
 
 	protected void initAnalysisExecutionEndpoint() {
 		// Analysis execution endpoint.
-		Spark.post(SERVICE_PATH + "/run", (req, res) -> {
+		this.post("/run", (req, res) -> {
 			LOGGER.info("Recived analysis execution command from '" + req.host() + "'.");
 
 			AnalysisParameter parameter = this.objectMapper.readValue(req.body(), AnalysisParameter.class);
 
-			// Configure AbunaiAdapter.
+			// Configure a fresh AbunaiAdapter for this request.
+			AbunaiAdapter abunaiAdapter;
+			try {
+				abunaiAdapter = this.createAdapter(parameter);
+			} catch (IllegalArgumentException e) {
+				LOGGER.error(e.getMessage());
+				res.status(400);
+				return e.getMessage();
+			}
+
+			// Stream the output straight to the client instead of buffering the whole log.
+			res.status(200);
+			res.type("application/json");
+			this.writeAnalysisOutput(abunaiAdapter, this.openResponseStream(req, res));
+			LOGGER.info("Analysis was successfully perfomed.");
+
+			// The response is already committed, Spark does not write the returned body.
+			return "";
+		});
+
+		// Streaming analysis execution endpoint.
+		this.post("/run/results", (req, res) -> {
+			LOGGER.info("Recived streaming analysis execution command from '" + req.host() + "'.");
+
+			AnalysisParameter parameter = this.objectMapper.readValue(req.body(), AnalysisParameter.class);
+
+			var abunaiAdapter = this.adapterFactory.get();
+			try {
+				abunaiAdapter.initForAnalysis(parameter);
+			} catch (IllegalArgumentException e) {
+				LOGGER.error(e.getMessage());
+				res.status(400);
+				return e.getMessage();
+			}
+
+			// Results are written to the client while they are computed.
+			boolean json = "json".equalsIgnoreCase(req.queryParams("format"));
+			res.status(200);
+			res.type(json ? "application/json" : "text/plain");
+
+			try (var outputStream = this.openResponseStream(req, res)) {
+				abunaiAdapter.writeAnalysis(json ? new JsonResultSink(outputStream)
+						: new PlainTextResultSink(outputStream, true));
+			}
+			LOGGER.info("Analysis was successfully perfomed.");
+
+			// The response is already committed, Spark does not write the returned body.
+			return "";
+		});
+
+		// Analysis execution endpoint reporting progress as server-sent events.
+		this.post("/run/events", (req, res) -> {
+			LOGGER.info("Recived analysis execution command with progress events from '" + req.host() + "'.");
+
+			AnalysisParameter parameter = this.objectMapper.readValue(req.body(), AnalysisParameter.class);
+
+			var abunaiAdapter = this.adapterFactory.get();
 			try {
-				this.abunaiAdapter.initForAnalysis(parameter);
+				abunaiAdapter.initForAnalysis(parameter);
 			} catch (IllegalArgumentException e) {
 				LOGGER.error(e.getMessage());
 				res.status(400);
 				return e.getMessage();
 			}
 
-			AnalysisOutput anaylsisOutput = this.abunaiAdapter.executeAnalysis();
+			res.status(200);
+			res.type("text/event-stream");
+			res.header("Cache-Control", "no-cache");
+
+			var outputStream = res.raw().getOutputStream();
+			abunaiAdapter.setProgressListener(new ProgressEventWriter(outputStream, this.objectMapper));
+			var anaylsisOutput = abunaiAdapter.executeAnalysis();
+			ProgressEventWriter.writeEvent(outputStream, "result",
+					this.objectMapper.writeValueAsString(anaylsisOutput));
 			LOGGER.info("Analysis was successfully perfomed.");
 
+			return "";
+		});
+
+		this.initBatchEndpoint();
+		this.initJobEndpoints();
+	}
+
+	protected void initBatchEndpoint() {
+		// Batch analysis endpoint for several assumption groups on one model.
+		this.post("/run/batch", (req, res) -> {
+			LOGGER.info("Recived batch analysis execution command from '" + req.host() + "'.");
+
+			BatchAnalysisParameter parameter = this.objectMapper.readValue(req.body(), BatchAnalysisParameter.class);
+
+			if (parameter.groups() == null || parameter.groups().isEmpty()) {
+				res.status(400);
+				return "No assumption groups provided.";
+			}
+
+			// Configure one AbunaiAdapter per group before anything is executed.
+			List<AbunaiAdapter> abunaiAdapters = new ArrayList<>();
+			try {
+				for (var group : parameter.groups()) {
+					var abunaiAdapter = this.adapterFactory.get();
+					abunaiAdapter.initForAnalysis(new AnalysisParameter(parameter.modelPath(), group.assumptions()));
+					abunaiAdapter.setScenarioName("Assumption group '" + group.name() + "'");
+					abunaiAdapters.add(abunaiAdapter);
+				}
+			} catch (IllegalArgumentException e) {
+				LOGGER.error(e.getMessage());
+				res.status(400);
+				return e.getMessage();
+			}
+
+			// All adapters share the cached model, so it is loaded and indexed only once.
+			// The groups run on the bounded worker pool of the jobs.
+			var analysisOutputs = this.jobManager.executeAll(abunaiAdapters);
+			var groupOutputs = IntStream.range(0, analysisOutputs.size())
+					.mapToObj(i -> new AssumptionGroupOutput(parameter.groups().get(i).name(),
+							analysisOutputs.get(i).outputLog(), analysisOutputs.get(i).assumptions()))
+					.toList();
+			LOGGER.info("Batch analysis of " + groupOutputs.size() + " assumption groups was successfully perfomed.");
+
 			res.status(200);
 			res.type("application/json");
-			return this.objectMapper.writeValueAsString(anaylsisOutput);
+			this.objectMapper.writeValue(this.openResponseStream(req, res), new BatchAnalysisOutput(groupOutputs));
+			return "";
+		});
+	}
+
+	protected void initJobEndpoints() {
+		// Asynchronous job submission endpoint.
+		this.post("/jobs", createJobSubmissionRoute(this.jobManager, this.objectMapper));
+
+		// Job status endpoint.
+		this.get("/jobs/:jobId", (req, res) -> {
+			var job = this.findJob(req.params(":jobId"));
+
+			if (job.isEmpty()) {
+				res.status(404);
+				return "Unknown analysis job.";
+			}
+
+			res.status(200);
+			res.type("application/json");
+			return this.objectMapper.writeValueAsString(job.get().getStatus());
+		});
+
+		// Job result endpoint.
+		this.get("/jobs/:jobId/result", (req, res) -> {
+			var job = this.findJob(req.params(":jobId"));
+
+			if (job.isEmpty()) {
+				res.status(404);
+				return "Unknown analysis job.";
+			}
+
+			res.type("application/json");
+			switch (job.get().getState()) {
+			case COMPLETED:
+				res.status(200);
+				this.objectMapper.writeValue(this.openResponseStream(req, res), job.get().getOutput());
+				return "";
+			case FAILED:
+				res.status(500);
+				return this.objectMapper.writeValueAsString(job.get().getStatus());
+			default:
+				res.status(202);
+				return this.objectMapper.writeValueAsString(job.get().getStatus());
+			}
 		});
 	}
+
+	/**
+	 * Creates the {@link Route} submitting analysis jobs to the specified
+	 * {@link AnalysisJobManager}. It responds with the status of the submitted job,
+	 * with 400 if the parameter is rejected by the adapter or with 503 if the job
+	 * queue is full.
+	 *
+	 * @param jobManager   The {@link AnalysisJobManager} executing the jobs.
+	 * @param objectMapper The {@link ObjectMapper} used to read the parameter and
+	 *                     write the status.
+	 * @return The created {@link Route}.
+	 */
+	public static Route createJobSubmissionRoute(AnalysisJobManager jobManager, ObjectMapper objectMapper) {
+		return (req, res) -> {
+			LOGGER.info("Recived analysis job from '" + req.host() + "'.");
+
+			AnalysisParameter parameter = objectMapper.readValue(req.body(), AnalysisParameter.class);
+			res.type("application/json");
+
+			try {
+				var job = jobManager.submit(parameter);
+				res.status(202);
+				return objectMapper.writeValueAsString(job.getStatus());
+			} catch (IllegalArgumentException e) {
+				LOGGER.error(e.getMessage());
+				res.status(400);
+				res.type("text/plain");
+				return e.getMessage();
+			} catch (RejectedExecutionException e) {
+				LOGGER.warn("Rejected analysis job, the job queue is full.");
+				res.status(503);
+				res.type("text/plain");
+				return "Too many pending analysis jobs, please retry later.";
+			}
+		};
+	}
+
+	private void get(String path, Route route) {
+		Spark.get(SERVICE_PATH + path, this.metrics.measure("GET " + path, route));
+	}
+
+	private void post(String path, Route route) {
+		Spark.post(SERVICE_PATH + path, this.metrics.measure("POST " + path, route));
+	}
+
+	private OutputStream openResponseStream(Request req, Response res) throws IOException {
+		var acceptEncoding = req.headers("Accept-Encoding");
+
+		if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+			res.header("Content-Encoding", "gzip");
+			return new GZIPOutputStream(res.raw().getOutputStream(), true);
+		} else {
+			return res.raw().getOutputStream();
+		}
+	}
+
+	/**
+	 * Creates an {@link AbunaiAdapter} sharing the loaded models and constraints of
+	 * the connector and initializes it with the specified parameter.
+	 *
+	 * @param parameter The {@link AnalysisParameter} of the analysis.
+	 * @return The initialized {@link AbunaiAdapter}.
+	 * @throws IllegalArgumentException If the parameter is rejected by the
+	 *                                  adapter.
+	 */
+	public AbunaiAdapter createAdapter(AnalysisParameter parameter) throws IllegalArgumentException {
+		var abunaiAdapter = this.adapterFactory.get();
+		abunaiAdapter.initForAnalysis(parameter);
+		return abunaiAdapter;
+	}
+
+	/**
+	 * Executes the analysis of the specified {@link AbunaiAdapter} and writes its
+	 * {@link AnalysisOutput} as JSON to the specified stream, as done by the
+	 * <code>/run</code> endpoint.
+	 *
+	 * @param abunaiAdapter The initialized {@link AbunaiAdapter}.
+	 * @param outputStream  The {@link OutputStream} the output is written to.
+	 * @throws IOException If the output cannot be written.
+	 */
+	public void writeAnalysisOutput(AbunaiAdapter abunaiAdapter, OutputStream outputStream) throws IOException {
+		try (var generator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.writeStartObject();
+
+			generator.writeFieldName("outputLog");
+			try (var outputLogWriter = new JsonStringWriter(generator)) {
+				abunaiAdapter.writeOutputLog(outputLogWriter);
+			}
+
+			generator.writeObjectField("assumptions", abunaiAdapter.getAssumptions());
+			generator.writeEndObject();
+		}
+	}
+
+	private Optional<AnalysisJob> findJob(String jobId) {
+		try {
+			return this.jobManager.getJob(UUID.fromString(jobId));
+		} catch (IllegalArgumentException | NullPointerException e) {
+			return Optional.empty();
+		}
+	}
 }
@@ -0,0 +1,144 @@
+package rest;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import rest.general.RestConnector.AnalysisOutput;
+import rest.general.RestConnector.AnalysisParameter;
+
+/**
+ * An analysis execution that was submitted to the {@link AnalysisJobManager}
+ * and is executed asynchronously.
+ */
+public class AnalysisJob {
+	/**
+	 * The possible states of an {@link AnalysisJob}.
+	 */
+	public enum State {
+		QUEUED, RUNNING, COMPLETED, FAILED;
+
+		/**
+		 * Gets whether the state is final, i.e., the job will not change anymore.
+		 *
+		 * @return <code>true</code> if the job has finished or <code>false</code>
+		 *         otherwise.
+		 */
+		public boolean isFinished() {
+			return this == COMPLETED || this == FAILED;
+		}
+	}
+
+	/**
+	 * The data type sent to clients that query the state of an
+	 * {@link AnalysisJob}. Points in time are ISO-8601 formatted.
+	 */
+	public static record Status(UUID jobId, State state, String submitted, String started, String finished,
+			String error) {
+	}
+
+	/**
+	 * The {@link UUID} that uniquely identifies the job.
+	 */
+	private final UUID id;
+	/**
+	 * The {@link AnalysisParameter} the job was submitted with.
+	 */
+	private final AnalysisParameter parameter;
+	/**
+	 * The point in time at which the job was submitted.
+	 */
+	private final Instant submitted;
+
+	private volatile State state;
+	private volatile Instant started;
+	private volatile Instant finished;
+	private volatile AnalysisOutput output;
+	private volatile String error;
+
+	/**
+	 * Creates a new queued {@link AnalysisJob} for the specified parameter.
+	 *
+	 * @param parameter The {@link AnalysisParameter} that should be analyzed.
+	 */
+	public AnalysisJob(AnalysisParameter parameter) {
+		this.id = UUID.randomUUID();
+		this.parameter = parameter;
+		this.submitted = Instant.now();
+		this.state = State.QUEUED;
+	}
+
+	/**
+	 * Gets the <code>id</code> of the {@link AnalysisJob}.
+	 *
+	 * @return The {@link UUID} representing the <code>id</code>.
+	 */
+	public UUID getId() {
+		return this.id;
+	}
+
+	/**
+	 * Gets the {@link AnalysisParameter} the job was submitted with.
+	 *
+	 * @return The {@link AnalysisParameter} of the job.
+	 */
+	public AnalysisParameter getParameter() {
+		return this.parameter;
+	}
+
+	/**
+	 * Gets the current {@link State} of the job.
+	 *
+	 * @return The current {@link State}.
+	 */
+	public State getState() {
+		return this.state;
+	}
+
+	/**
+	 * Gets the {@link AnalysisOutput} of a completed job.
+	 *
+	 * @return The {@link AnalysisOutput} or <code>null</code> if the job has not
+	 *         completed yet.
+	 */
+	public AnalysisOutput getOutput() {
+		return this.output;
+	}
+
+	/**
+	 * Gets the point in time at which the job has finished.
+	 *
+	 * @return The {@link Instant} or <code>null</code> if the job has not finished
+	 *         yet.
+	 */
+	public Instant getFinished() {
+		return this.finished;
+	}
+
+	/**
+	 * Creates a {@link Status} snapshot of the job.
+	 *
+	 * @return The created {@link Status}.
+	 */
+	public Status getStatus() {
+		return new Status(this.id, this.state, Objects.toString(this.submitted, null),
+				Objects.toString(this.started, null), Objects.toString(this.finished, null), this.error);
+	}
+
+	void markRunning() {
+		this.started = Instant.now();
+		this.state = State.RUNNING;
+	}
+
+	void markCompleted(AnalysisOutput output) {
+		this.output = output;
+		this.finished = Instant.now();
+		this.state = State.COMPLETED;
+	}
+
+	void markFailed(String error) {
+		this.error = error;
+		this.finished = Instant.now();
+		this.state = State.FAILED;
+	}
+}
@@ -0,0 +1,210 @@
+package rest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import rest.general.RestConnector.AnalysisOutput;
+import rest.general.RestConnector.AnalysisParameter;
+import rest.general.SecurityCheckAdapter;
+
+/**
+ * Executes {@link AnalysisJob}s on a bounded pool of worker threads. Every job
+ * uses its own {@link SecurityCheckAdapter} instance.
+ */
+public class AnalysisJobManager {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AnalysisJobManager.class);
+
+	/**
+	 * The factory used to create a fresh adapter for every job.
+	 */
+	private final Supplier<? extends SecurityCheckAdapter> adapterFactory;
+	/**
+	 * The worker pool, whose queue bounds the number of waiting jobs.
+	 */
+	private final ThreadPoolExecutor executor;
+	/**
+	 * The number of finished jobs that are retained for result retrieval.
+	 */
+	private final int retainedFinishedJobs;
+	/**
+	 * All known jobs by their id.
+	 */
+	private final Map<UUID, AnalysisJob> jobs;
+
+	/**
+	 * Creates a new {@link AnalysisJobManager} with one worker per available core.
+	 *
+	 * @param adapterFactory The factory used to create an adapter per job.
+	 */
+	public AnalysisJobManager(Supplier<? extends SecurityCheckAdapter> adapterFactory) {
+		this(adapterFactory, Runtime.getRuntime().availableProcessors(), 64, 256);
+	}
+
+	/**
+	 * Creates a new {@link AnalysisJobManager}.
+	 *
+	 * @param adapterFactory       The factory used to create an adapter per job.
+	 * @param workers              The number of worker threads.
+	 * @param queueCapacity        The maximum number of jobs waiting for a worker.
+	 * @param retainedFinishedJobs The number of finished jobs that are kept for
+	 *                             result retrieval.
+	 */
+	public AnalysisJobManager(Supplier<? extends SecurityCheckAdapter> adapterFactory, int workers,
+			int queueCapacity, int retainedFinishedJobs) {
+		this.adapterFactory = adapterFactory;
+		this.retainedFinishedJobs = retainedFinishedJobs;
+		this.jobs = new ConcurrentHashMap<>();
+
+		var threadCounter = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					var thread = new Thread(runnable, "abunai-analysis-worker-" + threadCounter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Submits a new analysis job for the specified parameter.
+	 *
+	 * @param parameter The {@link AnalysisParameter} that should be analyzed.
+	 * @return The submitted {@link AnalysisJob}.
+	 * @throws IllegalArgumentException   If the parameter is rejected by the
+	 *                                    adapter.
+	 * @throws RejectedExecutionException If the job queue is full.
+	 */
+	public AnalysisJob submit(AnalysisParameter parameter) {
+		var adapter = this.adapterFactory.get();
+		adapter.initForAnalysis(parameter);
+
+		var job = new AnalysisJob(parameter);
+		this.jobs.put(job.getId(), job);
+
+		try {
+			this.executor.execute(() -> this.execute(job, adapter));
+		} catch (RejectedExecutionException e) {
+			this.jobs.remove(job.getId());
+			throw e;
+		}
+
+		this.evictFinishedJobs();
+		return job;
+	}
+
+	/**
+	 * Executes the analyses of the specified initialized adapters on the worker
+	 * pool and waits for all of them, so that batches share the bounded pool with
+	 * the jobs. Analyses rejected by the full job queue are executed on the
+	 * calling thread instead.
+	 *
+	 * @param adapters The initialized {@link SecurityCheckAdapter}s.
+	 * @return The {@link AnalysisOutput}s in the order of the adapters.
+	 * @throws InterruptedException If the calling thread is interrupted while
+	 *                              waiting.
+	 */
+	public List<AnalysisOutput> executeAll(List<? extends SecurityCheckAdapter> adapters)
+			throws InterruptedException {
+		List<Future<AnalysisOutput>> futures = new ArrayList<>();
+
+		try {
+			for (var adapter : adapters) {
+				var future = new FutureTask<>(adapter::executeAnalysis);
+				try {
+					this.executor.execute(future);
+				} catch (RejectedExecutionException e) {
+					future.run();
+				}
+				futures.add(future);
+			}
+
+			List<AnalysisOutput> outputs = new ArrayList<>();
+			for (var future : futures) {
+				outputs.add(future.get());
+			}
+			return outputs;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			// Remaining analyses are useless once one of them has failed.
+			futures.forEach(it -> it.cancel(true));
+		}
+	}
+
+	/**
+	 * Gets the job with the specified id.
+	 *
+	 * @param jobId The id of the job.
+	 * @return The {@link AnalysisJob} or an empty {@link Optional} if the job is
+	 *         unknown or was evicted.
+	 */
+	public Optional<AnalysisJob> getJob(UUID jobId) {
+		return Optional.ofNullable(this.jobs.get(jobId));
+	}
+
+	/**
+	 * Gets the number of jobs that wait for a worker.
+	 *
+	 * @return The current queue depth.
+	 */
+	public int getQueueDepth() {
+		return this.executor.getQueue().size();
+	}
+
+	/**
+	 * Gets the number of jobs that are currently executed.
+	 *
+	 * @return The number of running jobs.
+	 */
+	public int getActiveJobs() {
+		return this.executor.getActiveCount();
+	}
+
+	/**
+	 * Stops accepting new jobs, already submitted jobs are still executed.
+	 */
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+
+	private void execute(AnalysisJob job, SecurityCheckAdapter adapter) {
+		job.markRunning();
+
+		try {
+			job.markCompleted(adapter.executeAnalysis());
+		} catch (RuntimeException e) {
+			LOGGER.error("Analysis job '" + job.getId() + "' failed.", e);
+			job.markFailed(e.toString());
+		}
+	}
+
+	private void evictFinishedJobs() {
+		var finishedJobs = this.jobs.values().stream().filter(it -> it.getState().isFinished()).toList();
+
+		if (finishedJobs.size() > this.retainedFinishedJobs) {
+			finishedJobs.stream().sorted(Comparator.comparing(AnalysisJob::getFinished))
+					.limit(finishedJobs.size() - this.retainedFinishedJobs)
+					.forEach(it -> this.jobs.remove(it.getId()));
+		}
+	}
+}
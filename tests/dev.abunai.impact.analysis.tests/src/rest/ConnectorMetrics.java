@@ -0,0 +1,265 @@
+package rest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.abunai.impact.analysis.metrics.AnalysisMetrics;
+import dev.abunai.impact.analysis.metrics.AnalysisPhase;
+import spark.Route;
+
+/**
+ * Local registry of the metrics exposed by the <code>/metrics</code> end point
+ * of the {@link AbunaiConnector}. Request counts and latencies are recorded by
+ * wrapping the routes of the connector, the phase latencies are reported by the
+ * {@link AnalysisMetrics} of all models loaded through the connector. No
+ * external monitoring service is required.
+ */
+public class ConnectorMetrics implements AnalysisMetrics.Listener {
+	/**
+	 * The upper bounds of the latency histogram buckets in milliseconds, the last
+	 * bucket counts all longer latencies.
+	 */
+	private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = { 1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000,
+			10000, 30000 };
+
+	/**
+	 * A single bucket of a latency {@link Histogram}.
+	 *
+	 * @param upperBoundMillis The inclusive upper bound of the bucket in
+	 *                         milliseconds or <code>null</code> for the overflow
+	 *                         bucket.
+	 * @param count            The number of latencies within the bucket.
+	 */
+	public static record Bucket(Long upperBoundMillis, long count) {
+	}
+
+	/**
+	 * A snapshot of a latency histogram.
+	 *
+	 * @param count       The number of recorded latencies.
+	 * @param totalMillis The sum of all recorded latencies in milliseconds.
+	 * @param maxMillis   The longest recorded latency in milliseconds.
+	 * @param buckets     The non-cumulative bucket counts in ascending order.
+	 */
+	public static record Histogram(long count, double totalMillis, double maxMillis, List<Bucket> buckets) {
+	}
+
+	/**
+	 * The state of the job queue of the {@link AnalysisJobManager}.
+	 *
+	 * @param queueDepth The number of jobs waiting for a worker.
+	 * @param activeJobs The number of jobs that are currently executed.
+	 */
+	public static record JobQueueMetrics(int queueDepth, int activeJobs) {
+	}
+
+	/**
+	 * The hit rate of a cache.
+	 *
+	 * @param hits      The number of requests served from the cache.
+	 * @param misses    The number of requests that were not cached.
+	 * @param evictions The number of evicted entries.
+	 * @param hitRate   The share of hits of all requests, <code>0</code> if the
+	 *                  cache was not used yet.
+	 */
+	public static record CacheMetrics(long hits, long misses, long evictions, double hitRate) {
+
+		private static CacheMetrics of(long hits, long misses, long evictions) {
+			long requests = hits + misses;
+			return new CacheMetrics(hits, misses, evictions, requests == 0 ? 0.0 : (double) hits / requests);
+		}
+	}
+
+	/**
+	 * The heap usage of the connector.
+	 *
+	 * @param usedBytes             The heap currently in use.
+	 * @param committedBytes        The heap currently reserved by the JVM.
+	 * @param maxBytes              The maximum heap the JVM may use.
+	 * @param loadedModelBytes      The estimated heap usage of all loaded models.
+	 * @param estimatedBytesByModel The estimated heap usage of every loaded model
+	 *                              by model name.
+	 */
+	public static record HeapMetrics(long usedBytes, long committedBytes, long maxBytes, long loadedModelBytes,
+			Map<String, Long> estimatedBytesByModel) {
+	}
+
+	/**
+	 * The data type sent to clients that query the metrics of the connector.
+	 */
+	public static record MetricsOutput(Map<String, Long> requests, Map<String, Histogram> requestLatencies,
+			JobQueueMetrics jobs, Map<String, Histogram> phaseLatencies, Map<String, CacheMetrics> caches,
+			HeapMetrics heap) {
+	}
+
+	/**
+	 * A thread-safe latency histogram with fixed buckets.
+	 */
+	private static final class LatencyHistogram {
+		private final LongAdder[] buckets;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private LatencyHistogram() {
+			this.buckets = new LongAdder[BUCKET_UPPER_BOUNDS_MILLIS.length + 1];
+			for (int i = 0; i < this.buckets.length; i++) {
+				this.buckets[i] = new LongAdder();
+			}
+		}
+
+		private void record(long nanos) {
+			int bucket = 0;
+			while (bucket < BUCKET_UPPER_BOUNDS_MILLIS.length
+					&& nanos > TimeUnit.MILLISECONDS.toNanos(BUCKET_UPPER_BOUNDS_MILLIS[bucket])) {
+				bucket++;
+			}
+
+			this.buckets[bucket].increment();
+			this.count.increment();
+			this.totalNanos.add(nanos);
+			this.maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		private Histogram toHistogram() {
+			List<Bucket> buckets = new ArrayList<>(this.buckets.length);
+			for (int i = 0; i < this.buckets.length; i++) {
+				Long upperBound = i < BUCKET_UPPER_BOUNDS_MILLIS.length ? BUCKET_UPPER_BOUNDS_MILLIS[i] : null;
+				buckets.add(new Bucket(upperBound, this.buckets[i].sum()));
+			}
+
+			return new Histogram(this.count.sum(), toMillis(this.totalNanos.sum()), toMillis(this.maxNanos.get()),
+					buckets);
+		}
+
+		private static double toMillis(long nanos) {
+			return nanos / 1_000_000.0;
+		}
+	}
+
+	/**
+	 * The request counts by end point.
+	 */
+	private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+	/**
+	 * The request latencies by end point.
+	 */
+	private final Map<String, LatencyHistogram> requestLatencies = new ConcurrentHashMap<>();
+	/**
+	 * The latencies of the analysis phases of all loaded models.
+	 */
+	private final Map<AnalysisPhase, LatencyHistogram> phaseLatencies = new EnumMap<>(AnalysisPhase.class);
+
+	/**
+	 * The components whose state is reported, set once they have been created.
+	 */
+	private volatile MonitoredComponents components = null;
+
+	/**
+	 * The components of the connector whose state is part of the metrics.
+	 */
+	private static record MonitoredComponents(LoadedModelCache modelCache, ConstraintCache constraintCache,
+			AnalysisJobManager jobManager) {
+	}
+
+	/**
+	 * Creates a new {@link ConnectorMetrics}. The metrics are created before the
+	 * caches, as the models loaded by the caches report their phase latencies to
+	 * them, so the caches are registered afterwards by
+	 * {@link #monitor(LoadedModelCache, ConstraintCache, AnalysisJobManager)}.
+	 */
+	public ConnectorMetrics() {
+		for (AnalysisPhase phase : AnalysisPhase.values()) {
+			this.phaseLatencies.put(phase, new LatencyHistogram());
+		}
+	}
+
+	/**
+	 * Registers the components whose state is reported by {@link #snapshot()}.
+	 *
+	 * @param modelCache      The cache of the loaded models.
+	 * @param constraintCache The cache of the parsed constraints.
+	 * @param jobManager      The manager of the asynchronous analysis jobs.
+	 */
+	public void monitor(LoadedModelCache modelCache, ConstraintCache constraintCache, AnalysisJobManager jobManager) {
+		this.components = new MonitoredComponents(modelCache, constraintCache, jobManager);
+	}
+
+	/**
+	 * Wraps the specified route, so every request to it is counted and timed
+	 * under the specified end point name.
+	 *
+	 * @param endpoint The name of the end point, e.g., <code>POST /run</code>.
+	 * @param route    The route serving the end point.
+	 * @return The wrapped route.
+	 */
+	public Route measure(String endpoint, Route route) {
+		var counter = this.requests.computeIfAbsent(endpoint, it -> new LongAdder());
+		var latencies = this.requestLatencies.computeIfAbsent(endpoint, it -> new LatencyHistogram());
+
+		return (req, res) -> {
+			counter.increment();
+			long start = System.nanoTime();
+
+			try {
+				return route.handle(req, res);
+			} finally {
+				latencies.record(System.nanoTime() - start);
+			}
+		};
+	}
+
+	@Override
+	public void phaseCompleted(AnalysisPhase phase, long nanos) {
+		this.phaseLatencies.get(phase).record(nanos);
+	}
+
+	/**
+	 * Creates a snapshot of all metrics.
+	 *
+	 * @return The current {@link MetricsOutput}.
+	 */
+	public MetricsOutput snapshot() {
+		var components = this.components;
+
+		if (components == null) {
+			throw new IllegalStateException("The components of the connector have not been registered yet.");
+		}
+
+		Map<String, Long> requests = new TreeMap<>();
+		this.requests.forEach((endpoint, counter) -> requests.put(endpoint, counter.sum()));
+
+		Map<String, Histogram> requestLatencies = new TreeMap<>();
+		this.requestLatencies.forEach((endpoint, histogram) -> requestLatencies.put(endpoint, histogram.toHistogram()));
+
+		Map<String, Histogram> phaseLatencies = new LinkedHashMap<>();
+		this.phaseLatencies
+				.forEach((phase, histogram) -> phaseLatencies.put(phase.getLabel(), histogram.toHistogram()));
+
+		Map<String, CacheMetrics> caches = new LinkedHashMap<>();
+		var modelCache = components.modelCache();
+		var constraintCache = components.constraintCache();
+		caches.put("models",
+				CacheMetrics.of(modelCache.getHits(), modelCache.getMisses(), modelCache.getEvictions()));
+		caches.put("constraints", CacheMetrics.of(constraintCache.getHits(), constraintCache.getMisses(),
+				constraintCache.getEvictions()));
+
+		var runtime = Runtime.getRuntime();
+		var estimatedBytesByModel = modelCache.getEstimatedBytes();
+		var heap = new HeapMetrics(runtime.totalMemory() - runtime.freeMemory(), runtime.totalMemory(),
+				runtime.maxMemory(), estimatedBytesByModel.values().stream().mapToLong(Long::longValue).sum(),
+				estimatedBytesByModel);
+
+		return new MetricsOutput(requests, requestLatencies,
+				new JobQueueMetrics(components.jobManager().getQueueDepth(), components.jobManager().getActiveJobs()),
+				phaseLatencies, caches, heap);
+	}
+}
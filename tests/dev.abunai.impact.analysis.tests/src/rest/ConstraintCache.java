@@ -0,0 +1,167 @@
+package rest;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import dev.abunai.impact.analysis.constraint.Constraint;
+import rest.entities.SecurityCheckAssumption;
+
+/**
+ * Parses the data and node constraints declared in the descriptions of a set of
+ * {@link SecurityCheckAssumption}s and caches the resulting {@link Constraint}
+ * by the assumption descriptions. The parsed constraint is independent of any
+ * model and can be shared by all analysis executions with the same
+ * assumptions.
+ */
+public class ConstraintCache {
+	private static final String DATA_CONSTRAINTS = "dataconstraints";
+	private static final String NODE_CONSTRAINTS = "nodeconstraints";
+
+	/**
+	 * The maximum number of cached assumption sets.
+	 */
+	private final int maxEntries;
+	/**
+	 * The parsed constraints by the sorted descriptions of their assumptions in
+	 * access order.
+	 */
+	private final LinkedHashMap<String, Constraint> constraints;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new {@link ConstraintCache} holding up to 256 assumption sets.
+	 */
+	public ConstraintCache() {
+		this(256);
+	}
+
+	/**
+	 * Creates a new {@link ConstraintCache}.
+	 *
+	 * @param maxEntries The maximum number of cached assumption sets.
+	 */
+	public ConstraintCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.constraints = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Constraint> eldest) {
+				if (this.size() > ConstraintCache.this.maxEntries) {
+					ConstraintCache.this.evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Gets the constraint declared by the specified assumptions, parsing it only
+	 * if the same descriptions have not been parsed before.
+	 *
+	 * @param assumptions The {@link SecurityCheckAssumption}s declaring the
+	 *                    constraint.
+	 * @return The parsed {@link Constraint}.
+	 */
+	public Constraint getConstraint(Collection<SecurityCheckAssumption> assumptions) {
+		// The order of the assumptions does not influence the parsed constraint.
+		String key = assumptions.stream().map(SecurityCheckAssumption::getDescription).map(Objects::toString)
+				.sorted().collect(Collectors.joining("\u0000"));
+
+		synchronized (this.constraints) {
+			var constraint = this.constraints.get(key);
+			if (constraint != null) {
+				this.hits.increment();
+				return constraint;
+			}
+		}
+
+		this.misses.increment();
+		var constraint = parse(assumptions);
+		synchronized (this.constraints) {
+			this.constraints.put(key, constraint);
+		}
+		return constraint;
+	}
+
+	/**
+	 * Gets the number of cache hits.
+	 *
+	 * @return The number of constraints served from the cache.
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Gets the number of cache misses.
+	 *
+	 * @return The number of constraints that required parsing.
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Gets the number of evicted constraints.
+	 *
+	 * @return The number of constraints evicted due to the cache bound.
+	 */
+	public long getEvictions() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Parses the constraint declared by the specified assumptions. Every line of
+	 * the form <code>DataConstraints: A, B</code> or
+	 * <code>NodeConstraints: C</code> adds literals, any single one of which
+	 * violates the constraint.
+	 *
+	 * @param assumptions The {@link SecurityCheckAssumption}s declaring the
+	 *                    constraint.
+	 * @return The parsed {@link Constraint}.
+	 */
+	public static Constraint parse(Collection<SecurityCheckAssumption> assumptions) {
+		var dataConstraints = new HashSet<String>();
+		var nodeConstraints = new HashSet<String>();
+
+		// Extract constraints from the individual assumption descriptions.
+		assumptions.forEach(assumption -> {
+			String assumptionDescription = assumption.getDescription();
+			if (assumptionDescription == null) {
+				return;
+			}
+
+			String[] descriptionLines = assumptionDescription.split(System.lineSeparator());
+
+			for (String descriptionLine : descriptionLines) {
+				String lineWithoutWhitespace = descriptionLine.replaceAll("\\s", "");
+				String[] lineComponents = lineWithoutWhitespace.split(":");
+
+				if (lineComponents.length == 2) {
+					String kind = lineComponents[0].toLowerCase();
+
+					if (kind.equals(DATA_CONSTRAINTS) || kind.equals(NODE_CONSTRAINTS)) {
+						HashSet<String> target = kind.equals(DATA_CONSTRAINTS) ? dataConstraints : nodeConstraints;
+
+						for (String constraint : lineComponents[1].split(",")) {
+							target.add(constraint);
+						}
+					}
+				}
+			}
+		});
+
+		return Constraint.builder().anyData(dataConstraints.toArray(String[]::new))
+				.anyNode(nodeConstraints.toArray(String[]::new)).build();
+	}
+}
@@ -0,0 +1,78 @@
+package rest;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * Writes a single JSON string value incrementally to a {@link JsonGenerator}.
+ * The value is opened on creation, every written chunk is escaped and passed
+ * through as raw content, and the value is terminated on {@link #close()}.
+ * Closing the writer does not close the generator.
+ */
+public class JsonStringWriter extends Writer {
+	/**
+	 * The generator the string value is written to.
+	 */
+	private final JsonGenerator generator;
+
+	/**
+	 * A high surrogate at the end of the last chunk, which is held back until its
+	 * low surrogate is written.
+	 */
+	private String pendingHighSurrogate = "";
+	private boolean closed = false;
+
+	/**
+	 * Creates a new {@link JsonStringWriter} and starts a string value at the
+	 * current position of the specified generator, e.g., after a field name.
+	 *
+	 * @param generator The {@link JsonGenerator} the value is written to.
+	 * @throws IOException If the value cannot be started.
+	 */
+	public JsonStringWriter(JsonGenerator generator) throws IOException {
+		this.generator = generator;
+
+		// Registers the value with the generator's context, the content follows raw.
+		this.generator.writeRawValue("\"");
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if (this.closed) {
+			throw new IOException("The JSON string value has already been closed.");
+		}
+
+		if (len == 0) {
+			return;
+		}
+
+		String chunk = this.pendingHighSurrogate + new String(cbuf, off, len);
+		if (Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))) {
+			this.pendingHighSurrogate = chunk.substring(chunk.length() - 1);
+			chunk = chunk.substring(0, chunk.length() - 1);
+		} else {
+			this.pendingHighSurrogate = "";
+		}
+
+		char[] escaped = JsonStringEncoder.getInstance().quoteAsString(chunk);
+		this.generator.writeRaw(escaped, 0, escaped.length);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		this.generator.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			char[] escaped = JsonStringEncoder.getInstance().quoteAsString(this.pendingHighSurrogate);
+			this.generator.writeRaw(escaped, 0, escaped.length);
+			this.generator.writeRaw('"');
+			this.closed = true;
+		}
+	}
+}
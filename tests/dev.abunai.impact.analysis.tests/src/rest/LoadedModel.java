@@ -0,0 +1,25 @@
+package rest;
+
+import java.util.List;
+
+import org.palladiosimulator.dataflow.confidentiality.analysis.entity.sequence.ActionSequence;
+
+import dev.abunai.impact.analysis.StandalonePCMUncertaintyImpactAnalysis;
+import dev.abunai.impact.analysis.constraint.CharacteristicMasks;
+
+/**
+ * An initialized analysis of an uploaded model together with its evaluated data
+ * flows, which can be shared by all analysis executions on the model.
+ *
+ * @param modelName          The name of the model.
+ * @param contentHash        The hash of the model files the analysis was loaded
+ *                           from.
+ * @param analysis           The initialized analysis.
+ * @param evaluatedSequences The evaluated data flows of the model.
+ * @param characteristicMasks The characteristics of all elements of the
+ *                           evaluated data flows as bit masks.
+ * @param estimatedBytes     The estimated heap usage of the loaded model.
+ */
+public record LoadedModel(String modelName, String contentHash, StandalonePCMUncertaintyImpactAnalysis analysis,
+		List<ActionSequence> evaluatedSequences, CharacteristicMasks characteristicMasks, long estimatedBytes) {
+}
@@ -0,0 +1,291 @@
+package rest;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process cache of {@link LoadedModel}s keyed by model name and content
+ * hash. Entries are evicted in least-recently-used order as soon as either the
+ * number of entries or their estimated heap usage exceeds the configured
+ * bounds. Concurrent requests for the same model share a single load.
+ */
+public class LoadedModelCache {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoadedModelCache.class);
+
+	/**
+	 * The possible states of a model in the {@link LoadedModelCache}.
+	 */
+	public enum State {
+		NOT_LOADED, LOADING, READY, FAILED
+	}
+
+	/**
+	 * The data type sent to clients that query the state of a model.
+	 */
+	public static record Status(String modelName, State state, String contentHash, Long estimatedBytes,
+			String error) {
+	}
+
+	/**
+	 * Computes the current content hash of a model by its name.
+	 */
+	private final Function<String, String> contentHashFunction;
+	/**
+	 * Loads a model by its name and content hash.
+	 */
+	private final BiFunction<String, String, LoadedModel> modelLoader;
+	/**
+	 * The maximum number of cached models.
+	 */
+	private final int maxEntries;
+	/**
+	 * The maximum estimated heap usage of all cached models.
+	 */
+	private final long maxEstimatedBytes;
+	/**
+	 * The cached models by model name in access order.
+	 */
+	private final LinkedHashMap<String, CompletableFuture<LoadedModel>> entries;
+	/**
+	 * The error of the last failed load by model name.
+	 */
+	private final Map<String, String> failures;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new {@link LoadedModelCache}.
+	 *
+	 * @param contentHashFunction The function computing the current content hash
+	 *                            of a model by its name.
+	 * @param modelLoader         The function loading a model by its name and
+	 *                            content hash.
+	 * @param maxEntries          The maximum number of cached models.
+	 * @param maxEstimatedBytes   The maximum estimated heap usage of all cached
+	 *                            models.
+	 */
+	public LoadedModelCache(Function<String, String> contentHashFunction,
+			BiFunction<String, String, LoadedModel> modelLoader, int maxEntries, long maxEstimatedBytes) {
+		this.contentHashFunction = contentHashFunction;
+		this.modelLoader = modelLoader;
+		this.maxEntries = maxEntries;
+		this.maxEstimatedBytes = maxEstimatedBytes;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+		this.failures = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Gets the loaded model with the specified name, loading it if it is not
+	 * cached or its files have changed since it was loaded.
+	 *
+	 * @param modelName The name of the model.
+	 * @return The {@link LoadedModel}.
+	 */
+	public LoadedModel get(String modelName) {
+		return this.getAsync(modelName).join();
+	}
+
+	/**
+	 * Gets a future of the loaded model with the specified name, starting to load
+	 * it if it is not cached or its files have changed since it was loaded.
+	 *
+	 * @param modelName The name of the model.
+	 * @return The {@link CompletableFuture} completed with the
+	 *         {@link LoadedModel}.
+	 */
+	public CompletableFuture<LoadedModel> getAsync(String modelName) {
+		return this.getAsync(modelName, Runnable::run);
+	}
+
+	/**
+	 * Gets a future of the loaded model with the specified name. If it is not
+	 * cached or its files have changed since it was loaded, it is loaded on the
+	 * specified {@link Executor}.
+	 *
+	 * @param modelName The name of the model.
+	 * @param executor  The {@link Executor} used to load the model.
+	 * @return The {@link CompletableFuture} completed with the
+	 *         {@link LoadedModel}.
+	 */
+	public CompletableFuture<LoadedModel> getAsync(String modelName, Executor executor) {
+		String contentHash = this.contentHashFunction.apply(modelName);
+		CompletableFuture<LoadedModel> loadedModel;
+		boolean load = false;
+
+		synchronized (this) {
+			loadedModel = this.entries.get(modelName);
+
+			if (loadedModel == null || isStale(loadedModel, contentHash)) {
+				loadedModel = new CompletableFuture<>();
+				this.entries.put(modelName, loadedModel);
+				this.misses.increment();
+				load = true;
+			} else {
+				this.hits.increment();
+			}
+		}
+
+		if (load) {
+			var future = loadedModel;
+			try {
+				executor.execute(() -> this.load(modelName, contentHash, future));
+			} catch (RejectedExecutionException e) {
+				this.fail(modelName, future, e);
+			}
+		}
+
+		return loadedModel;
+	}
+
+	/**
+	 * Removes the model with the specified name from the cache.
+	 *
+	 * @param modelName The name of the model.
+	 */
+	public synchronized void invalidate(String modelName) {
+		this.failures.remove(modelName);
+		if (this.entries.remove(modelName) != null) {
+			LOGGER.info("Invalidated cached model '" + modelName + "'.");
+		}
+	}
+
+	/**
+	 * Gets the number of cache hits.
+	 *
+	 * @return The number of requests served from the cache.
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Gets the number of cache misses.
+	 *
+	 * @return The number of requests that required loading a model.
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Gets the number of evicted models.
+	 *
+	 * @return The number of models evicted due to the cache bounds.
+	 */
+	public long getEvictions() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Gets a snapshot of the estimated heap usage of all completely loaded models.
+	 *
+	 * @return The estimated heap usage in bytes by model name.
+	 */
+	public synchronized Map<String, Long> getEstimatedBytes() {
+		Map<String, Long> estimatedBytes = new LinkedHashMap<>();
+		this.entries.forEach((modelName, loadedModel) -> {
+			if (isLoaded(loadedModel)) {
+				estimatedBytes.put(modelName, loadedModel.join().estimatedBytes());
+			}
+		});
+		return estimatedBytes;
+	}
+
+	/**
+	 * Gets the current state of the model with the specified name without loading
+	 * it.
+	 *
+	 * @param modelName The name of the model.
+	 * @return The {@link Status} of the model.
+	 */
+	public synchronized Status getStatus(String modelName) {
+		// Direct lookup without touching the access order.
+		CompletableFuture<LoadedModel> loadedModel = null;
+		for (var entry : this.entries.entrySet()) {
+			if (entry.getKey().equals(modelName)) {
+				loadedModel = entry.getValue();
+				break;
+			}
+		}
+
+		if (loadedModel == null) {
+			String error = this.failures.get(modelName);
+			return new Status(modelName, error == null ? State.NOT_LOADED : State.FAILED, null, null, error);
+		} else if (!loadedModel.isDone()) {
+			return new Status(modelName, State.LOADING, null, null, null);
+		} else {
+			var model = loadedModel.join();
+			return new Status(modelName, State.READY, model.contentHash(), model.estimatedBytes(), null);
+		}
+	}
+
+	private void load(String modelName, String contentHash, CompletableFuture<LoadedModel> loadedModel) {
+		try {
+			loadedModel.complete(this.modelLoader.apply(modelName, contentHash));
+			this.failures.remove(modelName);
+			this.evict(modelName);
+			LOGGER.info("Loaded model '" + modelName + "'.");
+		} catch (RuntimeException e) {
+			this.fail(modelName, loadedModel, e);
+		}
+	}
+
+	private void fail(String modelName, CompletableFuture<LoadedModel> loadedModel, RuntimeException e) {
+		LOGGER.error("Unable to load model '" + modelName + "'.", e);
+		synchronized (this) {
+			this.entries.remove(modelName, loadedModel);
+		}
+		this.failures.put(modelName, e.toString());
+		loadedModel.completeExceptionally(e);
+	}
+
+	private synchronized void evict(String loadedModelName) {
+		long estimatedBytes = 0;
+		for (var loadedModel : this.entries.values()) {
+			if (isLoaded(loadedModel)) {
+				estimatedBytes += loadedModel.join().estimatedBytes();
+			}
+		}
+
+		// Iteration order is least-recently-used first, models still loading and the
+		// model that was just loaded are never evicted.
+		Iterator<Map.Entry<String, CompletableFuture<LoadedModel>>> iterator = this.entries.entrySet().iterator();
+		while (iterator.hasNext()
+				&& (this.entries.size() > this.maxEntries || estimatedBytes > this.maxEstimatedBytes)) {
+			var entry = iterator.next();
+
+			if (!entry.getKey().equals(loadedModelName) && isLoaded(entry.getValue())) {
+				estimatedBytes -= entry.getValue().join().estimatedBytes();
+				iterator.remove();
+				this.evictions.increment();
+				LOGGER.info("Evicted cached model '" + entry.getKey() + "'.");
+			}
+		}
+	}
+
+	private static boolean isLoaded(CompletableFuture<LoadedModel> loadedModel) {
+		return loadedModel.isDone() && !loadedModel.isCompletedExceptionally();
+	}
+
+	private static boolean isStale(CompletableFuture<LoadedModel> loadedModel, String contentHash) {
+		try {
+			return isLoaded(loadedModel) && !loadedModel.join().contentHash().equals(contentHash);
+		} catch (CompletionException e) {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Stores uploaded model files and keeps track of their content hashes. Files
+ * are only replaced if their content changed, and the hash of every file is
+ * computed at most once per modification, so that repeated uploads and
+ * fingerprint queries do not read unchanged files again.
+ */
+public class ModelFileStore {
+	/**
+	 * The content hash of a file together with the attributes it was computed
+	 * for.
+	 */
+	private static record FileHash(long size, FileTime lastModified, String hash) {
+	}
+
+	/**
+	 * The known content hashes by absolute file path.
+	 */
+	private final Map<Path, FileHash> fileHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * Stores the content of the specified stream at the target path if it differs
+	 * from the current content of the target. The content is hashed while it is
+	 * streamed to a temporary file next to the target, so the upload is read only
+	 * once.
+	 *
+	 * @param inputStream The {@link InputStream} providing the new content.
+	 * @param target      The {@link Path} of the target file.
+	 * @return <code>true</code> if the target was created or replaced or
+	 *         <code>false</code> if its content was already identical.
+	 * @throws IOException If the content cannot be stored.
+	 */
+	public boolean store(InputStream inputStream, Path target) throws IOException {
+		target = target.toAbsolutePath();
+		Path temporaryFile = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".upload");
+
+		try {
+			MessageDigest digest = createDigest();
+			try (OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(temporaryFile), digest)) {
+				inputStream.transferTo(outputStream);
+			}
+			String hash = HexFormat.of().formatHex(digest.digest());
+
+			if (Files.isRegularFile(target) && hash.equals(this.getFileHash(target))) {
+				return false;
+			}
+
+			Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			this.fileHashes.put(target, new FileHash(Files.size(target), Files.getLastModifiedTime(target), hash));
+			return true;
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Gets the content hash of the specified file, which is only computed if the
+	 * file was modified since its hash was last computed.
+	 *
+	 * @param file The {@link Path} of the file.
+	 * @return The hex encoded SHA-256 hash of the file content.
+	 * @throws IOException If the file cannot be read.
+	 */
+	public String getFileHash(Path file) throws IOException {
+		file = file.toAbsolutePath();
+		long size = Files.size(file);
+		FileTime lastModified = Files.getLastModifiedTime(file);
+
+		var fileHash = this.fileHashes.get(file);
+		if (fileHash != null && fileHash.size() == size && fileHash.lastModified().equals(lastModified)) {
+			return fileHash.hash();
+		}
+
+		MessageDigest digest = createDigest();
+		try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+			inputStream.transferTo(OutputStream.nullOutputStream());
+		}
+
+		String hash = HexFormat.of().formatHex(digest.digest());
+		this.fileHashes.put(file, new FileHash(size, lastModified, hash));
+		return hash;
+	}
+
+	/**
+	 * Computes the fingerprint of a model, i.e., a hash over the names and
+	 * content hashes of all files in the specified model folder.
+	 *
+	 * @param modelFolder The folder containing the model files.
+	 * @return The hex encoded SHA-256 fingerprint of the model.
+	 * @throws UncheckedIOException If the model files cannot be read.
+	 */
+	public String getFingerprint(Path modelFolder) {
+		MessageDigest digest = createDigest();
+
+		try (Stream<Path> files = Files.list(modelFolder)) {
+			// Temporary files of concurrent uploads are not part of the model.
+			List<Path> sortedFiles = files.filter(Files::isRegularFile)
+					.filter(it -> !it.getFileName().toString().endsWith(".upload")).sorted().toList();
+
+			for (Path file : sortedFiles) {
+				digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+				digest.update(this.getFileHash(file).getBytes(StandardCharsets.UTF_8));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Creates a new SHA-256 {@link MessageDigest}.
+	 *
+	 * @return The created {@link MessageDigest}.
+	 */
+	public static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by the running JVM.", e);
+		}
+	}
+}
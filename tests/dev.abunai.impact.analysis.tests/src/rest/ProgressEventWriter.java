@@ -0,0 +1,73 @@
+package rest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import rest.AbunaiAdapter.Progress;
+
+/**
+ * Writes the {@link Progress} of an analysis execution as server-sent events.
+ * Progress of a stage is sent at most once per percent to keep the event
+ * stream small for models with many data flows.
+ */
+public class ProgressEventWriter implements Consumer<Progress> {
+	/**
+	 * The stream the events are written to.
+	 */
+	private final OutputStream outputStream;
+	/**
+	 * The mapper used to serialize the event data.
+	 */
+	private final ObjectMapper objectMapper;
+
+	private String lastStage = null;
+	private int lastPercent = -1;
+
+	/**
+	 * Creates a new {@link ProgressEventWriter}.
+	 *
+	 * @param outputStream The {@link OutputStream} the events are written to.
+	 * @param objectMapper The {@link ObjectMapper} used to serialize the event
+	 *                     data.
+	 */
+	public ProgressEventWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+		this.outputStream = outputStream;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void accept(Progress progress) {
+		int percent = progress.total() == 0 ? 100 : (int) (100L * progress.completed() / progress.total());
+
+		if (progress.stage().equals(this.lastStage) && percent == this.lastPercent) {
+			return;
+		}
+
+		this.lastStage = progress.stage();
+		this.lastPercent = percent;
+
+		try {
+			writeEvent(this.outputStream, "progress", this.objectMapper.writeValueAsString(progress));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Writes a single server-sent event and flushes it to the client.
+	 *
+	 * @param outputStream The {@link OutputStream} the event is written to.
+	 * @param event        The name of the event.
+	 * @param data         The single-line data of the event.
+	 * @throws IOException If the event cannot be written.
+	 */
+	public static void writeEvent(OutputStream outputStream, String event, String data) throws IOException {
+		outputStream.write(("event: " + event + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+		outputStream.flush();
+	}
+}
@@ -1,6 +1,7 @@
 package rest.general;
 
 import java.util.Collection;
+import java.util.List;
 
 import rest.entities.SecurityCheckAssumption;
 
@@ -22,6 +23,33 @@ public abstract class RestConnector {
 	public static record AnalysisOutput(String outputLog, Collection<SecurityCheckAssumption> assumptions) {
 	}
 
+	/**
+	 * A named set of assumptions that is analyzed independently of other groups.
+	 */
+	public static record AssumptionGroup(String name, Collection<SecurityCheckAssumption> assumptions) {
+	}
+
+	/**
+	 * The data type sent from Assumption Analyzer to analyze several
+	 * {@link AssumptionGroup}s on the same model at once.
+	 */
+	public static record BatchAnalysisParameter(String modelPath, List<AssumptionGroup> groups) {
+	}
+
+	/**
+	 * The result of a single {@link AssumptionGroup} of a batch analysis.
+	 */
+	public static record AssumptionGroupOutput(String name, String outputLog,
+			Collection<SecurityCheckAssumption> assumptions) {
+	}
+
+	/**
+	 * The data type sent to Assumption Analyzer after a batch analysis, containing
+	 * one output per {@link AssumptionGroup} in request order.
+	 */
+	public static record BatchAnalysisOutput(List<AssumptionGroupOutput> groups) {
+	}
+
 	/**
 	 * Initializes the three end points used by Assumption Analyzer.
 	 */